@@ -0,0 +1,55 @@
+package ru.redeyed.cloudstorage.common.util;
+
+import ru.redeyed.cloudstorage.resource.ResourcePathUtil;
+import java.util.Random;
+import java.util.UUID;
+
+public record BenchmarkPaths(UUID userId, String[] keys, String[] relativePaths, String[] directoryNames) {
+
+    public static final int SIZE = 1024;
+
+    private static final long SEED = 42;
+
+    private static final double DIRECTORY_RATIO = 0.2;
+
+    private static final String[] DIRECTORY_NAMES = {
+            "documents", "photos", "2024", "projects", "cloud-storage", "src", "main", "java", "backup",
+            "Отпуск на море", "My Shared Folder", "node_modules", "reports (final)", "a"
+    };
+
+    private static final String[] FILE_NAMES = {
+            "README.md", "IMG_20240817_141503.jpg", "report-q3.pdf", "index.html", "Main.java", "data.tar.gz",
+            "Договор аренды.docx", "notes", "screenshot 2024-05-01 at 10.15.22.png", ".gitignore"
+    };
+
+    public static BenchmarkPaths generate(int maxDepth) {
+        var random = new Random(SEED);
+        var userId = new UUID(random.nextLong(), random.nextLong());
+        var userFolder = ResourcePathUtil.createUserResourcePath(userId);
+
+        var keys = new String[SIZE];
+        var relativePaths = new String[SIZE];
+        var directoryNames = new String[SIZE];
+
+        for (var index = 0; index < SIZE; index++) {
+            var depth = 1 + random.nextInt(Math.max(maxDepth, 1));
+            var path = new StringBuilder();
+
+            for (var level = 0; level < depth; level++) {
+                path.append(DIRECTORY_NAMES[random.nextInt(DIRECTORY_NAMES.length)]).append(PathUtil.PATH_DELIMITER);
+            }
+
+            if (random.nextDouble() >= DIRECTORY_RATIO) {
+                path.append(FILE_NAMES[random.nextInt(FILE_NAMES.length)]);
+            }
+
+            var relativePath = path.toString();
+
+            relativePaths[index] = relativePath;
+            keys[index] = userFolder + relativePath;
+            directoryNames[index] = relativePath.substring(0, relativePath.indexOf(PathUtil.PATH_DELIMITER));
+        }
+
+        return new BenchmarkPaths(userId, keys, relativePaths, directoryNames);
+    }
+}
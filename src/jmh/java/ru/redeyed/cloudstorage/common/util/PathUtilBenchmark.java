@@ -0,0 +1,55 @@
+package ru.redeyed.cloudstorage.common.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PathUtilBenchmark {
+
+    @Param({"2", "6", "12"})
+    private int maxDepth;
+
+    private BenchmarkPaths paths;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        paths = BenchmarkPaths.generate(maxDepth);
+    }
+
+    @Benchmark
+    public String extractResourceName() {
+        return PathUtil.extractResourceName(paths.keys()[nextIndex()]);
+    }
+
+    @Benchmark
+    public String removeResourceName() {
+        return PathUtil.removeResourceName(paths.keys()[nextIndex()]);
+    }
+
+    @Benchmark
+    public String extractPathFromDirectory() {
+        var pathIndex = nextIndex();
+        return PathUtil.extractPathFromDirectory(paths.directoryNames()[pathIndex], paths.keys()[pathIndex]);
+    }
+
+    private int nextIndex() {
+        return index++ & (BenchmarkPaths.SIZE - 1);
+    }
+}
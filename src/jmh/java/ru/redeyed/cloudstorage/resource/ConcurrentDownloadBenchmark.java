@@ -0,0 +1,168 @@
+package ru.redeyed.cloudstorage.resource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures how many concurrent file downloads a running application instance sustains.
+ * Run it once against an instance started with {@code VIRTUAL_THREADS_ENABLED=false} and once
+ * with {@code VIRTUAL_THREADS_ENABLED=true} to compare both execution models. The instance URL
+ * is read from the {@code load.url} system property and the client concurrency is set with
+ * the JMH {@code -t} option.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 3, time = 10)
+@Threads(256)
+@Fork(1)
+public class ConcurrentDownloadBenchmark {
+
+    private static final String USERNAME = "loadtest";
+    private static final String PASSWORD = "loadtest";
+
+    private static final String CREDENTIALS_FORMAT = "{\"username\":\"%s\",\"password\":\"%s\"}";
+
+    private static final String DIRECTORY_PATH = "load-test/";
+    private static final String FILE_NAME_FORMAT = "download-%d.bin";
+
+    private static final String BOUNDARY = "load-test-boundary";
+
+    private static final String MULTIPART_HEADER_FORMAT = "--" + BOUNDARY + "\r\n"
+            + "Content-Disposition: form-data; name=\"files\"; filename=\"%s\"\r\n"
+            + "Content-Type: application/octet-stream\r\n\r\n";
+
+    private static final String MULTIPART_FOOTER = "\r\n--" + BOUNDARY + "--\r\n";
+
+    private static final int CONFLICT_STATUS = 409;
+
+    @Param({"1048576", "16777216"})
+    private int objectSize;
+
+    private ExecutorService executor;
+
+    private HttpClient httpClient;
+
+    private HttpRequest downloadRequest;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException, InterruptedException {
+        var baseUrl = System.getProperty("load.url", "http://localhost:8081");
+
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .cookieHandler(new CookieManager())
+                .executor(executor)
+                .build();
+
+        authenticate(baseUrl);
+
+        var fileName = FILE_NAME_FORMAT.formatted(objectSize);
+
+        upload(baseUrl, fileName);
+
+        downloadRequest = HttpRequest.newBuilder(URI.create(
+                baseUrl + "/api/resource/download?path=" + encode(DIRECTORY_PATH + fileName)
+        )).GET().build();
+    }
+
+    private void authenticate(String baseUrl) throws IOException, InterruptedException {
+        var credentials = CREDENTIALS_FORMAT.formatted(USERNAME, PASSWORD);
+
+        var signUpResponse = send(jsonRequest(baseUrl + "/api/auth/sign-up", credentials));
+
+        if (signUpResponse.statusCode() == CONFLICT_STATUS) {
+            expectSuccess(send(jsonRequest(baseUrl + "/api/auth/sign-in", credentials)));
+        } else {
+            expectSuccess(signUpResponse);
+        }
+    }
+
+    private void upload(String baseUrl, String fileName) throws IOException, InterruptedException {
+        var content = new byte[objectSize];
+        ThreadLocalRandom.current().nextBytes(content);
+
+        var body = new ByteArrayOutputStream(objectSize + 512);
+        body.write(MULTIPART_HEADER_FORMAT.formatted(fileName).getBytes(StandardCharsets.UTF_8));
+        body.write(content);
+        body.write(MULTIPART_FOOTER.getBytes(StandardCharsets.UTF_8));
+
+        var request = HttpRequest.newBuilder(URI.create(baseUrl + "/api/resource?path=" + encode(DIRECTORY_PATH)))
+                .header("Content-Type", "multipart/form-data; boundary=" + BOUNDARY)
+                .POST(HttpRequest.BodyPublishers.ofByteArray(body.toByteArray()))
+                .build();
+
+        var response = send(request);
+
+        if (response.statusCode() != CONFLICT_STATUS) {
+            expectSuccess(response);
+        }
+    }
+
+    private static HttpRequest jsonRequest(String url, String body) {
+        return HttpRequest.newBuilder(URI.create(url))
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static void expectSuccess(HttpResponse<?> response) {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException(
+                    "Unexpected status " + response.statusCode() + " of " + response.request().uri()
+            );
+        }
+    }
+
+    private static String encode(String value) {
+        return URLEncoder.encode(value, StandardCharsets.UTF_8);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    public long download() throws IOException, InterruptedException {
+        var response = httpClient.send(downloadRequest, HttpResponse.BodyHandlers.ofInputStream());
+
+        try (var body = response.body()) {
+            expectSuccess(response);
+            return body.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+}
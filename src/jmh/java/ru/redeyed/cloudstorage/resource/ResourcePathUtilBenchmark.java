@@ -0,0 +1,55 @@
+package ru.redeyed.cloudstorage.resource;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import ru.redeyed.cloudstorage.common.util.BenchmarkPaths;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResourcePathUtilBenchmark {
+
+    @Param({"2", "6", "12"})
+    private int maxDepth;
+
+    private BenchmarkPaths paths;
+
+    private int index;
+
+    @Setup
+    public void setUp() {
+        paths = BenchmarkPaths.generate(maxDepth);
+    }
+
+    @Benchmark
+    public String removeUserFolder() {
+        return ResourcePathUtil.removeUserFolder(paths.keys()[nextIndex()]);
+    }
+
+    @Benchmark
+    public String extractResourcePath() {
+        return ResourcePathUtil.extractResourcePath(paths.keys()[nextIndex()]);
+    }
+
+    @Benchmark
+    public String createUserResourcePath() {
+        return ResourcePathUtil.createUserResourcePath(paths.userId(), paths.relativePaths()[nextIndex()]);
+    }
+
+    private int nextIndex() {
+        return index++ & (BenchmarkPaths.SIZE - 1);
+    }
+}
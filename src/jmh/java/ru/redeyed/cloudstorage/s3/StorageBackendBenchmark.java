@@ -0,0 +1,204 @@
+package ru.redeyed.cloudstorage.s3;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.util.unit.DataSize;
+import ru.redeyed.cloudstorage.common.concurrent.ExecutorFactory;
+import ru.redeyed.cloudstorage.s3.archive.ArchiveConfigProperties;
+import ru.redeyed.cloudstorage.s3.archive.PrefetchingZipWriter;
+import ru.redeyed.cloudstorage.s3.local.LocalFileSystemStorageService;
+import ru.redeyed.cloudstorage.s3.local.LocalStorageConfigProperties;
+import ru.redeyed.cloudstorage.s3.memory.InMemoryStorageConfigProperties;
+import ru.redeyed.cloudstorage.s3.memory.InMemoryStorageService;
+import ru.redeyed.cloudstorage.s3.minio.MinioDirectoryMover;
+import ru.redeyed.cloudstorage.s3.minio.MinioInitializer;
+import ru.redeyed.cloudstorage.s3.minio.MinioMultipartUploader;
+import ru.redeyed.cloudstorage.s3.minio.MinioObjectMapperImpl;
+import ru.redeyed.cloudstorage.s3.minio.MinioStorageService;
+import ru.redeyed.cloudstorage.s3.move.MoveConfigProperties;
+import ru.redeyed.cloudstorage.s3.upload.UploadConfigProperties;
+import ru.redeyed.cloudstorage.s3.upload.UploadExecutor;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares object throughput of the in-memory, local filesystem and MinIO backends.
+ * The {@code minio} backend expects a running server, see {@code docker/compose.yaml};
+ * the endpoint and credentials are read from the {@code minio.url}, {@code minio.access-key}
+ * and {@code minio.secret-key} system properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class StorageBackendBenchmark {
+
+    private static final String BENCHMARK_DIRECTORY = "benchmark-user-files/";
+    private static final String UPLOAD_PATH = BENCHMARK_DIRECTORY + "upload.bin";
+    private static final String DOWNLOAD_PATH = BENCHMARK_DIRECTORY + "download.bin";
+    private static final String MOVE_SOURCE_PATH = BENCHMARK_DIRECTORY + "move-source.bin";
+    private static final String MOVE_TARGET_PATH = BENCHMARK_DIRECTORY + "move-target.bin";
+
+    @Param({"memory", "filesystem", "minio"})
+    private String backend;
+
+    @Param({"4096", "1048576", "67108864"})
+    private int objectSize;
+
+    private byte[] content;
+
+    private ExecutorFactory executorFactory;
+
+    private UploadConfigProperties uploadConfigProperties;
+
+    private UploadExecutor uploadExecutor;
+
+    private PrefetchingZipWriter prefetchingZipWriter;
+
+    private MinioDirectoryMover minioDirectoryMover;
+
+    private Path rootDirectory;
+
+    private SimpleStorageService storageService;
+
+    private boolean moved;
+
+    @Setup(Level.Trial)
+    public void setUp() throws IOException {
+        content = new byte[objectSize];
+        ThreadLocalRandom.current().nextBytes(content);
+
+        var meterRegistry = new SimpleMeterRegistry();
+
+        executorFactory = new ExecutorFactory(true);
+
+        uploadConfigProperties = new UploadConfigProperties(64, 8, Duration.ofHours(1),
+                new UploadConfigProperties.MultipartProperties(
+                        true, DataSize.ofMegabytes(64), DataSize.ofMegabytes(16), 4, DataSize.ofMegabytes(512)
+                )
+        );
+
+        uploadExecutor = new UploadExecutor(uploadConfigProperties, executorFactory, meterRegistry);
+
+        prefetchingZipWriter = new PrefetchingZipWriter(new ArchiveConfigProperties(
+                16, 64, DataSize.ofMegabytes(64), DataSize.ofMegabytes(8)
+        ), executorFactory);
+
+        storageService = switch (backend) {
+            case "memory" -> new InMemoryStorageService(
+                    new InMemoryStorageConfigProperties(Duration.ZERO), prefetchingZipWriter
+            );
+            case "filesystem" -> createLocalFileSystemStorageService();
+            case "minio" -> createMinioStorageService(meterRegistry);
+            default -> throw new IllegalArgumentException("Unknown backend: " + backend);
+        };
+
+        storageService.uploadFile(BucketName.USER_FILES, DOWNLOAD_PATH, new ByteArrayInputStream(content));
+        storageService.uploadFile(BucketName.USER_FILES, MOVE_SOURCE_PATH, new ByteArrayInputStream(content));
+    }
+
+    private SimpleStorageService createLocalFileSystemStorageService() throws IOException {
+        rootDirectory = Files.createTempDirectory("storage-benchmark");
+
+        var localFileSystemStorageService = new LocalFileSystemStorageService(
+                new LocalStorageConfigProperties(rootDirectory), uploadExecutor, prefetchingZipWriter
+        );
+
+        localFileSystemStorageService.init();
+
+        return localFileSystemStorageService;
+    }
+
+    private SimpleStorageService createMinioStorageService(SimpleMeterRegistry meterRegistry) {
+        var minioUrl = System.getProperty("minio.url", "http://localhost:9000");
+        var minioAccessKey = System.getProperty("minio.access-key", "user");
+        var minioSecretKey = System.getProperty("minio.secret-key", "password");
+
+        var minioClient = MinioClient.builder()
+                .endpoint(minioUrl)
+                .credentials(minioAccessKey, minioSecretKey)
+                .build();
+
+        new MinioInitializer(minioClient).init();
+
+        minioDirectoryMover = new MinioDirectoryMover(
+                minioClient, new MoveConfigProperties(32, 1000), executorFactory
+        );
+
+        var minioAsyncClient = MinioAsyncClient.builder()
+                .endpoint(minioUrl)
+                .credentials(minioAccessKey, minioSecretKey)
+                .build();
+
+        var minioMultipartUploader = new MinioMultipartUploader(
+                minioClient, minioAsyncClient, uploadConfigProperties
+        );
+
+        return new MinioStorageService(
+                minioClient, new MinioObjectMapperImpl(), meterRegistry, uploadExecutor, prefetchingZipWriter,
+                minioDirectoryMover, minioMultipartUploader
+        );
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        storageService.removeDirectory(BucketName.USER_FILES, BENCHMARK_DIRECTORY);
+
+        uploadExecutor.shutdown();
+        prefetchingZipWriter.shutdown();
+
+        if (minioDirectoryMover != null) {
+            minioDirectoryMover.shutdown();
+        }
+
+        if (rootDirectory != null) {
+            FileSystemUtils.deleteRecursively(rootDirectory);
+        }
+    }
+
+    @Benchmark
+    public StorageObjectInfo upload() {
+        return storageService.uploadFile(BucketName.USER_FILES, UPLOAD_PATH, new ByteArrayInputStream(content));
+    }
+
+    @Benchmark
+    public long download() throws IOException {
+        try (var inputStream = storageService.downloadFile(BucketName.USER_FILES, DOWNLOAD_PATH)) {
+            return inputStream.transferTo(OutputStream.nullOutputStream());
+        }
+    }
+
+    @Benchmark
+    public void move() {
+        if (moved) {
+            storageService.moveFile(BucketName.USER_FILES, MOVE_TARGET_PATH, MOVE_SOURCE_PATH);
+        } else {
+            storageService.moveFile(BucketName.USER_FILES, MOVE_SOURCE_PATH, MOVE_TARGET_PATH);
+        }
+
+        moved = !moved;
+    }
+}
@@ -0,0 +1,119 @@
+package ru.redeyed.cloudstorage.s3.minio;
+
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.util.unit.DataSize;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.upload.UploadConfigProperties;
+import java.io.ByteArrayInputStream;
+import java.time.Duration;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares large object upload time of the sequential {@code putObject} stream and the parallel
+ * multipart upload across part sizes and part concurrency. Expects a running MinIO server, see
+ * {@code docker/compose.yaml}; the endpoint and credentials are read from the {@code minio.url},
+ * {@code minio.access-key} and {@code minio.secret-key} system properties.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class MultipartUploadBenchmark {
+
+    private static final String OBJECT_PATH = "benchmark-user-files/multipart.bin";
+
+    private static final long STREAM_PART_SIZE = 10L * 1024 * 1024;
+
+    @Param({"268435456"})
+    private int objectSize;
+
+    @Param({"5", "16", "64"})
+    private int partSizeMegabytes;
+
+    @Param({"1", "4", "8"})
+    private int concurrency;
+
+    private byte[] content;
+
+    private MinioClient minioClient;
+
+    private MinioMultipartUploader minioMultipartUploader;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        content = new byte[objectSize];
+        ThreadLocalRandom.current().nextBytes(content);
+
+        var minioUrl = System.getProperty("minio.url", "http://localhost:9000");
+        var minioAccessKey = System.getProperty("minio.access-key", "user");
+        var minioSecretKey = System.getProperty("minio.secret-key", "password");
+
+        minioClient = MinioClient.builder()
+                .endpoint(minioUrl)
+                .credentials(minioAccessKey, minioSecretKey)
+                .build();
+
+        var minioAsyncClient = MinioAsyncClient.builder()
+                .endpoint(minioUrl)
+                .credentials(minioAccessKey, minioSecretKey)
+                .build();
+
+        new MinioInitializer(minioClient).init();
+
+        var uploadConfigProperties = new UploadConfigProperties(64, 8, Duration.ofHours(1),
+                new UploadConfigProperties.MultipartProperties(
+                        true,
+                        DataSize.ofBytes(0),
+                        DataSize.ofMegabytes(partSizeMegabytes),
+                        concurrency,
+                        DataSize.ofMegabytes((long) partSizeMegabytes * (concurrency + 1))
+                )
+        );
+
+        minioMultipartUploader = new MinioMultipartUploader(minioClient, minioAsyncClient, uploadConfigProperties);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws Exception {
+        minioClient.removeObject(RemoveObjectArgs.builder()
+                .bucket(BucketName.USER_FILES.getValue())
+                .object(OBJECT_PATH)
+                .build()
+        );
+    }
+
+    @Benchmark
+    public ObjectWriteResponse putObject() throws Exception {
+        return minioClient.putObject(PutObjectArgs.builder()
+                .bucket(BucketName.USER_FILES.getValue())
+                .object(OBJECT_PATH)
+                .stream(new ByteArrayInputStream(content), -1, STREAM_PART_SIZE)
+                .build()
+        );
+    }
+
+    @Benchmark
+    public ObjectWriteResponse multipartUpload() throws Exception {
+        return minioMultipartUploader.upload(BucketName.USER_FILES, OBJECT_PATH, new ByteArrayInputStream(content));
+    }
+}
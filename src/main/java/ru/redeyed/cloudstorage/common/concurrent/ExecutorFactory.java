@@ -0,0 +1,58 @@
+package ru.redeyed.cloudstorage.common.concurrent;
+
+import lombok.Getter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+@Component
+public class ExecutorFactory {
+
+    private static final String THREAD_NAME_SUFFIX = "-";
+
+    private static final Duration IDLE_THREAD_KEEP_ALIVE = Duration.ofMinutes(1);
+
+    @Getter
+    private final boolean virtualThreads;
+
+    public ExecutorFactory(@Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.virtualThreads = virtualThreads;
+    }
+
+    public ExecutorService newTaskExecutor(String name, int maxThreads) {
+        var threadFactory = createThreadFactory(name);
+
+        if (virtualThreads) {
+            return Executors.newThreadPerTaskExecutor(threadFactory);
+        }
+
+        var threadsCount = Math.max(maxThreads, 1);
+
+        var executor = new ThreadPoolExecutor(
+                threadsCount, threadsCount, IDLE_THREAD_KEEP_ALIVE.toMillis(), TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(), threadFactory
+        );
+
+        executor.allowCoreThreadTimeOut(true);
+
+        return executor;
+    }
+
+    public ExecutorService newFixedExecutor(String name, int threadsCount) {
+        return Executors.newFixedThreadPool(threadsCount, createThreadFactory(name));
+    }
+
+    private ThreadFactory createThreadFactory(String name) {
+        var threadNamePrefix = name + THREAD_NAME_SUFFIX;
+
+        return virtualThreads
+                ? Thread.ofVirtual().name(threadNamePrefix, 0).factory()
+                : Thread.ofPlatform().name(threadNamePrefix, 0).daemon().factory();
+    }
+}
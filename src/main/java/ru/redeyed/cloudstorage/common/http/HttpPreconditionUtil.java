@@ -0,0 +1,87 @@
+package ru.redeyed.cloudstorage.common.http;
+
+import lombok.experimental.UtilityClass;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import java.util.List;
+import java.util.Optional;
+
+@UtilityClass
+public class HttpPreconditionUtil {
+
+    public static final String BYTES_RANGE_UNIT = "bytes";
+
+    private static final String ANY_ENTITY_TAG = "*";
+    private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+    private static final String QUOTE = "\"";
+
+    private static final String CONTENT_RANGE_FORMAT = BYTES_RANGE_UNIT + " %d-%d/%d";
+    private static final String UNSATISFIED_CONTENT_RANGE_FORMAT = BYTES_RANGE_UNIT + " */%d";
+
+    public static String toEntityTag(String etag) {
+        if (etag == null || etag.isEmpty()) {
+            return null;
+        }
+
+        return QUOTE + etag.replace(QUOTE, "") + QUOTE;
+    }
+
+    public static boolean noneMatchFails(List<String> ifNoneMatch, String entityTag) {
+        for (var candidate : ifNoneMatch) {
+            if (candidate.equals(ANY_ENTITY_TAG) || removeWeakPrefix(candidate).equals(entityTag)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    public static Optional<HttpRange> resolveRange(HttpHeaders requestHeaders, String entityTag) {
+        var rangeHeader = requestHeaders.getFirst(HttpHeaders.RANGE);
+
+        if (rangeHeader == null) {
+            return Optional.empty();
+        }
+
+        var ifRange = requestHeaders.getFirst(HttpHeaders.IF_RANGE);
+
+        if (ifRange != null && (entityTag == null || !ifRange.equals(entityTag))) {
+            return Optional.empty();
+        }
+
+        try {
+            var ranges = HttpRange.parseRanges(rangeHeader);
+
+            return ranges.size() == 1
+                    ? Optional.of(ranges.getFirst())
+                    : Optional.empty();
+
+        } catch (IllegalArgumentException exception) {
+            return Optional.empty();
+        }
+    }
+
+    public static boolean isSatisfiable(HttpRange range, long size) {
+        try {
+            range.getRangeStart(size);
+            range.getRangeEnd(size);
+            return size > 0;
+        } catch (IllegalArgumentException exception) {
+            return false;
+        }
+    }
+
+    public static String toContentRange(long start, long end, long size) {
+        return CONTENT_RANGE_FORMAT.formatted(start, end, size);
+    }
+
+    public static String toUnsatisfiedContentRange(long size) {
+        return UNSATISFIED_CONTENT_RANGE_FORMAT.formatted(size);
+    }
+
+    private static String removeWeakPrefix(String entityTag) {
+        return entityTag.startsWith(WEAK_ENTITY_TAG_PREFIX)
+                ? entityTag.substring(WEAK_ENTITY_TAG_PREFIX.length())
+                : entityTag;
+    }
+}
@@ -0,0 +1,26 @@
+package ru.redeyed.cloudstorage.common.http;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.multipart.MultipartResolver;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import java.util.List;
+import java.util.Set;
+
+@Configuration
+public class HttpWebConfig implements WebMvcConfigurer {
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new QueryParameterArgumentResolver());
+    }
+
+    @Bean
+    public MultipartResolver multipartResolver(
+            @Value("${multipart-lazy-resolution-paths}") Set<String> lazyResolutionPaths) {
+
+        return new PathAwareMultipartResolver(lazyResolutionPaths);
+    }
+}
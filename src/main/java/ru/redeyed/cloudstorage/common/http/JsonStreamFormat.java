@@ -0,0 +1,43 @@
+package ru.redeyed.cloudstorage.common.http;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.util.MimeTypeUtils;
+
+@RequiredArgsConstructor
+@Getter
+public enum JsonStreamFormat {
+
+    ARRAY(MediaType.APPLICATION_JSON),
+    NDJSON(MediaType.APPLICATION_NDJSON);
+
+    private final MediaType mediaType;
+
+    public static JsonStreamFormat fromAcceptHeader(String accept) {
+        if (accept == null) {
+            return ARRAY;
+        }
+
+        try {
+            var mediaTypes = MediaType.parseMediaTypes(accept);
+
+            MimeTypeUtils.sortBySpecificity(mediaTypes);
+
+            for (var mediaType : mediaTypes) {
+                if (mediaType.isCompatibleWith(NDJSON.mediaType) && !mediaType.isWildcardSubtype()) {
+                    return NDJSON;
+                }
+
+                if (mediaType.isCompatibleWith(ARRAY.mediaType)) {
+                    return ARRAY;
+                }
+            }
+        } catch (InvalidMediaTypeException exception) {
+            return ARRAY;
+        }
+
+        return ARRAY;
+    }
+}
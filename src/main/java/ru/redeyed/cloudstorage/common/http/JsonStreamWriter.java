@@ -0,0 +1,52 @@
+package ru.redeyed.cloudstorage.common.http;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import tools.jackson.core.StreamWriteFeature;
+import tools.jackson.databind.ObjectMapper;
+import tools.jackson.databind.ObjectWriter;
+import tools.jackson.databind.SequenceWriter;
+import tools.jackson.databind.SerializationFeature;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.Consumer;
+
+@Component
+public class JsonStreamWriter {
+
+    private static final String NDJSON_SEPARATOR = "\n";
+
+    private final ObjectWriter objectWriter;
+
+    public JsonStreamWriter(ObjectMapper objectMapper) {
+        objectWriter = objectMapper.writer()
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE)
+                .without(StreamWriteFeature.AUTO_CLOSE_TARGET);
+    }
+
+    public <T> StreamingResponseBody write(JsonStreamFormat format, Consumer<Consumer<T>> source) {
+        return outputStream -> {
+            var writtenValuesCount = new long[1];
+
+            try (var sequenceWriter = openSequenceWriter(format, outputStream)) {
+                source.accept(value -> {
+                    sequenceWriter.write(value);
+
+                    if (writtenValuesCount[0]++ == 0) {
+                        sequenceWriter.flush();
+                    }
+                });
+            }
+
+            if (format == JsonStreamFormat.NDJSON && writtenValuesCount[0] > 0) {
+                outputStream.write(NDJSON_SEPARATOR.getBytes(StandardCharsets.UTF_8));
+            }
+        };
+    }
+
+    private SequenceWriter openSequenceWriter(JsonStreamFormat format, OutputStream outputStream) {
+        return format == JsonStreamFormat.NDJSON
+                ? objectWriter.withRootValueSeparator(NDJSON_SEPARATOR).writeValues(outputStream)
+                : objectWriter.writeValuesAsArray(outputStream);
+    }
+}
@@ -0,0 +1,52 @@
+package ru.redeyed.cloudstorage.common.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.SneakyThrows;
+import org.apache.commons.fileupload2.core.DiskFileItem;
+import org.apache.commons.fileupload2.core.DiskFileItemFactory;
+import org.apache.commons.fileupload2.core.FileUploadSizeException;
+import org.apache.commons.fileupload2.jakarta.servlet6.JakartaServletFileUpload;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.multipart.MaxUploadSizeExceededException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.function.BiConsumer;
+
+@Component
+public class MultipartStreamReader {
+
+    @Value("${spring.servlet.multipart.max-file-size}")
+    private DataSize maxFileSize;
+
+    @Value("${spring.servlet.multipart.max-request-size}")
+    private DataSize maxRequestSize;
+
+    @SneakyThrows
+    public void readFiles(HttpServletRequest request, String fieldName, BiConsumer<String, InputStream> fileConsumer) {
+        var fileUpload = new JakartaServletFileUpload<DiskFileItem, DiskFileItemFactory>();
+
+        fileUpload.setFileSizeMax(maxFileSize.toBytes());
+        fileUpload.setSizeMax(maxRequestSize.toBytes());
+        fileUpload.setHeaderCharset(StandardCharsets.UTF_8);
+
+        try {
+            var itemIterator = fileUpload.getItemIterator(request);
+
+            while (itemIterator.hasNext()) {
+                var item = itemIterator.next();
+
+                if (item.isFormField() || !fieldName.equals(item.getFieldName())) {
+                    continue;
+                }
+
+                try (var inputStream = item.getInputStream()) {
+                    fileConsumer.accept(item.getName(), inputStream);
+                }
+            }
+        } catch (FileUploadSizeException exception) {
+            throw new MaxUploadSizeExceededException(exception.getPermitted(), exception);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package ru.redeyed.cloudstorage.common.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.multipart.MultipartException;
+import org.springframework.web.multipart.MultipartHttpServletRequest;
+import org.springframework.web.multipart.support.StandardMultipartHttpServletRequest;
+import org.springframework.web.multipart.support.StandardServletMultipartResolver;
+import java.util.Set;
+
+/**
+ * Parses multipart requests eagerly, except for the configured paths whose handlers read the body as a stream.
+ */
+@RequiredArgsConstructor
+public class PathAwareMultipartResolver extends StandardServletMultipartResolver {
+
+    private final Set<String> lazyResolutionPaths;
+
+    @Override
+    public MultipartHttpServletRequest resolveMultipart(HttpServletRequest request) throws MultipartException {
+        return new StandardMultipartHttpServletRequest(request, isLazyResolutionPath(request));
+    }
+
+    private boolean isLazyResolutionPath(HttpServletRequest request) {
+        var path = request.getRequestURI().substring(request.getContextPath().length());
+
+        return lazyResolutionPaths.contains(path);
+    }
+}
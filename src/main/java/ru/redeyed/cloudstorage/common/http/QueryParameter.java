@@ -0,0 +1,20 @@
+package ru.redeyed.cloudstorage.common.http;
+
+import org.springframework.web.bind.annotation.ValueConstants;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Binds a parameter from the query string only. Unlike {@code @RequestParam}, it never makes
+ * the container parse a multipart body, so the body stays available as a raw stream.
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface QueryParameter {
+
+    String name() default "";
+
+    String defaultValue() default ValueConstants.DEFAULT_NONE;
+}
@@ -0,0 +1,55 @@
+package ru.redeyed.cloudstorage.common.http;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.core.MethodParameter;
+import org.springframework.web.bind.MissingServletRequestParameterException;
+import org.springframework.web.bind.annotation.ValueConstants;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.util.UriComponentsBuilder;
+import org.springframework.web.util.UriUtils;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+public class QueryParameterArgumentResolver implements HandlerMethodArgumentResolver {
+
+    @Override
+    public boolean supportsParameter(MethodParameter parameter) {
+        return parameter.hasParameterAnnotation(QueryParameter.class)
+                && parameter.getParameterType() == String.class;
+    }
+
+    @Override
+    public Object resolveArgument(@NonNull MethodParameter parameter, @Nullable ModelAndViewContainer mavContainer,
+                                  @NonNull NativeWebRequest webRequest, @Nullable WebDataBinderFactory binderFactory)
+            throws MissingServletRequestParameterException {
+
+        var annotation = Objects.requireNonNull(parameter.getParameterAnnotation(QueryParameter.class));
+
+        var name = annotation.name().isEmpty()
+                ? parameter.getParameterName()
+                : annotation.name();
+
+        var request = Objects.requireNonNull(webRequest.getNativeRequest(HttpServletRequest.class));
+
+        var value = UriComponentsBuilder.newInstance()
+                .query(request.getQueryString())
+                .build()
+                .getQueryParams()
+                .getFirst(name);
+
+        if (value != null) {
+            return UriUtils.decode(value.replace("+", " "), StandardCharsets.UTF_8);
+        }
+
+        if (!annotation.defaultValue().equals(ValueConstants.DEFAULT_NONE)) {
+            return annotation.defaultValue();
+        }
+
+        throw new MissingServletRequestParameterException(Objects.requireNonNull(name), String.class.getSimpleName());
+    }
+}
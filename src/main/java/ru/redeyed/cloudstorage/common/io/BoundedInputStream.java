@@ -0,0 +1,62 @@
+package ru.redeyed.cloudstorage.common.io;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class BoundedInputStream extends FilterInputStream {
+
+    private long remaining;
+
+    public BoundedInputStream(InputStream inputStream, long limit) {
+        super(inputStream);
+        this.remaining = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+
+        var value = super.read();
+
+        if (value != -1) {
+            remaining--;
+        }
+
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (remaining <= 0) {
+            return -1;
+        }
+
+        var readCount = super.read(buffer, offset, (int) Math.min(length, remaining));
+
+        if (readCount != -1) {
+            remaining -= readCount;
+        }
+
+        return readCount;
+    }
+
+    @Override
+    public long skip(long length) throws IOException {
+        var skippedCount = super.skip(Math.min(length, remaining));
+        remaining -= skippedCount;
+        return skippedCount;
+    }
+
+    @Override
+    public int available() throws IOException {
+        return (int) Math.min(super.available(), remaining);
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
@@ -0,0 +1,47 @@
+package ru.redeyed.cloudstorage.common.io;
+
+import lombok.RequiredArgsConstructor;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+
+@RequiredArgsConstructor
+public class ByteBufferInputStream extends InputStream {
+
+    private final ByteBuffer buffer;
+
+    @Override
+    public int read() {
+        return buffer.hasRemaining() ? buffer.get() & 0xFF : -1;
+    }
+
+    @Override
+    public int read(byte[] bytes, int offset, int length) {
+        if (length == 0) {
+            return 0;
+        }
+
+        if (!buffer.hasRemaining()) {
+            return -1;
+        }
+
+        var readCount = Math.min(length, buffer.remaining());
+
+        buffer.get(bytes, offset, readCount);
+
+        return readCount;
+    }
+
+    @Override
+    public long skip(long length) {
+        var skippedCount = (int) Math.min(Math.max(length, 0), buffer.remaining());
+
+        buffer.position(buffer.position() + skippedCount);
+
+        return skippedCount;
+    }
+
+    @Override
+    public int available() {
+        return buffer.remaining();
+    }
+}
@@ -0,0 +1,50 @@
+package ru.redeyed.cloudstorage.common.io;
+
+import lombok.Getter;
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+@Getter
+public class CountingInputStream extends FilterInputStream {
+
+    private long count;
+
+    public CountingInputStream(InputStream inputStream) {
+        super(inputStream);
+    }
+
+    @Override
+    public int read() throws IOException {
+        var value = super.read();
+
+        if (value != -1) {
+            count++;
+        }
+
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        var readCount = super.read(buffer, offset, length);
+
+        if (readCount != -1) {
+            count += readCount;
+        }
+
+        return readCount;
+    }
+
+    @Override
+    public long skip(long length) throws IOException {
+        var skippedCount = super.skip(length);
+        count += skippedCount;
+        return skippedCount;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+}
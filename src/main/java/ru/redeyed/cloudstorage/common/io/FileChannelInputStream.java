@@ -0,0 +1,82 @@
+package ru.redeyed.cloudstorage.common.io;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+public class FileChannelInputStream extends InputStream {
+
+    private final FileChannel fileChannel;
+
+    private final long end;
+
+    private long position;
+
+    public FileChannelInputStream(FileChannel fileChannel, long offset, long length) throws IOException {
+        this.fileChannel = fileChannel;
+        this.position = offset;
+        this.end = offset + Math.clamp(length, 0, Math.max(fileChannel.size() - offset, 0));
+    }
+
+    @Override
+    public int read() throws IOException {
+        var buffer = new byte[1];
+
+        return read(buffer, 0, 1) == -1 ? -1 : buffer[0] & 0xFF;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        if (position >= end) {
+            return -1;
+        }
+
+        var byteBuffer = ByteBuffer.wrap(buffer, offset, (int) Math.min(length, end - position));
+        var readCount = fileChannel.read(byteBuffer, position);
+
+        if (readCount > 0) {
+            position += readCount;
+        }
+
+        return readCount;
+    }
+
+    @Override
+    public long skip(long length) {
+        var skippedCount = Math.clamp(length, 0, Math.max(end - position, 0));
+        position += skippedCount;
+        return skippedCount;
+    }
+
+    @Override
+    public int available() {
+        return (int) Math.clamp(end - position, 0, Integer.MAX_VALUE);
+    }
+
+    @Override
+    public long transferTo(OutputStream outputStream) throws IOException {
+        var targetChannel = Channels.newChannel(outputStream);
+        var transferredCount = 0L;
+
+        while (position < end) {
+            var count = fileChannel.transferTo(position, end - position, targetChannel);
+
+            if (count <= 0) {
+                break;
+            }
+
+            position += count;
+            transferredCount += count;
+        }
+
+        return transferredCount;
+    }
+
+    @Override
+    public void close() throws IOException {
+        fileChannel.close();
+    }
+}
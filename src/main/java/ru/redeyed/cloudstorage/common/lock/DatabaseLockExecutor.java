@@ -0,0 +1,46 @@
+package ru.redeyed.cloudstorage.common.lock;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.springframework.stereotype.Component;
+import java.sql.Connection;
+import javax.sql.DataSource;
+
+@Component
+@RequiredArgsConstructor
+public class DatabaseLockExecutor {
+
+    private static final String TRY_LOCK_QUERY = "select pg_try_advisory_lock(hashtext(?))";
+
+    private static final String UNLOCK_QUERY = "select pg_advisory_unlock(hashtext(?))";
+
+    private final DataSource dataSource;
+
+    @SneakyThrows
+    public boolean runExclusively(String lockName, Runnable task) {
+        try (var connection = dataSource.getConnection()) {
+            if (!execute(connection, TRY_LOCK_QUERY, lockName)) {
+                return false;
+            }
+
+            try {
+                task.run();
+            } finally {
+                execute(connection, UNLOCK_QUERY, lockName);
+            }
+
+            return true;
+        }
+    }
+
+    @SneakyThrows
+    private static boolean execute(Connection connection, String query, String lockName) {
+        try (var statement = connection.prepareStatement(query)) {
+            statement.setString(1, lockName);
+
+            try (var resultSet = statement.executeQuery()) {
+                return resultSet.next() && resultSet.getBoolean(1);
+            }
+        }
+    }
+}
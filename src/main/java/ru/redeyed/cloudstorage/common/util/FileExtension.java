@@ -2,16 +2,49 @@ package ru.redeyed.cloudstorage.common.util;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import java.util.Locale;
 
 @RequiredArgsConstructor
 @Getter
 public enum FileExtension {
 
-    UNDEFINED(""),
-    TXT("txt");
+    UNDEFINED("", false),
+    TXT("txt", false),
+
+    JPG("jpg", true),
+    JPEG("jpeg", true),
+    PNG("png", true),
+    GIF("gif", true),
+    WEBP("webp", true),
+    HEIC("heic", true),
+
+    MP3("mp3", true),
+    AAC("aac", true),
+    OGG("ogg", true),
+    FLAC("flac", true),
+
+    MP4("mp4", true),
+    MOV("mov", true),
+    MKV("mkv", true),
+    AVI("avi", true),
+    WEBM("webm", true),
+
+    ZIP("zip", true),
+    GZ("gz", true),
+    BZ2("bz2", true),
+    XZ("xz", true),
+    ZST("zst", true),
+    SEVEN_ZIP("7z", true),
+    RAR("rar", true),
+
+    DOCX("docx", true),
+    XLSX("xlsx", true),
+    PPTX("pptx", true);
 
     private final String value;
 
+    private final boolean compressed;
+
     public static FileExtension fromString(String value) {
         for (var fileExtension : FileExtension.values()) {
             if (fileExtension.value.equals(value)) {
@@ -21,4 +54,16 @@ public enum FileExtension {
 
         throw new IllegalArgumentException("Unknown file extension: " + value);
     }
+
+    public static boolean isCompressed(String value) {
+        var lowerCaseValue = value.toLowerCase(Locale.ROOT);
+
+        for (var fileExtension : FileExtension.values()) {
+            if (fileExtension.value.equals(lowerCaseValue)) {
+                return fileExtension.compressed;
+            }
+        }
+
+        return false;
+    }
 }
@@ -0,0 +1,141 @@
+package ru.redeyed.cloudstorage.common.util;
+
+import lombok.EqualsAndHashCode;
+
+@EqualsAndHashCode(onlyExplicitlyIncluded = true)
+public final class ResourcePath {
+
+    private static final char PATH_DELIMITER = '/';
+
+    private static final String EMPTY_VALUE = "";
+
+    private static final int SEGMENT_NOT_PRESENT = -1;
+
+    @EqualsAndHashCode.Include
+    private final String value;
+
+    private final int[] segmentStarts;
+
+    private final int segmentsCount;
+
+    private ResourcePath(String value, int[] segmentStarts) {
+        this.value = value;
+        this.segmentStarts = segmentStarts;
+        this.segmentsCount = segmentStarts.length;
+    }
+
+    public static ResourcePath of(String value) {
+        var segmentStarts = new int[countSegments(value)];
+        var segmentIndex = 0;
+        var segmentStart = 0;
+
+        for (var index = 0; index < value.length(); index++) {
+            if (value.charAt(index) == PATH_DELIMITER) {
+                segmentStarts[segmentIndex++] = segmentStart;
+                segmentStart = index + 1;
+            }
+        }
+
+        if (segmentStart < value.length()) {
+            segmentStarts[segmentIndex] = segmentStart;
+        }
+
+        return new ResourcePath(value, segmentStarts);
+    }
+
+    private static int countSegments(String value) {
+        var delimitersCount = 0;
+
+        for (var index = 0; index < value.length(); index++) {
+            if (value.charAt(index) == PATH_DELIMITER) {
+                delimitersCount++;
+            }
+        }
+
+        return value.isEmpty() || value.charAt(value.length() - 1) == PATH_DELIMITER
+                ? delimitersCount
+                : delimitersCount + 1;
+    }
+
+    public String value() {
+        return value;
+    }
+
+    public boolean isDirectory() {
+        return !value.isEmpty() && value.charAt(value.length() - 1) == PATH_DELIMITER;
+    }
+
+    public int segmentsCount() {
+        return segmentsCount;
+    }
+
+    public String segment(int index) {
+        return value.substring(segmentStarts[index], segmentEnd(index));
+    }
+
+    public boolean segmentEquals(int index, String name) {
+        var segmentStart = segmentStarts[index];
+        var segmentLength = segmentEnd(index) - segmentStart;
+
+        return segmentLength == name.length() && value.regionMatches(segmentStart, name, 0, segmentLength);
+    }
+
+    public String name() {
+        return segmentsCount == 0 ? EMPTY_VALUE : segment(segmentsCount - 1);
+    }
+
+    public int nameIndex() {
+        return segmentsCount == 0 ? 0 : segmentStarts[segmentsCount - 1];
+    }
+
+    public String parent() {
+        return value.substring(0, nameIndex());
+    }
+
+    public String rootName() {
+        return segmentsCount < 2 && !isDirectory() ? EMPTY_VALUE : segment(0);
+    }
+
+    public String subpath(int beginIndex) {
+        return subpath(beginIndex, segmentsCount);
+    }
+
+    public String subpath(int beginIndex, int endIndex) {
+        if (beginIndex >= endIndex) {
+            return EMPTY_VALUE;
+        }
+
+        var end = endIndex == segmentsCount ? value.length() : segmentStarts[endIndex];
+
+        return value.substring(segmentStarts[beginIndex], end);
+    }
+
+    public String relativeToDirectory(String directoryName) {
+        var directoryIndex = indexOfDirectory(directoryName);
+
+        return directoryIndex == SEGMENT_NOT_PRESENT ? EMPTY_VALUE : subpath(directoryIndex);
+    }
+
+    public int indexOfDirectory(String directoryName) {
+        var directoriesCount = isDirectory() ? segmentsCount : segmentsCount - 1;
+
+        for (var index = 0; index < directoriesCount; index++) {
+            if (segmentEquals(index, directoryName)) {
+                return index;
+            }
+        }
+
+        return SEGMENT_NOT_PRESENT;
+    }
+
+    private int segmentEnd(int index) {
+        return index + 1 < segmentsCount
+                ? segmentStarts[index + 1] - 1
+                : isDirectory() ? value.length() - 1 : value.length();
+    }
+
+    @Override
+    public String toString() {
+        return value;
+    }
+}
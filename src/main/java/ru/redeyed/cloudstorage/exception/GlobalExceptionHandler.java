@@ -12,14 +12,21 @@ import org.springframework.web.bind.MethodArgumentNotValidException;
 import org.springframework.web.bind.annotation.ExceptionHandler;
 import org.springframework.web.bind.annotation.RestControllerAdvice;
 import org.springframework.web.method.annotation.HandlerMethodValidationException;
+import org.springframework.web.method.annotation.MethodArgumentTypeMismatchException;
 import org.springframework.web.multipart.MaxUploadSizeExceededException;
 import org.springframework.web.multipart.support.MissingServletRequestPartException;
 import org.springframework.web.servlet.resource.NoResourceFoundException;
 import ru.redeyed.cloudstorage.common.util.DataUnit;
+import ru.redeyed.cloudstorage.operation.exception.OperationArchiveNotReadyException;
+import ru.redeyed.cloudstorage.operation.exception.OperationNotFoundException;
 import ru.redeyed.cloudstorage.resource.dto.MaxFileSizeErrorResponseDto;
 import ru.redeyed.cloudstorage.resource.exception.FileExtensionChangedException;
+import ru.redeyed.cloudstorage.resource.exception.InvalidPageRequestException;
+import ru.redeyed.cloudstorage.resource.exception.InvalidResourceFilesException;
 import ru.redeyed.cloudstorage.resource.exception.ResourceAlreadyExistsException;
 import ru.redeyed.cloudstorage.resource.exception.ResourceNotFoundException;
+import ru.redeyed.cloudstorage.s3.trace.exception.MinioCallBudgetExceededException;
+import ru.redeyed.cloudstorage.usage.exception.StorageQuotaExceededException;
 import ru.redeyed.cloudstorage.user.UserAlreadyExistsException;
 
 @RestControllerAdvice
@@ -49,6 +56,26 @@ public class GlobalExceptionHandler {
         return getErrorResponse(HttpStatus.NOT_FOUND, exception.getMessage());
     }
 
+    @ExceptionHandler(OperationNotFoundException.class)
+    public ResponseEntity<ErrorResponseDto> handle(OperationNotFoundException exception) {
+        return getErrorResponse(HttpStatus.NOT_FOUND, exception.getMessage());
+    }
+
+    @ExceptionHandler(OperationArchiveNotReadyException.class)
+    public ResponseEntity<ErrorResponseDto> handle(OperationArchiveNotReadyException exception) {
+        return getErrorResponse(HttpStatus.CONFLICT, exception.getMessage());
+    }
+
+    @ExceptionHandler(StorageQuotaExceededException.class)
+    public ResponseEntity<ErrorResponseDto> handle(StorageQuotaExceededException exception) {
+        return getErrorResponse(HttpStatus.INSUFFICIENT_STORAGE, exception.getMessage());
+    }
+
+    @ExceptionHandler(MinioCallBudgetExceededException.class)
+    public ResponseEntity<ErrorResponseDto> handle(MinioCallBudgetExceededException exception) {
+        return getErrorResponse(HttpStatus.SERVICE_UNAVAILABLE, exception.getMessage());
+    }
+
     @ExceptionHandler(ConstraintViolationException.class)
     public ResponseEntity<ErrorResponseDto> handle(ConstraintViolationException exception) {
         var message = exception.getConstraintViolations().stream()
@@ -78,6 +105,11 @@ public class GlobalExceptionHandler {
         return getErrorResponse(HttpStatus.BAD_REQUEST, message);
     }
 
+    @ExceptionHandler(MethodArgumentTypeMismatchException.class)
+    public ResponseEntity<ErrorResponseDto> handle(MethodArgumentTypeMismatchException exception) {
+        return getErrorResponse(HttpStatus.BAD_REQUEST, "Invalid value of '%s'.".formatted(exception.getName()));
+    }
+
     @ExceptionHandler(HttpMessageNotReadableException.class)
     public ResponseEntity<ErrorResponseDto> handle(HttpMessageNotReadableException ignore) {
         return getErrorResponse(HttpStatus.BAD_REQUEST, "Invalid json format.");
@@ -107,6 +139,16 @@ public class GlobalExceptionHandler {
         return false;
     }
 
+    @ExceptionHandler(InvalidResourceFilesException.class)
+    public ResponseEntity<ErrorResponseDto> handle(InvalidResourceFilesException exception) {
+        return getErrorResponse(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
+    @ExceptionHandler(InvalidPageRequestException.class)
+    public ResponseEntity<ErrorResponseDto> handle(InvalidPageRequestException exception) {
+        return getErrorResponse(HttpStatus.BAD_REQUEST, exception.getMessage());
+    }
+
     @ExceptionHandler(MissingServletRequestPartException.class)
     public ResponseEntity<ErrorResponseDto> handle(MissingServletRequestPartException exception) {
         return getErrorResponse(HttpStatus.BAD_REQUEST, exception.getMessage());
@@ -0,0 +1,119 @@
+package ru.redeyed.cloudstorage.operation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import ru.redeyed.cloudstorage.common.concurrent.ExecutorFactory;
+import ru.redeyed.cloudstorage.resource.ResourcePathUtil;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PipedInputStream;
+import java.io.PipedOutputStream;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Component
+public class ArchiveOperationHandler implements OperationHandler {
+
+    private static final int PIPE_BUFFER_SIZE = 1024 * 1024;
+
+    private static final String ARCHIVE_EXTENSION = ".zip";
+
+    private static final String EXECUTOR_NAME = "archive-upload";
+
+    private final ExecutorService executor;
+
+    private final SimpleStorageService storageService;
+
+    private final SimpleStorageService archiveStorageService;
+
+    public ArchiveOperationHandler(SimpleStorageService storageService,
+                                   @Qualifier("objectStorageService") SimpleStorageService archiveStorageService,
+                                   ExecutorFactory executorFactory,
+                                   OperationConfigProperties operationConfigProperties) {
+
+        this.storageService = storageService;
+        this.archiveStorageService = archiveStorageService;
+        this.executor = executorFactory.newTaskExecutor(EXECUTOR_NAME, operationConfigProperties.workers());
+    }
+
+    public static String getArchivePath(Operation operation) {
+        return ResourcePathUtil.createUserResourcePath(operation.getUserId()) + operation.getId() + ARCHIVE_EXTENSION;
+    }
+
+    @Override
+    public OperationType getType() {
+        return OperationType.ARCHIVE;
+    }
+
+    @Override
+    @SneakyThrows
+    public void execute(Operation operation, OperationProgressListener listener) {
+        var directoryPath = operation.getSourcePath();
+        var archivePath = getArchivePath(operation);
+        var totalObjects = storageService.countDirectoryObjects(BucketName.USER_FILES, directoryPath);
+
+        listener.onProgress(totalObjects, 0);
+
+        try (var inputStream = new PipedInputStream(PIPE_BUFFER_SIZE);
+             var outputStream = new PipedOutputStream(inputStream)) {
+
+            var upload = executor.submit(() ->
+                    archiveStorageService.uploadFile(BucketName.OPERATION_ARCHIVES, archivePath, inputStream)
+            );
+
+            var zipOutputStream = new ProgressZipOutputStream(outputStream, totalObjects, listener);
+
+            try {
+                storageService.downloadDirectory(
+                        BucketName.USER_FILES, directoryPath, operation.getCompression(), zipOutputStream
+                );
+
+                zipOutputStream.close();
+            } catch (Exception exception) {
+                inputStream.close();
+                upload.cancel(true);
+                throw exception;
+            }
+
+            try {
+                upload.get();
+            } catch (ExecutionException exception) {
+                throw exception.getCause();
+            }
+        }
+
+        listener.onProgress(totalObjects, totalObjects);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class ProgressZipOutputStream extends ZipOutputStream {
+
+        private final long totalObjects;
+
+        private final OperationProgressListener listener;
+
+        private long processedObjects;
+
+        ProgressZipOutputStream(OutputStream outputStream, long totalObjects, OperationProgressListener listener) {
+            super(outputStream);
+            this.totalObjects = totalObjects;
+            this.listener = listener;
+        }
+
+        @Override
+        public void putNextEntry(ZipEntry zipEntry) throws IOException {
+            super.putNextEntry(zipEntry);
+            listener.onProgress(totalObjects, processedObjects++);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package ru.redeyed.cloudstorage.operation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import ru.redeyed.cloudstorage.usage.StorageUsageService;
+
+@Component
+@RequiredArgsConstructor
+public class DeleteOperationHandler implements OperationHandler {
+
+    private final SimpleStorageService storageService;
+
+    private final StorageUsageService storageUsageService;
+
+    @Override
+    public OperationType getType() {
+        return OperationType.DELETE;
+    }
+
+    @Override
+    public void execute(Operation operation, OperationProgressListener listener) {
+        var directoryPath = operation.getSourcePath();
+        var directorySummary = storageService.getDirectorySummary(BucketName.USER_FILES, directoryPath);
+        var totalObjects = directorySummary.objectsCount();
+
+        listener.onProgress(totalObjects, 0);
+
+        storageService.removeDirectory(BucketName.USER_FILES, directoryPath);
+
+        storageUsageService.record(operation.getUserId(), -directorySummary.size(), -totalObjects);
+
+        listener.onProgress(totalObjects, totalObjects);
+    }
+}
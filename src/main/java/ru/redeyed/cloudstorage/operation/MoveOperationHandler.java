@@ -0,0 +1,30 @@
+package ru.redeyed.cloudstorage.operation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+
+@Component
+@RequiredArgsConstructor
+public class MoveOperationHandler implements OperationHandler {
+
+    private final SimpleStorageService storageService;
+
+    @Override
+    public OperationType getType() {
+        return OperationType.MOVE;
+    }
+
+    @Override
+    public void execute(Operation operation, OperationProgressListener listener) {
+        storageService.moveDirectory(
+                BucketName.USER_FILES,
+                operation.getSourcePath(),
+                operation.getTargetPath(),
+                progress -> listener.onProgress(
+                        progress.totalObjects(), progress.copiedObjects() + progress.skippedObjects()
+                )
+        );
+    }
+}
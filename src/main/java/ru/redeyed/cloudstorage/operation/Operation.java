@@ -0,0 +1,59 @@
+package ru.redeyed.cloudstorage.operation;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "operations")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Getter
+public class Operation {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    private UUID userId;
+
+    @Enumerated(EnumType.STRING)
+    private OperationType type;
+
+    @Enumerated(EnumType.STRING)
+    private OperationStatus status;
+
+    private String sourcePath;
+
+    private String targetPath;
+
+    @Enumerated(EnumType.STRING)
+    private ZipCompression compression;
+
+    private long totalObjects;
+
+    private long processedObjects;
+
+    private String message;
+
+    private String leaseOwner;
+
+    private Instant leaseExpiresAt;
+
+    private Instant createdAt;
+
+    private Instant updatedAt;
+}
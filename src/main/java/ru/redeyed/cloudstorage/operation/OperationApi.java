@@ -0,0 +1,166 @@
+package ru.redeyed.cloudstorage.operation;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.redeyed.cloudstorage.auth.UserDetailsImpl;
+import ru.redeyed.cloudstorage.exception.ErrorResponseDto;
+import ru.redeyed.cloudstorage.operation.dto.OperationResponseDto;
+import java.util.UUID;
+
+@Tag(name = "Operation API")
+public interface OperationApi {
+
+    @Operation(summary = "Obtaining the status and progress of an asynchronous operation")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "OK",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = OperationResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "id": "0b7e5c1e-8f4a-4a57-9a36-2f1f7a1c2d3e",
+                                              "type": "MOVE",
+                                              "status": "RUNNING",
+                                              "path": "folder1/",
+                                              "targetPath": "folder2/folder1/",
+                                              "totalObjects": 25000,
+                                              "processedObjects": 12500,
+                                              "createdAt": "2025-01-01T12:00:00Z",
+                                              "updatedAt": "2025-01-01T12:01:30Z"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "401", description = "User unauthorized",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Unauthorized."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "404", description = "Operation not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Operation not found."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Internal server error."
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    ResponseEntity<OperationResponseDto> get(
+            UserDetailsImpl userDetails,
+            @Parameter(
+                    example = "0b7e5c1e-8f4a-4a57-9a36-2f1f7a1c2d3e",
+                    description = "operation id"
+            )
+            UUID id
+    );
+
+    @Operation(summary = "Downloading the archive created by a completed archive operation")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "Archive downloaded successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)),
+
+            @ApiResponse(responseCode = "401", description = "User unauthorized",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Unauthorized."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "404", description = "Operation not found",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Operation not found."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "409", description = "Archive is not ready",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Operation archive is not ready."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Internal server error."
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    ResponseEntity<StreamingResponseBody> downloadArchive(
+            UserDetailsImpl userDetails,
+            @Parameter(
+                    example = "0b7e5c1e-8f4a-4a57-9a36-2f1f7a1c2d3e",
+                    description = "operation id"
+            )
+            UUID id
+    );
+}
@@ -0,0 +1,9 @@
+package ru.redeyed.cloudstorage.operation;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "operation")
+public record OperationConfigProperties(long asyncThreshold, int workers, Duration leaseDuration,
+                                        Duration retention) {
+}
@@ -0,0 +1,60 @@
+package ru.redeyed.cloudstorage.operation;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.redeyed.cloudstorage.auth.UserDetailsImpl;
+import ru.redeyed.cloudstorage.common.http.ContentDispositionType;
+import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.operation.dto.OperationResponseDto;
+import java.nio.charset.Charset;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/api/operations")
+@RequiredArgsConstructor
+public class OperationController implements OperationApi {
+
+    private final OperationService operationService;
+
+    @Override
+    @GetMapping("/{id}")
+    public ResponseEntity<OperationResponseDto> get(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable UUID id
+    ) {
+        var operationResponseDto = operationService.getOperation(userDetails.getId(), id);
+        return ResponseEntity.ok(operationResponseDto);
+    }
+
+    @Override
+    @GetMapping("/{id}/archive")
+    public ResponseEntity<StreamingResponseBody> downloadArchive(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @PathVariable UUID id
+    ) {
+        var operationResponseDto = operationService.getOperation(userDetails.getId(), id);
+        var streamingResponseBody = operationService.downloadArchive(userDetails.getId(), id);
+
+        var contentDisposition = ContentDisposition.builder(ContentDispositionType.ATTACHMENT.getValue())
+                .filename(PathUtil.extractResourceName(operationResponseDto.path()) + ".zip", Charset.defaultCharset())
+                .build();
+
+        var headers = new HttpHeaders();
+
+        headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
+        headers.setContentDisposition(contentDisposition);
+
+        return ResponseEntity.ok()
+                .headers(headers)
+                .body(streamingResponseBody);
+    }
+}
@@ -0,0 +1,8 @@
+package ru.redeyed.cloudstorage.operation;
+
+public interface OperationHandler {
+
+    OperationType getType();
+
+    void execute(Operation operation, OperationProgressListener listener);
+}
@@ -0,0 +1,20 @@
+package ru.redeyed.cloudstorage.operation;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import ru.redeyed.cloudstorage.operation.dto.OperationResponseDto;
+import ru.redeyed.cloudstorage.resource.ResourcePathUtil;
+
+@Mapper
+public abstract class OperationMapper {
+
+    @Mapping(target = "path", source = "sourcePath", qualifiedByName = "getResourcePath")
+    @Mapping(target = "targetPath", source = "targetPath", qualifiedByName = "getResourcePath")
+    public abstract OperationResponseDto toOperationResponseDto(Operation operation);
+
+    @Named("getResourcePath")
+    protected String getResourcePath(String path) {
+        return path == null ? null : ResourcePathUtil.removeUserFolder(path);
+    }
+}
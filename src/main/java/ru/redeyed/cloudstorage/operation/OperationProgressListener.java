@@ -0,0 +1,7 @@
+package ru.redeyed.cloudstorage.operation;
+
+@FunctionalInterface
+public interface OperationProgressListener {
+
+    void onProgress(long totalObjects, long processedObjects);
+}
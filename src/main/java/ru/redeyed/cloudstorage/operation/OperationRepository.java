@@ -0,0 +1,81 @@
+package ru.redeyed.cloudstorage.operation;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+@Repository
+public interface OperationRepository extends JpaRepository<Operation, UUID> {
+
+    Optional<Operation> findByIdAndUserId(UUID id, UUID userId);
+
+    @Query("""
+            select o.id from Operation o
+            where o.status in :statuses and (o.leaseExpiresAt is null or o.leaseExpiresAt < :now)
+            order by o.createdAt
+            """)
+    List<UUID> findAllUnleasedIds(@Param("statuses") Collection<OperationStatus> statuses,
+                                  @Param("now") Instant now);
+
+    List<Operation> findAllByStatusInAndUpdatedAtBefore(Collection<OperationStatus> statuses, Instant updatedAt);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Operation o
+            set o.status = :status, o.leaseOwner = :owner, o.leaseExpiresAt = :leaseExpiresAt, o.updatedAt = :now
+            where o.id = :id and o.status in :statuses and (o.leaseExpiresAt is null or o.leaseExpiresAt < :now)
+            """)
+    int acquireLease(@Param("id") UUID id, @Param("statuses") Collection<OperationStatus> statuses,
+                     @Param("status") OperationStatus status, @Param("owner") String owner,
+                     @Param("leaseExpiresAt") Instant leaseExpiresAt, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Operation o
+            set o.leaseExpiresAt = :leaseExpiresAt, o.updatedAt = :now
+            where o.id in :ids and o.leaseOwner = :owner
+            """)
+    int renewLeases(@Param("ids") Collection<UUID> ids, @Param("owner") String owner,
+                    @Param("leaseExpiresAt") Instant leaseExpiresAt, @Param("now") Instant now);
+
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Operation o
+            set o.totalObjects = :totalObjects, o.processedObjects = :processedObjects, o.updatedAt = :now
+            where o.id = :id and o.leaseOwner = :owner
+            """)
+    int saveProgress(@Param("id") UUID id, @Param("owner") String owner, @Param("totalObjects") long totalObjects,
+                     @Param("processedObjects") long processedObjects, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Operation o
+            set o.leaseOwner = null, o.leaseExpiresAt = null, o.updatedAt = :now
+            where o.id = :id and o.leaseOwner = :owner
+            """)
+    int releaseLease(@Param("id") UUID id, @Param("owner") String owner, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update Operation o
+            set o.status = :status, o.message = :message, o.leaseOwner = null, o.leaseExpiresAt = null,
+                o.updatedAt = :now
+            where o.id = :id and o.leaseOwner = :owner
+            """)
+    int finish(@Param("id") UUID id, @Param("owner") String owner, @Param("status") OperationStatus status,
+               @Param("message") String message, @Param("now") Instant now);
+}
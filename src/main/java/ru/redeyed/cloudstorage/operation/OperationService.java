@@ -0,0 +1,111 @@
+package ru.redeyed.cloudstorage.operation;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.redeyed.cloudstorage.operation.dto.OperationResponseDto;
+import ru.redeyed.cloudstorage.operation.exception.OperationArchiveNotReadyException;
+import ru.redeyed.cloudstorage.operation.exception.OperationNotFoundException;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
+import java.time.Instant;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class OperationService {
+
+    private final OperationRepository operationRepository;
+
+    private final OperationWorker operationWorker;
+
+    private final OperationMapper operationMapper;
+
+    private final OperationConfigProperties operationConfigProperties;
+
+    private final SimpleStorageService storageService;
+
+    @Qualifier("objectStorageService")
+    private final SimpleStorageService archiveStorageService;
+
+    public boolean exceedsAsyncThreshold(BucketName bucketName, String directoryPath) {
+        var asyncThreshold = operationConfigProperties.asyncThreshold();
+        return storageService.countDirectoryObjects(bucketName, directoryPath, asyncThreshold) >= asyncThreshold;
+    }
+
+    public OperationResponseDto submit(UUID userId, OperationType type, String sourcePath, String targetPath,
+                                       ZipCompression compression) {
+
+        var now = Instant.now();
+
+        var operation = Operation.builder()
+                .userId(userId)
+                .type(type)
+                .status(OperationStatus.PENDING)
+                .sourcePath(sourcePath)
+                .targetPath(targetPath)
+                .compression(compression)
+                .createdAt(now)
+                .updatedAt(now)
+                .build();
+
+        operation = operationRepository.save(operation);
+
+        operationWorker.dispatch(operation.getId());
+
+        return operationMapper.toOperationResponseDto(operation);
+    }
+
+    public OperationResponseDto getOperation(UUID userId, UUID operationId) {
+        var operation = findOperation(userId, operationId);
+        return operationMapper.toOperationResponseDto(operation);
+    }
+
+    public StreamingResponseBody downloadArchive(UUID userId, UUID operationId) {
+        var operation = findOperation(userId, operationId);
+
+        if (operation.getType() != OperationType.ARCHIVE || operation.getStatus() != OperationStatus.COMPLETED) {
+            throw new OperationArchiveNotReadyException();
+        }
+
+        var archivePath = ArchiveOperationHandler.getArchivePath(operation);
+
+        return outputStream -> {
+            try (var inputStream = archiveStorageService.downloadFile(BucketName.OPERATION_ARCHIVES, archivePath)) {
+                inputStream.transferTo(outputStream);
+            }
+        };
+    }
+
+    @Scheduled(cron = "${operation.cleanup-cron}")
+    public void removeExpiredOperations() {
+        var expiredBefore = Instant.now().minus(operationConfigProperties.retention());
+
+        var expiredOperations = operationRepository.findAllByStatusInAndUpdatedAtBefore(
+                OperationStatus.FINISHED, expiredBefore
+        );
+
+        for (var operation : expiredOperations) {
+            if (operation.getType() == OperationType.ARCHIVE) {
+                var archivePath = ArchiveOperationHandler.getArchivePath(operation);
+                archiveStorageService.removeFile(BucketName.OPERATION_ARCHIVES, archivePath);
+            }
+
+            operationRepository.delete(operation);
+        }
+
+        if (!expiredOperations.isEmpty()) {
+            log.info("{} expired operations removed", expiredOperations.size());
+        }
+    }
+
+    private Operation findOperation(UUID userId, UUID operationId) {
+        return operationRepository.findByIdAndUserId(operationId, userId)
+                .orElseThrow(OperationNotFoundException::new);
+    }
+}
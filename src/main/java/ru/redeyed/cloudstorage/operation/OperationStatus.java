@@ -0,0 +1,12 @@
+package ru.redeyed.cloudstorage.operation;
+
+import java.util.Set;
+
+public enum OperationStatus {
+
+    PENDING, RUNNING, COMPLETED, FAILED;
+
+    public static final Set<OperationStatus> ACTIVE = Set.of(PENDING, RUNNING);
+
+    public static final Set<OperationStatus> FINISHED = Set.of(COMPLETED, FAILED);
+}
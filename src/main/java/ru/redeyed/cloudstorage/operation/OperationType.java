@@ -0,0 +1,6 @@
+package ru.redeyed.cloudstorage.operation;
+
+public enum OperationType {
+
+    MOVE, DELETE, ARCHIVE
+}
@@ -0,0 +1,152 @@
+package ru.redeyed.cloudstorage.operation;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.redeyed.cloudstorage.common.concurrent.ExecutorFactory;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+@Slf4j
+public class OperationWorker {
+
+    private static final String FAILURE_MESSAGE = "Operation failed.";
+
+    private static final Duration PROGRESS_SAVE_INTERVAL = Duration.ofSeconds(1);
+
+    private static final String EXECUTOR_NAME = "operation-worker";
+
+    private final OperationRepository operationRepository;
+
+    private final Map<OperationType, OperationHandler> handlers = new EnumMap<>(OperationType.class);
+
+    private final ExecutorService executor;
+
+    private final Set<UUID> dispatchedOperations = ConcurrentHashMap.newKeySet();
+
+    private final String leaseOwner = UUID.randomUUID().toString();
+
+    private final Duration leaseDuration;
+
+    private volatile boolean shuttingDown;
+
+    public OperationWorker(OperationRepository operationRepository, List<OperationHandler> operationHandlers,
+                           OperationConfigProperties operationConfigProperties, ExecutorFactory executorFactory) {
+
+        this.operationRepository = operationRepository;
+        this.leaseDuration = operationConfigProperties.leaseDuration();
+        this.executor = executorFactory.newFixedExecutor(EXECUTOR_NAME, operationConfigProperties.workers());
+
+        operationHandlers.forEach(handler -> handlers.put(handler.getType(), handler));
+    }
+
+    public void dispatch(UUID operationId) {
+        if (shuttingDown || !dispatchedOperations.add(operationId)) {
+            return;
+        }
+
+        try {
+            executor.execute(() -> run(operationId));
+        } catch (RejectedExecutionException exception) {
+            dispatchedOperations.remove(operationId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${operation.resume-interval}")
+    public void resume() {
+        var now = Instant.now();
+
+        if (!dispatchedOperations.isEmpty()) {
+            operationRepository.renewLeases(Set.copyOf(dispatchedOperations), leaseOwner, now.plus(leaseDuration), now);
+        }
+
+        operationRepository.findAllUnleasedIds(OperationStatus.ACTIVE, now)
+                .forEach(this::dispatch);
+    }
+
+    private void run(UUID operationId) {
+        try {
+            var now = Instant.now();
+
+            var leaseAcquired = operationRepository.acquireLease(
+                    operationId, OperationStatus.ACTIVE, OperationStatus.RUNNING,
+                    leaseOwner, now.plus(leaseDuration), now
+            );
+
+            if (leaseAcquired == 0) {
+                return;
+            }
+
+            operationRepository.findById(operationId).ifPresent(this::execute);
+        } finally {
+            dispatchedOperations.remove(operationId);
+        }
+    }
+
+    private void execute(Operation operation) {
+        var operationId = operation.getId();
+        var handler = handlers.get(operation.getType());
+
+        try {
+            handler.execute(operation, new ProgressCheckpoint(operationId));
+        } catch (Exception exception) {
+            if (shuttingDown) {
+                log.info("Operation {} interrupted by shutdown and will be resumed", operationId);
+                operationRepository.releaseLease(operationId, leaseOwner, Instant.now());
+                return;
+            }
+
+            log.error("Operation {} failed", operationId, exception);
+            operationRepository.finish(operationId, leaseOwner, OperationStatus.FAILED, FAILURE_MESSAGE, Instant.now());
+            return;
+        }
+
+        operationRepository.finish(operationId, leaseOwner, OperationStatus.COMPLETED, null, Instant.now());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        shuttingDown = true;
+        executor.shutdownNow();
+    }
+
+    private class ProgressCheckpoint implements OperationProgressListener {
+
+        private final UUID operationId;
+
+        private final AtomicLong lastSaveNanos = new AtomicLong(System.nanoTime() - PROGRESS_SAVE_INTERVAL.toNanos());
+
+        ProgressCheckpoint(UUID operationId) {
+            this.operationId = operationId;
+        }
+
+        @Override
+        public void onProgress(long totalObjects, long processedObjects) {
+            var now = System.nanoTime();
+            var lastSave = lastSaveNanos.get();
+
+            var finished = processedObjects >= totalObjects;
+
+            if (!finished && now - lastSave < PROGRESS_SAVE_INTERVAL.toNanos()) {
+                return;
+            }
+
+            if (lastSaveNanos.compareAndSet(lastSave, now) || finished) {
+                operationRepository.saveProgress(
+                        operationId, leaseOwner, totalObjects, processedObjects, Instant.now()
+                );
+            }
+        }
+    }
+}
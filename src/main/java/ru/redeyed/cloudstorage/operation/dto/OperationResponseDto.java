@@ -0,0 +1,32 @@
+package ru.redeyed.cloudstorage.operation.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import ru.redeyed.cloudstorage.operation.OperationStatus;
+import ru.redeyed.cloudstorage.operation.OperationType;
+import java.time.Instant;
+import java.util.UUID;
+
+public record OperationResponseDto(
+
+        UUID id,
+
+        OperationType type,
+
+        OperationStatus status,
+
+        String path,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String targetPath,
+
+        long totalObjects,
+
+        long processedObjects,
+
+        @JsonInclude(JsonInclude.Include.NON_NULL)
+        String message,
+
+        Instant createdAt,
+
+        Instant updatedAt) {
+}
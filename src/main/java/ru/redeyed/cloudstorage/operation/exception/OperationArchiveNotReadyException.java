@@ -0,0 +1,10 @@
+package ru.redeyed.cloudstorage.operation.exception;
+
+public class OperationArchiveNotReadyException extends RuntimeException {
+
+    private static final String MESSAGE = "Operation archive is not ready.";
+
+    public OperationArchiveNotReadyException() {
+        super(MESSAGE);
+    }
+}
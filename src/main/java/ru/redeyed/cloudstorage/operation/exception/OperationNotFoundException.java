@@ -0,0 +1,10 @@
+package ru.redeyed.cloudstorage.operation.exception;
+
+public class OperationNotFoundException extends RuntimeException {
+
+    private static final String MESSAGE = "Operation not found.";
+
+    public OperationNotFoundException() {
+        super(MESSAGE);
+    }
+}
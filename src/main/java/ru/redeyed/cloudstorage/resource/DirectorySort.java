@@ -0,0 +1,6 @@
+package ru.redeyed.cloudstorage.resource;
+
+public enum DirectorySort {
+
+    NAME_ASC, NAME_DESC
+}
@@ -9,22 +9,30 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 import ru.redeyed.cloudstorage.auth.UserDetailsImpl;
 import ru.redeyed.cloudstorage.exception.ErrorResponseDto;
+import ru.redeyed.cloudstorage.operation.dto.OperationResponseDto;
 import ru.redeyed.cloudstorage.resource.dto.ResourceResponseDto;
 import ru.redeyed.cloudstorage.resource.validation.annotation.SameResourceType;
 import ru.redeyed.cloudstorage.resource.validation.annotation.ValidResourceFiles;
 import ru.redeyed.cloudstorage.resource.validation.annotation.ValidResourcePath;
 import ru.redeyed.cloudstorage.resource.validation.annotation.ValidSearchQuery;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
 import java.util.List;
 
 @Tag(name = "Resource API")
 public interface ResourceApi {
 
+    String LIMIT_MESSAGE = "Parameter 'limit' must be between 1 and 1000.";
+
     @Operation(summary = "Obtaining information about a resource")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
@@ -256,6 +264,20 @@ public interface ResourceApi {
                     )
             ),
 
+            @ApiResponse(responseCode = "507", description = "Storage quota exceeded",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Storage quota exceeded."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -280,11 +302,159 @@ public interface ResourceApi {
             @ValidResourceFiles List<MultipartFile> files
     );
 
+    @Operation(
+            summary = "Uploading files without buffering",
+            description = "Accepts the same multipart body as the regular upload, but streams every file part "
+                    + "straight into the storage. File names are validated before the part content is read."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "201", description = "Files uploaded successfully",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            array = @ArraySchema(schema = @Schema(implementation = ResourceResponseDto.class)),
+                            examples = @ExampleObject(
+                                    value = """
+                                            [
+                                                {
+                                                   "path": "folder/",
+                                                   "name": "file.txt",
+                                                   "size": 123,
+                                                   "type": "FILE"
+                                                 }
+                                             ]
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "400", description = "Invalid request data",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "All files must have the same root directory."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "401", description = "User unauthorized",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Unauthorized."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "409", description = "Resource already exists",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "File already exists."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "413", description = "File too large",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                               "message": "File too large.",
+                                               "maxFileSize": 3,
+                                               "unit": "GB"
+                                             }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "507", description = "Storage quota exceeded",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Storage quota exceeded."
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "500", description = "Internal server error",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = ErrorResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "message": "Internal server error."
+                                            }
+                                            """
+                            )
+                    )
+            )
+    })
+    ResponseEntity<List<ResourceResponseDto>> uploadFileStreams(
+            UserDetailsImpl userDetails,
+            @Parameter(
+                    example = "folder/",
+                    description = "path to the folder where upload the resource"
+            )
+            @ValidResourcePath(onlyDirectory = true) String path,
+            HttpServletRequest request
+    );
+
     @Operation(summary = "Downloading resources")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "Resource downloaded successfully",
                     content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)),
 
+            @ApiResponse(responseCode = "202",
+                    description = "Directory is too large, an archive operation has been started",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = OperationResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "id": "0b7e5c1e-8f4a-4a57-9a36-2f1f7a1c2d3e",
+                                              "type": "ARCHIVE",
+                                              "status": "PENDING",
+                                              "path": "folder1/",
+                                              "totalObjects": 0,
+                                              "processedObjects": 0,
+                                              "createdAt": "2025-01-01T12:00:00Z",
+                                              "updatedAt": "2025-01-01T12:00:00Z"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
+            @ApiResponse(responseCode = "206", description = "Requested range of the file downloaded successfully",
+                    content = @Content(mediaType = MediaType.APPLICATION_OCTET_STREAM_VALUE)),
+
+            @ApiResponse(responseCode = "304", description = "File not modified", content = @Content),
+
             @ApiResponse(responseCode = "400", description = "Invalid request data",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -327,6 +497,8 @@ public interface ResourceApi {
                     )
             ),
 
+            @ApiResponse(responseCode = "416", description = "Requested range not satisfiable", content = @Content),
+
             @ApiResponse(responseCode = "500", description = "Internal server error",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -341,13 +513,20 @@ public interface ResourceApi {
                     )
             )
     })
-    ResponseEntity<StreamingResponseBody> download(
+    ResponseEntity<?> download(
             UserDetailsImpl userDetails,
             @Parameter(
                     example = "folder/file.txt",
                     description = "path to the resource"
             )
-            @ValidResourcePath String path
+            @ValidResourcePath String path,
+            @Parameter(
+                    example = "ADAPTIVE",
+                    description = "compression of directory archives: ADAPTIVE stores already compressed files "
+                            + "and deflates the rest, FASTEST uses the fastest deflate level, NONE disables compression"
+            )
+            ZipCompression compression,
+            @Parameter(hidden = true) HttpHeaders requestHeaders
     );
 
     @Operation(summary = "Moving resources")
@@ -382,6 +561,29 @@ public interface ResourceApi {
                     )
             ),
 
+            @ApiResponse(responseCode = "202",
+                    description = "Directory is too large, a move operation has been started",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = OperationResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "id": "0b7e5c1e-8f4a-4a57-9a36-2f1f7a1c2d3e",
+                                              "type": "MOVE",
+                                              "status": "PENDING",
+                                              "path": "folder1/",
+                                              "targetPath": "folder2/folder1/",
+                                              "totalObjects": 0,
+                                              "processedObjects": 0,
+                                              "createdAt": "2025-01-01T12:00:00Z",
+                                              "updatedAt": "2025-01-01T12:00:00Z"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
             @ApiResponse(responseCode = "400", description = "Invalid request data",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -453,7 +655,7 @@ public interface ResourceApi {
             )
     })
     @SameResourceType
-    ResponseEntity<ResourceResponseDto> move(
+    ResponseEntity<?> move(
             UserDetailsImpl userDetails,
             @Parameter(
                     example = "folder/file.txt",
@@ -467,10 +669,14 @@ public interface ResourceApi {
             @ValidResourcePath String to
     );
 
-    @Operation(summary = "Searching resources")
+    @Operation(
+            summary = "Searching resources",
+            description = "Found resources are streamed as a JSON array, "
+                    + "or as NDJSON if it is requested by the Accept header."
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
-                    content = @Content(
+                    content = {@Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
                             array = @ArraySchema(schema = @Schema(implementation = ResourceResponseDto.class)),
                             examples = {
@@ -503,7 +709,17 @@ public interface ResourceApi {
                                             value = "[]"
                                     )
                             }
-                    )
+                    ), @Content(
+                            mediaType = MediaType.APPLICATION_NDJSON_VALUE,
+                            schema = @Schema(implementation = ResourceResponseDto.class),
+                            examples = @ExampleObject(
+                                    name = "Found resources",
+                                    value = """
+                                            {"path":"folder1/folder2/","name":"file.txt","size":123,"type":"FILE"}
+                                            {"path":"folder1/folder2/folder3/","name":"folder4","type":"DIRECTORY"}
+                                            """
+                            )
+                    )}
             ),
 
             @ApiResponse(responseCode = "400", description = "Invalid request data",
@@ -548,7 +764,7 @@ public interface ResourceApi {
                     )
             )
     })
-    ResponseEntity<List<ResourceResponseDto>> search(
+    ResponseEntity<StreamingResponseBody> search(
             UserDetailsImpl userDetails,
             @Parameter(
                     examples = {
@@ -570,13 +786,36 @@ public interface ResourceApi {
                     },
                     description = "resource search query"
             )
-            @ValidSearchQuery String query
+            @ValidSearchQuery String query,
+            @Parameter(hidden = true) String accept
     );
 
     @Operation(summary = "Deleting a resource")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "204", description = "The resource has been deleted or does not exist"),
 
+            @ApiResponse(responseCode = "202",
+                    description = "Directory is too large, a delete operation has been started",
+                    content = @Content(
+                            mediaType = MediaType.APPLICATION_JSON_VALUE,
+                            schema = @Schema(implementation = OperationResponseDto.class),
+                            examples = @ExampleObject(
+                                    value = """
+                                            {
+                                              "id": "0b7e5c1e-8f4a-4a57-9a36-2f1f7a1c2d3e",
+                                              "type": "DELETE",
+                                              "status": "PENDING",
+                                              "path": "folder1/",
+                                              "totalObjects": 0,
+                                              "processedObjects": 0,
+                                              "createdAt": "2025-01-01T12:00:00Z",
+                                              "updatedAt": "2025-01-01T12:00:00Z"
+                                            }
+                                            """
+                            )
+                    )
+            ),
+
             @ApiResponse(responseCode = "400", description = "Invalid request data",
                     content = @Content(
                             mediaType = MediaType.APPLICATION_JSON_VALUE,
@@ -619,7 +858,7 @@ public interface ResourceApi {
                     )
             )
     })
-    ResponseEntity<Void> delete(
+    ResponseEntity<?> delete(
             UserDetailsImpl userDetails,
             @Parameter(
                     examples = {
@@ -649,7 +888,13 @@ public interface ResourceApi {
             @ValidResourcePath String path
     );
 
-    @Operation(summary = "Get directory content info")
+    @Operation(
+            summary = "Get directory content info",
+            description = "Returns one page of the directory content. "
+                    + "If there are more resources, the X-Next-Cursor header contains the cursor of the next page. "
+                    + "If NDJSON is requested by the Accept header, the whole directory content is streamed "
+                    + "starting from the cursor, and the limit is used as the size of the fetched pages."
+    )
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(
@@ -744,13 +989,36 @@ public interface ResourceApi {
                     )
             )
     })
-    ResponseEntity<List<ResourceResponseDto>> getDirectoryContent(
+    ResponseEntity<?> getDirectoryContent(
             UserDetailsImpl userDetails,
             @Parameter(
                     example = "folder/",
                     description = "path to directory"
             )
-            @ValidResourcePath(onlyDirectory = true) String path
+            @ValidResourcePath(onlyDirectory = true) String path,
+            @Parameter(
+                    example = "100",
+                    description = "maximum number of resources in the response"
+            )
+            @Min(value = 1, message = LIMIT_MESSAGE) @Max(value = 1000, message = LIMIT_MESSAGE) int limit,
+            @Parameter(description = "cursor from the X-Next-Cursor header of the previous page")
+            String cursor,
+            @Parameter(
+                    example = "NAME_ASC",
+                    description = "sort order of resources"
+            )
+            DirectorySort sort,
+            @Parameter(
+                    example = "FILE",
+                    description = "type of resources to return, all types if not set"
+            )
+            ResourceType type,
+            @Parameter(
+                    example = "report",
+                    description = "prefix of resource names to return"
+            )
+            String namePrefix,
+            @Parameter(hidden = true) String accept
     );
 
     @Operation(summary = "Create empty directory")
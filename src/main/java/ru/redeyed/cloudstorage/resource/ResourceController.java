@@ -1,5 +1,6 @@
 package ru.redeyed.cloudstorage.resource;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ContentDisposition;
 import org.springframework.http.HttpHeaders;
@@ -12,17 +13,26 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import org.springframework.web.servlet.support.ServletUriComponentsBuilder;
 import ru.redeyed.cloudstorage.auth.UserDetailsImpl;
 import ru.redeyed.cloudstorage.common.http.ContentDispositionType;
+import ru.redeyed.cloudstorage.common.http.HttpPreconditionUtil;
+import ru.redeyed.cloudstorage.common.http.JsonStreamFormat;
+import ru.redeyed.cloudstorage.common.http.QueryParameter;
 import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.operation.dto.OperationResponseDto;
+import ru.redeyed.cloudstorage.resource.dto.DirectoryPageRequestDto;
 import ru.redeyed.cloudstorage.resource.dto.ResourceResponseDto;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
 import java.nio.charset.Charset;
 import java.util.List;
+import java.util.UUID;
 
 @RestController
 @RequestMapping("/api")
@@ -30,6 +40,10 @@ import java.util.List;
 @RequiredArgsConstructor
 public class ResourceController implements ResourceApi {
 
+    private static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    private static final String DEFAULT_DIRECTORY_PAGE_LIMIT = "1000";
+
     private final ResourceService resourceService;
 
     @Override
@@ -56,13 +70,33 @@ public class ResourceController implements ResourceApi {
                 .body(resourceResponseDtos);
     }
 
+    @Override
+    @PostMapping(path = "/resource/stream", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<List<ResourceResponseDto>> uploadFileStreams(
+            @AuthenticationPrincipal UserDetailsImpl userDetails,
+            @QueryParameter(defaultValue = PathUtil.PATH_DELIMITER) String path,
+            HttpServletRequest request
+    ) {
+        var resourceResponseDtos = resourceService.uploadFileStreams(userDetails.getId(), path, request);
+
+        return ResponseEntity
+                .status(HttpStatus.CREATED)
+                .body(resourceResponseDtos);
+    }
+
     @Override
     @GetMapping("/resource/download")
-    public ResponseEntity<StreamingResponseBody> download(
+    public ResponseEntity<?> download(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
-            @RequestParam String path
+            @RequestParam String path,
+            @RequestParam(defaultValue = "ADAPTIVE") ZipCompression compression,
+            @RequestHeader HttpHeaders requestHeaders
     ) {
-        var streamingResponseBody = resourceService.downloadResource(userDetails.getId(), path);
+        var operation = resourceService.submitArchiveOperation(userDetails.getId(), path, compression);
+
+        if (operation.isPresent()) {
+            return accepted(operation.get());
+        }
 
         var contentDisposition = getContentDisposition(path);
 
@@ -71,11 +105,79 @@ public class ResourceController implements ResourceApi {
         headers.setContentType(MediaType.APPLICATION_OCTET_STREAM);
         headers.setContentDisposition(contentDisposition);
 
+        if (!PathUtil.isDirectory(path)) {
+            return downloadFile(userDetails.getId(), path, requestHeaders, headers);
+        }
+
+        var streamingResponseBody = resourceService.downloadResource(userDetails.getId(), path, compression);
+
         return ResponseEntity.ok()
                 .headers(headers)
                 .body(streamingResponseBody);
     }
 
+    private ResponseEntity<StreamingResponseBody> downloadFile(UUID userId, String path, HttpHeaders requestHeaders,
+                                                               HttpHeaders headers) {
+
+        var fileDownloadInfo = resourceService.getFileDownloadInfo(userId, path);
+        var entityTag = HttpPreconditionUtil.toEntityTag(fileDownloadInfo.etag());
+        var size = fileDownloadInfo.size();
+
+        headers.set(HttpHeaders.ACCEPT_RANGES, HttpPreconditionUtil.BYTES_RANGE_UNIT);
+
+        if (entityTag != null) {
+            headers.setETag(entityTag);
+
+            if (HttpPreconditionUtil.noneMatchFails(requestHeaders.getIfNoneMatch(), entityTag)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .headers(headers)
+                        .build();
+            }
+        }
+
+        var range = HttpPreconditionUtil.resolveRange(requestHeaders, entityTag);
+
+        if (range.isEmpty()) {
+            headers.setContentLength(size);
+
+            return ResponseEntity.ok()
+                    .headers(headers)
+                    .body(resourceService.downloadResource(userId, path, ZipCompression.ADAPTIVE));
+        }
+
+        if (!HttpPreconditionUtil.isSatisfiable(range.get(), size)) {
+            headers.set(HttpHeaders.CONTENT_RANGE, HttpPreconditionUtil.toUnsatisfiedContentRange(size));
+
+            return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE)
+                    .headers(headers)
+                    .build();
+        }
+
+        var rangeStart = range.get().getRangeStart(size);
+        var rangeEnd = range.get().getRangeEnd(size);
+        var rangeLength = rangeEnd - rangeStart + 1;
+
+        headers.set(HttpHeaders.CONTENT_RANGE, HttpPreconditionUtil.toContentRange(rangeStart, rangeEnd, size));
+        headers.setContentLength(rangeLength);
+
+        var streamingResponseBody = resourceService.downloadFileRange(userId, path, rangeStart, rangeLength);
+
+        return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT)
+                .headers(headers)
+                .body(streamingResponseBody);
+    }
+
+    private ResponseEntity<OperationResponseDto> accepted(OperationResponseDto operationResponseDto) {
+        var location = ServletUriComponentsBuilder.fromCurrentContextPath()
+                .path("/api/operations/{id}")
+                .buildAndExpand(operationResponseDto.id())
+                .toUri();
+
+        return ResponseEntity.accepted()
+                .location(location)
+                .body(operationResponseDto);
+    }
+
     private ContentDisposition getContentDisposition(String path) {
         var contentDispositionType = ContentDispositionType.ATTACHMENT.getValue();
 
@@ -90,43 +192,87 @@ public class ResourceController implements ResourceApi {
 
     @Override
     @GetMapping("/resource/move")
-    public ResponseEntity<ResourceResponseDto> move(
+    public ResponseEntity<?> move(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam String from,
             @RequestParam String to
     ) {
+        var operation = resourceService.submitMoveOperation(userDetails.getId(), from, to);
+
+        if (operation.isPresent()) {
+            return accepted(operation.get());
+        }
+
         var resourceResponseDto = resourceService.moveResource(userDetails.getId(), from, to);
         return ResponseEntity.ok(resourceResponseDto);
     }
 
     @Override
     @GetMapping("/resource/search")
-    public ResponseEntity<List<ResourceResponseDto>> search(
+    public ResponseEntity<StreamingResponseBody> search(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
-            @RequestParam String query
+            @RequestParam String query,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept
     ) {
-        var resourceResponseDtos = resourceService.search(userDetails.getId(), query);
-        return ResponseEntity.ok(resourceResponseDtos);
+        var format = JsonStreamFormat.fromAcceptHeader(accept);
+        var streamingResponseBody = resourceService.search(userDetails.getId(), query, format);
+
+        return ResponseEntity.ok()
+                .contentType(format.getMediaType())
+                .body(streamingResponseBody);
     }
 
     @Override
     @DeleteMapping("/resource")
-    public ResponseEntity<Void> delete(
+    public ResponseEntity<?> delete(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
             @RequestParam String path
     ) {
+        var operation = resourceService.submitDeleteOperation(userDetails.getId(), path);
+
+        if (operation.isPresent()) {
+            return accepted(operation.get());
+        }
+
         resourceService.deleteResource(userDetails.getId(), path);
         return ResponseEntity.noContent().build();
     }
 
     @Override
     @GetMapping("/directory")
-    public ResponseEntity<List<ResourceResponseDto>> getDirectoryContent(
+    public ResponseEntity<?> getDirectoryContent(
             @AuthenticationPrincipal UserDetailsImpl userDetails,
-            @RequestParam(defaultValue = PathUtil.PATH_DELIMITER) String path
+            @RequestParam(defaultValue = PathUtil.PATH_DELIMITER) String path,
+            @RequestParam(defaultValue = DEFAULT_DIRECTORY_PAGE_LIMIT) int limit,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "NAME_ASC") DirectorySort sort,
+            @RequestParam(required = false) ResourceType type,
+            @RequestParam(required = false) String namePrefix,
+            @RequestHeader(name = HttpHeaders.ACCEPT, required = false) String accept
     ) {
-        var resourceResponseDtos = resourceService.getDirectoryContent(userDetails.getId(), path);
-        return ResponseEntity.ok(resourceResponseDtos);
+        var pageRequestDto = new DirectoryPageRequestDto(limit, cursor, sort, type, namePrefix);
+
+        var format = JsonStreamFormat.fromAcceptHeader(accept);
+
+        if (format == JsonStreamFormat.NDJSON) {
+            var streamingResponseBody = resourceService.streamDirectoryContent(
+                    userDetails.getId(), path, pageRequestDto, format
+            );
+
+            return ResponseEntity.ok()
+                    .contentType(format.getMediaType())
+                    .body(streamingResponseBody);
+        }
+
+        var directoryPageDto = resourceService.getDirectoryContent(userDetails.getId(), path, pageRequestDto);
+
+        var responseBuilder = ResponseEntity.ok();
+
+        if (directoryPageDto.nextCursor() != null) {
+            responseBuilder.header(NEXT_CURSOR_HEADER, directoryPageDto.nextCursor());
+        }
+
+        return responseBuilder.body(directoryPageDto.resources());
     }
 
     @Override
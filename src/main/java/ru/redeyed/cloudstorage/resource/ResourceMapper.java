@@ -3,6 +3,7 @@ package ru.redeyed.cloudstorage.resource;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
 import org.mapstruct.Named;
+import ru.redeyed.cloudstorage.common.util.ResourcePath;
 import ru.redeyed.cloudstorage.resource.dto.ResourceResponseDto;
 import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
 import java.util.List;
@@ -19,13 +20,13 @@ public abstract class ResourceMapper {
 
     @Named("getPath")
     protected String getPath(StorageObjectInfo objectInfo) {
-        var path = objectInfo.path();
+        var path = ResourcePath.of(objectInfo.path());
 
         if (ResourcePathUtil.hasUserFolder(path)) {
             return ResourcePathUtil.extractResourcePath(path);
         }
 
-        return path;
+        return path.value();
     }
 
     @Named("getSize")
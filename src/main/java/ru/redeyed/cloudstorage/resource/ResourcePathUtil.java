@@ -2,6 +2,7 @@ package ru.redeyed.cloudstorage.resource;
 
 import lombok.experimental.UtilityClass;
 import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.common.util.ResourcePath;
 import java.util.UUID;
 import java.util.regex.Pattern;
 
@@ -10,6 +11,9 @@ public class ResourcePathUtil {
 
     private static final String USER_FILES_DIR_FORMAT = "user-%s-files/";
 
+    private static final String USER_FILES_DIR_PREFIX = "user-";
+    private static final String USER_FILES_DIR_SUFFIX = "-files";
+
     private static final Pattern USER_FILES_DIR_PATTERN = Pattern.compile("^user-.*-files/");
 
     public static String createUserResourcePath(UUID userId) {
@@ -25,13 +29,17 @@ public class ResourcePathUtil {
     }
 
     public static String extractResourcePath(String path) {
-        if (!USER_FILES_DIR_PATTERN.matcher(path).find()) {
-            return PathUtil.removeResourceName(path);
+        return extractResourcePath(ResourcePath.of(path));
+    }
+
+    public static String extractResourcePath(ResourcePath path) {
+        if (!hasUserFolder(path) || path.segmentsCount() < 2) {
+            return path.parent();
         }
 
-        path = PathUtil.removeResourceName(path);
+        var resourcePath = path.subpath(1, path.segmentsCount() - 1);
 
-        return removeUserFolder(path);
+        return resourcePath.isEmpty() ? PathUtil.PATH_DELIMITER : resourcePath;
     }
 
     public static String removeUserFolder(String path) {
@@ -39,13 +47,21 @@ public class ResourcePathUtil {
             return path.substring(path.length() - 1);
         }
 
-        return path.replaceAll(USER_FILES_DIR_PATTERN.pattern(), "");
+        return USER_FILES_DIR_PATTERN.matcher(path).replaceFirst("");
     }
 
     public static boolean hasUserFolder(String path) {
         return USER_FILES_DIR_PATTERN.matcher(path).find();
     }
 
+    public static boolean hasUserFolder(ResourcePath path) {
+        var rootName = path.rootName();
+
+        return rootName.length() >= USER_FILES_DIR_PREFIX.length() + USER_FILES_DIR_SUFFIX.length()
+                && rootName.startsWith(USER_FILES_DIR_PREFIX)
+                && rootName.endsWith(USER_FILES_DIR_SUFFIX);
+    }
+
     public static boolean isUserFolder(String path) {
         return USER_FILES_DIR_PATTERN.matcher(path).matches();
     }
@@ -1,23 +1,43 @@
 package ru.redeyed.cloudstorage.resource;
 
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.lang3.StringUtils;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import ru.redeyed.cloudstorage.common.http.JsonStreamFormat;
+import ru.redeyed.cloudstorage.common.http.JsonStreamWriter;
+import ru.redeyed.cloudstorage.common.http.MultipartStreamReader;
 import ru.redeyed.cloudstorage.common.util.PathUtil;
-import ru.redeyed.cloudstorage.common.util.RegexpUtil;
+import ru.redeyed.cloudstorage.operation.OperationService;
+import ru.redeyed.cloudstorage.operation.OperationType;
+import ru.redeyed.cloudstorage.operation.dto.OperationResponseDto;
+import ru.redeyed.cloudstorage.resource.dto.DirectoryPageDto;
+import ru.redeyed.cloudstorage.resource.dto.DirectoryPageRequestDto;
+import ru.redeyed.cloudstorage.resource.dto.FileDownloadInfoDto;
 import ru.redeyed.cloudstorage.resource.dto.ResourceResponseDto;
 import ru.redeyed.cloudstorage.resource.exception.FileExtensionChangedException;
+import ru.redeyed.cloudstorage.resource.exception.InvalidPageRequestException;
+import ru.redeyed.cloudstorage.resource.exception.InvalidResourceFilesException;
 import ru.redeyed.cloudstorage.resource.exception.ResourceAlreadyExistsException;
 import ru.redeyed.cloudstorage.resource.exception.ResourceNotFoundException;
+import ru.redeyed.cloudstorage.resource.validation.ResourceFilesValidationUtil;
 import ru.redeyed.cloudstorage.s3.BucketName;
 import ru.redeyed.cloudstorage.s3.SimpleStorageService;
 import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import ru.redeyed.cloudstorage.s3.StoragePage;
+import ru.redeyed.cloudstorage.s3.StoragePageRequest;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
+import ru.redeyed.cloudstorage.usage.StorageUsageService;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Base64;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
 import java.util.zip.ZipOutputStream;
@@ -26,12 +46,29 @@ import java.util.zip.ZipOutputStream;
 @RequiredArgsConstructor
 public class ResourceService {
 
-    private static final String SEARCH_PATTERN_FORMAT = "^.*%s.*$";
+    private static final String FILES_PART_NAME = "files";
+
+    private static final String INVALID_CURSOR_MESSAGE = "Parameter 'cursor' is invalid.";
+
+    private static final Base64.Encoder CURSOR_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private static final Base64.Decoder CURSOR_DECODER = Base64.getUrlDecoder();
+
+    @Value("${multipart-files-count-limit}")
+    private int filesCountLimit;
 
     private final SimpleStorageService storageService;
 
     private final ResourceMapper resourceMapper;
 
+    private final MultipartStreamReader multipartStreamReader;
+
+    private final OperationService operationService;
+
+    private final JsonStreamWriter jsonStreamWriter;
+
+    private final StorageUsageService storageUsageService;
+
     public ResourceResponseDto getResource(UUID userId, String path) {
         var resourcePath = ResourcePathUtil.createUserResourcePath(userId, path);
 
@@ -52,14 +89,86 @@ public class ResourceService {
         var resourcePath = ResourcePathUtil.createUserResourcePath(userId, path);
 
         if (PathUtil.isDirectory(path)) {
-            storageService.removeDirectory(BucketName.USER_FILES, resourcePath);
+            deleteDirectory(userId, resourcePath);
         } else {
-            storageService.removeFile(BucketName.USER_FILES, resourcePath);
+            deleteFile(userId, resourcePath);
+        }
+    }
+
+    private void deleteDirectory(UUID userId, String path) {
+        var directorySummary = storageService.getDirectorySummary(BucketName.USER_FILES, path);
+
+        storageService.removeDirectory(BucketName.USER_FILES, path);
+
+        storageUsageService.record(userId, -directorySummary.size(), -directorySummary.objectsCount());
+    }
+
+    private void deleteFile(UUID userId, String path) {
+        var fileInfo = storageService.findFileInfo(BucketName.USER_FILES, path);
+
+        storageService.removeFile(BucketName.USER_FILES, path);
+
+        fileInfo.ifPresent(objectInfo -> storageUsageService.record(userId, -objectInfo.size(), -1));
+    }
+
+    public Optional<OperationResponseDto> submitDeleteOperation(UUID userId, String path) {
+        if (!PathUtil.isDirectory(path)) {
+            return Optional.empty();
         }
+
+        var directoryPath = ResourcePathUtil.createUserResourcePath(userId, path);
+
+        return submitOperationIfLarge(userId, OperationType.DELETE, directoryPath, null, null);
+    }
+
+    public DirectoryPageDto getDirectoryContent(UUID userId, String path, DirectoryPageRequestDto pageRequestDto) {
+        var directoryPath = ResourcePathUtil.createUserResourcePath(userId, path);
+        var pageRequest = createStoragePageRequest(directoryPath, pageRequestDto);
+
+        var page = storageService.getDirectoryObjectsInfo(BucketName.USER_FILES, directoryPath, pageRequest);
+
+        var nextCursor = page.hasNext()
+                ? encodeCursor(page.objectsInfo().getLast().path().substring(directoryPath.length()))
+                : null;
+
+        return new DirectoryPageDto(resourceMapper.toResourceResponseDtos(page.objectsInfo()), nextCursor);
     }
 
-    public List<ResourceResponseDto> getDirectoryContent(UUID userId, String path) {
+    public StreamingResponseBody streamDirectoryContent(UUID userId, String path,
+                                                        DirectoryPageRequestDto pageRequestDto,
+                                                        JsonStreamFormat format) {
+
         var directoryPath = ResourcePathUtil.createUserResourcePath(userId, path);
+        var firstPageRequest = createStoragePageRequest(directoryPath, pageRequestDto);
+
+        return jsonStreamWriter.<ResourceResponseDto>write(format, consumer -> {
+            var pageRequest = firstPageRequest;
+            var page = (StoragePage) null;
+
+            do {
+                page = storageService.getDirectoryObjectsInfo(BucketName.USER_FILES, directoryPath, pageRequest);
+
+                page.objectsInfo().stream()
+                        .map(resourceMapper::toResourceResponseDto)
+                        .forEach(consumer);
+
+                if (page.hasNext()) {
+                    pageRequest = withStartAfter(pageRequest, page.objectsInfo().getLast().path());
+                }
+            } while (page.hasNext());
+        });
+    }
+
+    private StoragePageRequest createStoragePageRequest(String directoryPath, DirectoryPageRequestDto pageRequestDto) {
+        var namePrefix = pageRequestDto.namePrefix();
+
+        if (namePrefix != null && namePrefix.contains(PathUtil.PATH_DELIMITER)) {
+            throw new InvalidPageRequestException("Parameter 'namePrefix' must not contain '/'.");
+        }
+
+        var startAfter = pageRequestDto.cursor() == null
+                ? null
+                : directoryPath + decodeCursor(pageRequestDto.cursor());
 
         if (!storageService.directoryExists(BucketName.USER_FILES, directoryPath)) {
             if (!ResourcePathUtil.isUserFolder(directoryPath)) {
@@ -67,9 +176,47 @@ public class ResourceService {
             }
         }
 
-        var storageObjectsInfo = storageService.getDirectoryObjectsInfo(BucketName.USER_FILES, directoryPath, false);
+        var type = pageRequestDto.type();
 
-        return resourceMapper.toResourceResponseDtos(storageObjectsInfo);
+        return new StoragePageRequest(
+                pageRequestDto.limit(),
+                startAfter,
+                pageRequestDto.sort() == DirectorySort.NAME_DESC,
+                type == null || type == ResourceType.FILE,
+                type == null || type == ResourceType.DIRECTORY,
+                namePrefix
+        );
+    }
+
+    private static StoragePageRequest withStartAfter(StoragePageRequest pageRequest, String startAfter) {
+        return new StoragePageRequest(
+                pageRequest.limit(),
+                startAfter,
+                pageRequest.descending(),
+                pageRequest.includeFiles(),
+                pageRequest.includeDirectories(),
+                pageRequest.namePrefix()
+        );
+    }
+
+    private static String encodeCursor(String name) {
+        return CURSOR_ENCODER.encodeToString(name.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String decodeCursor(String cursor) {
+        var name = (String) null;
+
+        try {
+            name = new String(CURSOR_DECODER.decode(cursor), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException exception) {
+            throw new InvalidPageRequestException(INVALID_CURSOR_MESSAGE);
+        }
+
+        if (name.isEmpty() || PathUtil.trimLastSlash(name).contains(PathUtil.PATH_DELIMITER)) {
+            throw new InvalidPageRequestException(INVALID_CURSOR_MESSAGE);
+        }
+
+        return name;
     }
 
     public ResourceResponseDto createDirectory(UUID userId, String path) {
@@ -91,6 +238,8 @@ public class ResourceService {
 
         storageService.createDirectory(BucketName.USER_FILES, directoryPath);
 
+        storageUsageService.record(userId, 0, 1);
+
         var createdPath = StringUtils.defaultIfEmpty(
                 PathUtil.removeResourceName(path),
                 PathUtil.PATH_DELIMITER
@@ -108,37 +257,127 @@ public class ResourceService {
 
         var checkedDirectoriesPaths = new HashSet<String>();
 
+        storageUsageService.checkQuota(userId, files.stream().mapToLong(MultipartFile::getSize).sum());
+
         for (var file : files) {
             var filePath = Objects.requireNonNull(file.getOriginalFilename());
+            var createdDirectoriesInfo = prepareFileUpload(userFilesPath, filePath, checkedDirectoriesPaths);
+            uploadedResourcesInfo.addAll(createdDirectoriesInfo);
+        }
 
-            if (PathUtil.isFileName(filePath)) {
-                var fullFilePath = userFilesPath + filePath;
-                checkFileNotExists(fullFilePath);
-                validateObjectsConflict(fullFilePath);
-                continue;
-            }
+        try {
+            var uploadedFilesInfo = storageService.uploadFiles(BucketName.USER_FILES, userFilesPath, files);
+            uploadedResourcesInfo.addAll(uploadedFilesInfo);
+        } finally {
+            recordUpload(userId, uploadedResourcesInfo);
+        }
 
-            var rootDirectoryName = PathUtil.extractRootParentDirectoryName(filePath);
-            var rootDirectoryPath = userFilesPath + rootDirectoryName + PathUtil.PATH_DELIMITER;
+        return resourceMapper.toResourceResponseDtos(uploadedResourcesInfo);
+    }
 
-            if (!checkedDirectoriesPaths.contains(rootDirectoryPath)) {
-                var rootDirectoryInfo = createRootDirectory(rootDirectoryPath);
-                checkedDirectoriesPaths.add(rootDirectoryPath);
-                uploadedResourcesInfo.add(rootDirectoryInfo);
-            }
+    public List<ResourceResponseDto> uploadFileStreams(UUID userId, String path, HttpServletRequest request) {
+        var uploadedResourcesInfo = new ArrayList<StorageObjectInfo>();
 
-            var nestedDirectoriesInfo = createNestedDirectories(userFilesPath, filePath, checkedDirectoriesPaths);
+        var userFilesPath = getUserFilesPath(userId, path);
 
-            uploadedResourcesInfo.addAll(nestedDirectoriesInfo);
-        }
+        var checkedDirectoriesPaths = new HashSet<String>();
+
+        var streamedFilesPaths = new ArrayList<String>();
 
-        var uploadedFilesInfo = storageService.uploadFiles(BucketName.USER_FILES, userFilesPath, files);
+        storageUsageService.checkQuota(userId, Math.max(request.getContentLengthLong(), 0));
 
-        uploadedResourcesInfo.addAll(uploadedFilesInfo);
+        try {
+            multipartStreamReader.readFiles(request, FILES_PART_NAME, (filePath, inputStream) -> {
+                validateStreamedFilePath(filePath, streamedFilesPaths);
+                streamedFilesPaths.add(filePath);
+
+                var limitedInputStream = storageUsageService.limitToQuota(
+                        userId, sumSizes(uploadedResourcesInfo), inputStream
+                );
+
+                var createdDirectoriesInfo = prepareFileUpload(userFilesPath, filePath, checkedDirectoriesPaths);
+                uploadedResourcesInfo.addAll(createdDirectoriesInfo);
+
+                var uploadedFileInfo = storageService.uploadFile(
+                        BucketName.USER_FILES, userFilesPath + filePath, limitedInputStream
+                );
+
+                uploadedResourcesInfo.add(uploadedFileInfo);
+            });
+        } finally {
+            recordUpload(userId, uploadedResourcesInfo);
+        }
+
+        if (streamedFilesPaths.isEmpty()) {
+            throw new InvalidResourceFilesException("Required part '" + FILES_PART_NAME + "' is not present.");
+        }
 
         return resourceMapper.toResourceResponseDtos(uploadedResourcesInfo);
     }
 
+    private void recordUpload(UUID userId, List<StorageObjectInfo> uploadedResourcesInfo) {
+        storageUsageService.record(userId, sumSizes(uploadedResourcesInfo), uploadedResourcesInfo.size());
+    }
+
+    private static long sumSizes(List<StorageObjectInfo> objectsInfo) {
+        return objectsInfo.stream()
+                .mapToLong(StorageObjectInfo::size)
+                .sum();
+    }
+
+    private void validateStreamedFilePath(String filePath, List<String> streamedFilesPaths) {
+        if (StringUtils.isEmpty(filePath)) {
+            throw new InvalidResourceFilesException("File name must not be empty.");
+        }
+
+        ResourceFilesValidationUtil.findFilesCountViolation(streamedFilesPaths.size() + 1, filesCountLimit)
+                .ifPresent(this::throwInvalidResourceFiles);
+
+        if (!streamedFilesPaths.isEmpty()) {
+            var commonRootDirectoryName = ResourceFilesValidationUtil.extractCommonRootDirectoryName(
+                    streamedFilesPaths.getFirst()
+            );
+
+            ResourceFilesValidationUtil.findRootDirectoryViolation(filePath, commonRootDirectoryName)
+                    .ifPresent(this::throwInvalidResourceFiles);
+        }
+
+        ResourceFilesValidationUtil.findFilePathViolation(filePath)
+                .ifPresent(this::throwInvalidResourceFiles);
+    }
+
+    private void throwInvalidResourceFiles(String message) {
+        throw new InvalidResourceFilesException(message);
+    }
+
+    private List<StorageObjectInfo> prepareFileUpload(String userFilesPath, String filePath,
+                                                      Set<String> checkedDirectoriesPaths) {
+
+        if (PathUtil.isFileName(filePath)) {
+            var fullFilePath = userFilesPath + filePath;
+            checkFileNotExists(fullFilePath);
+            validateObjectsConflict(fullFilePath);
+            return List.of();
+        }
+
+        var createdDirectoriesInfo = new ArrayList<StorageObjectInfo>();
+
+        var rootDirectoryName = PathUtil.extractRootParentDirectoryName(filePath);
+        var rootDirectoryPath = userFilesPath + rootDirectoryName + PathUtil.PATH_DELIMITER;
+
+        if (!checkedDirectoriesPaths.contains(rootDirectoryPath)) {
+            var rootDirectoryInfo = createRootDirectory(rootDirectoryPath);
+            checkedDirectoriesPaths.add(rootDirectoryPath);
+            createdDirectoriesInfo.add(rootDirectoryInfo);
+        }
+
+        var nestedDirectoriesInfo = createNestedDirectories(userFilesPath, filePath, checkedDirectoriesPaths);
+
+        createdDirectoriesInfo.addAll(nestedDirectoriesInfo);
+
+        return createdDirectoriesInfo;
+    }
+
     private String getUserFilesPath(UUID userId, String path) {
         return PathUtil.isRootDirectory(path)
                 ? ResourcePathUtil.createUserResourcePath(userId)
@@ -189,24 +428,38 @@ public class ResourceService {
         return createdDirectoriesInfo;
     }
 
-    public StreamingResponseBody downloadResource(UUID userId, String path) {
+    public StreamingResponseBody downloadResource(UUID userId, String path, ZipCompression compression) {
         var resourcePath = ResourcePathUtil.createUserResourcePath(userId, path);
 
         if (PathUtil.isDirectory(path)) {
-            return downloadDirectory(resourcePath);
+            return downloadDirectory(resourcePath, compression);
         }
 
         return downloadFile(resourcePath);
     }
 
-    private StreamingResponseBody downloadDirectory(String path) {
+    public Optional<OperationResponseDto> submitArchiveOperation(UUID userId, String path, ZipCompression compression) {
+        if (!PathUtil.isDirectory(path)) {
+            return Optional.empty();
+        }
+
+        var directoryPath = ResourcePathUtil.createUserResourcePath(userId, path);
+
+        if (!storageService.directoryExists(BucketName.USER_FILES, directoryPath)) {
+            throw new ResourceNotFoundException(ResourceType.DIRECTORY);
+        }
+
+        return submitOperationIfLarge(userId, OperationType.ARCHIVE, directoryPath, null, compression);
+    }
+
+    private StreamingResponseBody downloadDirectory(String path, ZipCompression compression) {
         if (!storageService.directoryExists(BucketName.USER_FILES, path)) {
             throw new ResourceNotFoundException(ResourceType.DIRECTORY);
         }
 
         return outputStream -> {
             try (var zipOutputStream = new ZipOutputStream(outputStream)) {
-                storageService.downloadDirectory(BucketName.USER_FILES, path, zipOutputStream);
+                storageService.downloadDirectory(BucketName.USER_FILES, path, compression, zipOutputStream);
             }
         };
     }
@@ -223,6 +476,25 @@ public class ResourceService {
         };
     }
 
+    public FileDownloadInfoDto getFileDownloadInfo(UUID userId, String path) {
+        var filePath = ResourcePathUtil.createUserResourcePath(userId, path);
+
+        var fileInfo = storageService.findFileInfo(BucketName.USER_FILES, filePath)
+                .orElseThrow(() -> new ResourceNotFoundException(ResourceType.FILE));
+
+        return new FileDownloadInfoDto(fileInfo.size(), fileInfo.etag());
+    }
+
+    public StreamingResponseBody downloadFileRange(UUID userId, String path, long offset, long length) {
+        var filePath = ResourcePathUtil.createUserResourcePath(userId, path);
+
+        return outputStream -> {
+            try (var inputStream = storageService.downloadFile(BucketName.USER_FILES, filePath, offset, length)) {
+                inputStream.transferTo(outputStream);
+            }
+        };
+    }
+
     public ResourceResponseDto moveResource(UUID userId, String fromPath, String toPath) {
         var fromResourcePath = ResourcePathUtil.createUserResourcePath(userId, fromPath);
         var toResourcePath = ResourcePathUtil.createUserResourcePath(userId, toPath);
@@ -236,7 +508,36 @@ public class ResourceService {
         return moveFile(fromResourcePath, toResourcePath);
     }
 
+    public Optional<OperationResponseDto> submitMoveOperation(UUID userId, String fromPath, String toPath) {
+        if (!PathUtil.isDirectory(fromPath)) {
+            return Optional.empty();
+        }
+
+        var fromResourcePath = ResourcePathUtil.createUserResourcePath(userId, fromPath);
+        var toResourcePath = ResourcePathUtil.createUserResourcePath(userId, toPath);
+
+        validateObjectsConflict(toResourcePath);
+        validateDirectoryMove(fromResourcePath, toResourcePath);
+
+        return submitOperationIfLarge(userId, OperationType.MOVE, fromResourcePath, toResourcePath, null);
+    }
+
     private ResourceResponseDto moveDirectory(String fromPath, String toPath) {
+        validateDirectoryMove(fromPath, toPath);
+
+        storageService.moveDirectory(BucketName.USER_FILES, fromPath, toPath);
+
+        var directoryPath = ResourcePathUtil.removeUserFolder(toPath);
+
+        directoryPath = PathUtil.removeResourceName(directoryPath);
+        directoryPath = directoryPath.isEmpty() ? PathUtil.PATH_DELIMITER : directoryPath;
+
+        var directoryName = PathUtil.extractResourceName(toPath);
+
+        return new ResourceResponseDto(directoryPath, directoryName, null, ResourceType.DIRECTORY);
+    }
+
+    private void validateDirectoryMove(String fromPath, String toPath) {
         if (fromPath.equals(PathUtil.removeResourceName(toPath))) {
             throw new ResourceAlreadyExistsException("Can't move directory into itself.");
         }
@@ -247,17 +548,18 @@ public class ResourceService {
         if (storageService.directoryExists(BucketName.USER_FILES, toPath)) {
             throw new ResourceAlreadyExistsException(ResourceType.DIRECTORY);
         }
+    }
 
-        storageService.moveDirectory(BucketName.USER_FILES, fromPath, toPath);
+    private Optional<OperationResponseDto> submitOperationIfLarge(UUID userId, OperationType type, String sourcePath,
+                                                                  String targetPath, ZipCompression compression) {
 
-        var directoryPath = ResourcePathUtil.removeUserFolder(toPath);
-
-        directoryPath = PathUtil.removeResourceName(directoryPath);
-        directoryPath = directoryPath.isEmpty() ? PathUtil.PATH_DELIMITER : directoryPath;
+        if (!operationService.exceedsAsyncThreshold(BucketName.USER_FILES, sourcePath)) {
+            return Optional.empty();
+        }
 
-        var directoryName = PathUtil.extractResourceName(toPath);
+        var operationResponseDto = operationService.submit(userId, type, sourcePath, targetPath, compression);
 
-        return new ResourceResponseDto(directoryPath, directoryName, null, ResourceType.DIRECTORY);
+        return Optional.of(operationResponseDto);
     }
 
     private ResourceResponseDto moveFile(String fromPath, String toPath) {
@@ -290,18 +592,16 @@ public class ResourceService {
         return !fromFileExtension.equals(toFileExtension);
     }
 
-    public List<ResourceResponseDto> search(UUID userId, String query) {
+    public StreamingResponseBody search(UUID userId, String query, JsonStreamFormat format) {
         var path = ResourcePathUtil.createUserResourcePath(userId);
 
-        query = RegexpUtil.escapeSpecialCharacters(query);
-
-        var pattern = SEARCH_PATTERN_FORMAT.formatted(query);
-
-        var foundObjectsInfo = storageService.search(BucketName.USER_FILES, path, pattern);
-
-        foundObjectsInfo.removeIf(objectInfo -> ResourcePathUtil.isUserFolder(objectInfo.path()));
-
-        return resourceMapper.toResourceResponseDtos(foundObjectsInfo);
+        return jsonStreamWriter.<ResourceResponseDto>write(format, consumer ->
+                storageService.search(BucketName.USER_FILES, path, query, objectInfo -> {
+                    if (!ResourcePathUtil.isUserFolder(objectInfo.path())) {
+                        consumer.accept(resourceMapper.toResourceResponseDto(objectInfo));
+                    }
+                })
+        );
     }
 
     private void validateObjectsConflict(String path) {
@@ -0,0 +1,6 @@
+package ru.redeyed.cloudstorage.resource.dto;
+
+import java.util.List;
+
+public record DirectoryPageDto(List<ResourceResponseDto> resources, String nextCursor) {
+}
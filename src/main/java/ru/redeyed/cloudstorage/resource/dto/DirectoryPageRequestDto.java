@@ -0,0 +1,8 @@
+package ru.redeyed.cloudstorage.resource.dto;
+
+import ru.redeyed.cloudstorage.resource.DirectorySort;
+import ru.redeyed.cloudstorage.resource.ResourceType;
+
+public record DirectoryPageRequestDto(int limit, String cursor, DirectorySort sort, ResourceType type,
+                                      String namePrefix) {
+}
@@ -0,0 +1,4 @@
+package ru.redeyed.cloudstorage.resource.dto;
+
+public record FileDownloadInfoDto(long size, String etag) {
+}
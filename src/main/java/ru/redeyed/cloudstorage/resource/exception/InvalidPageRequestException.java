@@ -0,0 +1,8 @@
+package ru.redeyed.cloudstorage.resource.exception;
+
+public class InvalidPageRequestException extends RuntimeException {
+
+    public InvalidPageRequestException(String message) {
+        super(message);
+    }
+}
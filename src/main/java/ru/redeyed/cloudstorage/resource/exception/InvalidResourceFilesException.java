@@ -0,0 +1,8 @@
+package ru.redeyed.cloudstorage.resource.exception;
+
+public class InvalidResourceFilesException extends RuntimeException {
+
+    public InvalidResourceFilesException(String message) {
+        super(message);
+    }
+}
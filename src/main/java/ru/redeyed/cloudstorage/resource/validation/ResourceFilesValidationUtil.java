@@ -0,0 +1,84 @@
+package ru.redeyed.cloudstorage.resource.validation;
+
+import lombok.experimental.UtilityClass;
+import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.common.validation.ValidationUtil;
+import ru.redeyed.cloudstorage.resource.validation.validator.ResourcePathValidator;
+import java.util.Optional;
+import java.util.regex.Pattern;
+
+@UtilityClass
+public class ResourceFilesValidationUtil {
+
+    private static final Pattern FILE_PATH_PATTERN = Pattern.compile("^[^\\\\:*?\"<>|]+$");
+
+    public static Optional<String> findFilesCountViolation(int filesCount, int filesCountLimit) {
+        if (filesCount > filesCountLimit) {
+            return Optional.of("Too many files. Max - " + filesCountLimit + ".");
+        }
+
+        return Optional.empty();
+    }
+
+    public static String extractCommonRootDirectoryName(String filePath) {
+        return !PathUtil.isFileName(filePath)
+                ? PathUtil.extractRootParentDirectoryName(filePath)
+                : PathUtil.PATH_DELIMITER;
+    }
+
+    public static Optional<String> findRootDirectoryViolation(String filePath, String commonRootDirectoryName) {
+        if (PathUtil.isRootDirectory(commonRootDirectoryName)) {
+            return Optional.empty();
+        }
+
+        var rootDirectoryName = PathUtil.extractRootParentDirectoryName(filePath);
+
+        if (!rootDirectoryName.equals(commonRootDirectoryName)) {
+            return Optional.of("All files must have the same root directory.");
+        }
+
+        return Optional.empty();
+    }
+
+    public static Optional<String> findFilePathViolation(String filePath) {
+        var fileNameViolation = findFileNameViolation(filePath);
+
+        if (fileNameViolation.isPresent()) {
+            return fileNameViolation;
+        }
+
+        if (ValidationUtil.isStartWith(PathUtil.PATH_DELIMITER, filePath)) {
+            return Optional.of(filePath + " must not start with a '" + PathUtil.PATH_DELIMITER + "' .");
+        }
+
+        if (!ValidationUtil.checkMaxBytes(filePath, ResourcePathValidator.PATH_MAX_BYTES)) {
+            return Optional.of(filePath + " is too long.");
+        }
+
+        if (ValidationUtil.hasExtraSpaces(filePath)) {
+            return Optional.of(filePath + " has extra spaces.");
+        }
+
+        if (!ValidationUtil.patternMatches(FILE_PATH_PATTERN, filePath)) {
+            return Optional.of(filePath + " contains prohibited characters: \\:*?\"<>| .");
+        }
+
+        return Optional.empty();
+    }
+
+    private static Optional<String> findFileNameViolation(String filePath) {
+        var fileName = PathUtil.extractResourceName(filePath);
+
+        if (!ValidationUtil.checkMaxLength(fileName, ResourcePathValidator.RESOURCE_NAME_MAX_LENGTH)) {
+            var message = "%s filename is too long. Max - %d characters.";
+            return Optional.of(message.formatted(filePath, ResourcePathValidator.RESOURCE_NAME_MAX_LENGTH));
+        }
+
+        if (!ValidationUtil.checkMaxBytes(fileName, ResourcePathValidator.RESOURCE_NAME_MAX_BYTES)) {
+            var message = "%s filename is too big. Max - %d bytes.";
+            return Optional.of(message.formatted(filePath, ResourcePathValidator.RESOURCE_NAME_MAX_BYTES));
+        }
+
+        return Optional.empty();
+    }
+}
@@ -7,7 +7,11 @@ import lombok.RequiredArgsConstructor;
 @Getter
 public enum BucketName {
 
-    USER_FILES("user-files");
+    USER_FILES("user-files", true),
+    OPERATION_ARCHIVES("operation-archives", false),
+    BLOBS("blobs", false);
 
     private final String value;
+
+    private final boolean indexed;
 }
@@ -0,0 +1,4 @@
+package ru.redeyed.cloudstorage.s3;
+
+public record DirectorySummary(long objectsCount, long size) {
+}
@@ -1,9 +1,12 @@
 package ru.redeyed.cloudstorage.s3;
 
 import org.springframework.web.multipart.MultipartFile;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
+import ru.redeyed.cloudstorage.s3.move.MoveProgressListener;
 import java.io.InputStream;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import java.util.zip.ZipOutputStream;
 
 public interface SimpleStorageService {
@@ -14,17 +17,50 @@ public interface SimpleStorageService {
 
     List<StorageObjectInfo> getDirectoryObjectsInfo(BucketName bucketName, String path, boolean recursive);
 
+    StoragePage getDirectoryObjectsInfo(BucketName bucketName, String path, StoragePageRequest pageRequest);
+
+    long countDirectoryObjects(BucketName bucketName, String path);
+
+    default long countDirectoryObjects(BucketName bucketName, String path, long limit) {
+        return Math.min(countDirectoryObjects(bucketName, path), limit);
+    }
+
+    long getDirectorySize(BucketName bucketName, String path);
+
+    default DirectorySummary getDirectorySummary(BucketName bucketName, String path) {
+        if (!directoryExists(bucketName, path)) {
+            return new DirectorySummary(0, 0);
+        }
+
+        return new DirectorySummary(
+                countDirectoryObjects(bucketName, path) + 1, getDirectorySize(bucketName, path)
+        );
+    }
+
     List<StorageObjectInfo> uploadFiles(BucketName bucketName, String rootPath, List<MultipartFile> files);
 
+    StorageObjectInfo uploadFile(BucketName bucketName, String path, InputStream inputStream);
+
+    default void discardUploadedFiles(BucketName bucketName, List<StorageObjectInfo> filesInfo) {
+        filesInfo.forEach(fileInfo -> removeFile(bucketName, fileInfo.path()));
+    }
+
     StorageObjectInfo createDirectory(BucketName bucketName, String path);
 
     InputStream downloadFile(BucketName bucketName, String path);
 
-    void downloadDirectory(BucketName bucketName, String path, ZipOutputStream zipOutputStream);
+    InputStream downloadFile(BucketName bucketName, String path, long offset, long length);
+
+    void downloadDirectory(BucketName bucketName, String path, ZipCompression compression,
+                           ZipOutputStream zipOutputStream);
 
     void moveFile(BucketName bucketName, String oldPath, String newPath);
 
-    void moveDirectory(BucketName bucketName, String oldPath, String newPath);
+    default void moveDirectory(BucketName bucketName, String oldPath, String newPath) {
+        moveDirectory(bucketName, oldPath, newPath, MoveProgressListener.NONE);
+    }
+
+    void moveDirectory(BucketName bucketName, String oldPath, String newPath, MoveProgressListener listener);
 
     void removeFile(BucketName bucketName, String path);
 
@@ -34,5 +70,5 @@ public interface SimpleStorageService {
 
     boolean directoryExists(BucketName bucketName, String path);
 
-    List<StorageObjectInfo> search(BucketName bucketName, String path, String pattern);
+    void search(BucketName bucketName, String path, String query, Consumer<StorageObjectInfo> consumer);
 }
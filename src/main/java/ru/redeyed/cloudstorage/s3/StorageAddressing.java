@@ -0,0 +1,8 @@
+package ru.redeyed.cloudstorage.s3;
+
+public enum StorageAddressing {
+
+    PATH,
+    IMMUTABLE_ID,
+    CONTENT_HASH
+}
@@ -0,0 +1,8 @@
+package ru.redeyed.cloudstorage.s3;
+
+public enum StorageBackend {
+
+    MINIO,
+    FILESYSTEM,
+    MEMORY
+}
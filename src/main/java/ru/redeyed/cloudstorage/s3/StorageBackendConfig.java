@@ -0,0 +1,61 @@
+package ru.redeyed.cloudstorage.s3;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import ru.redeyed.cloudstorage.s3.blob.BlobBackedStorageService;
+import ru.redeyed.cloudstorage.s3.local.LocalFileSystemStorageService;
+import ru.redeyed.cloudstorage.s3.memory.InMemoryStorageService;
+import ru.redeyed.cloudstorage.s3.metrics.MeteredStorageService;
+import ru.redeyed.cloudstorage.s3.metrics.StorageLayer;
+import ru.redeyed.cloudstorage.s3.minio.MinioStorageService;
+import ru.redeyed.cloudstorage.s3.trace.MinioTraceConfigProperties;
+
+@Configuration
+public class StorageBackendConfig {
+
+    @Bean
+    public SimpleStorageService objectStorageService(
+            StorageConfigProperties storageConfigProperties,
+            ObjectProvider<MinioStorageService> minioStorageService,
+            ObjectProvider<LocalFileSystemStorageService> localFileSystemStorageService,
+            ObjectProvider<InMemoryStorageService> inMemoryStorageService,
+            MeterRegistry meterRegistry
+    ) {
+        SimpleStorageService storageService = switch (storageConfigProperties.backend()) {
+            case MINIO -> minioStorageService.getObject();
+            case FILESYSTEM -> localFileSystemStorageService.getObject();
+            case MEMORY -> inMemoryStorageService.getObject();
+        };
+
+        return new MeteredStorageService(storageService, StorageLayer.BACKEND, meterRegistry);
+    }
+
+    @Bean
+    public SimpleStorageService backendStorageService(
+            StorageConfigProperties storageConfigProperties,
+            @Qualifier("objectStorageService") SimpleStorageService objectStorageService,
+            BlobBackedStorageService blobBackedStorageService
+    ) {
+        return storageConfigProperties.addressing() == StorageAddressing.PATH
+                ? objectStorageService
+                : blobBackedStorageService;
+    }
+
+    @Bean
+    @Primary
+    public SimpleStorageService meteredStorageService(
+            @Qualifier("cachingStorageService") SimpleStorageService cachingStorageService,
+            StorageConfigProperties storageConfigProperties,
+            MinioTraceConfigProperties minioTraceConfigProperties,
+            MeterRegistry meterRegistry
+    ) {
+        var s3CallsTraced = storageConfigProperties.backend() == StorageBackend.MINIO
+                && minioTraceConfigProperties.enabled();
+
+        return new MeteredStorageService(cachingStorageService, StorageLayer.SERVICE, meterRegistry, s3CallsTraced);
+    }
+}
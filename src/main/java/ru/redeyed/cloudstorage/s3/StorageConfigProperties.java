@@ -0,0 +1,7 @@
+package ru.redeyed.cloudstorage.s3;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "storage")
+public record StorageConfigProperties(StorageBackend backend, StorageAddressing addressing, boolean migrateOnStartup) {
+}
@@ -1,4 +1,9 @@
 package ru.redeyed.cloudstorage.s3;
 
-public record StorageObjectInfo(String path, String name, long size, boolean isDirectory) {
+public record StorageObjectInfo(String path, String name, long size, boolean isDirectory, String etag,
+                                String blobId) {
+
+    public StorageObjectInfo(String path, String name, long size, boolean isDirectory, String etag) {
+        this(path, name, size, isDirectory, etag, null);
+    }
 }
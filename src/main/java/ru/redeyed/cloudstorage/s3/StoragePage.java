@@ -0,0 +1,14 @@
+package ru.redeyed.cloudstorage.s3;
+
+import java.util.List;
+
+public record StoragePage(List<StorageObjectInfo> objectsInfo, boolean hasNext) {
+
+    public static StoragePage of(List<StorageObjectInfo> objectsInfo, int limit) {
+        if (objectsInfo.size() <= limit) {
+            return new StoragePage(objectsInfo, false);
+        }
+
+        return new StoragePage(objectsInfo.subList(0, limit), true);
+    }
+}
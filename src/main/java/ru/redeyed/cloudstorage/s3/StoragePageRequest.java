@@ -0,0 +1,5 @@
+package ru.redeyed.cloudstorage.s3;
+
+public record StoragePageRequest(int limit, String startAfter, boolean descending, boolean includeFiles,
+                                 boolean includeDirectories, String namePrefix) {
+}
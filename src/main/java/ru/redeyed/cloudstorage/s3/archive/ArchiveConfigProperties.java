@@ -0,0 +1,17 @@
+package ru.redeyed.cloudstorage.s3.archive;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "storage.archive")
+public record ArchiveConfigProperties(
+
+        int prefetchDepth,
+
+        int prefetchConcurrency,
+
+        DataSize prefetchMemoryLimit,
+
+        DataSize maxPrefetchObjectSize
+) {
+}
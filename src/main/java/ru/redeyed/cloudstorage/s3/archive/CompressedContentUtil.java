@@ -0,0 +1,64 @@
+package ru.redeyed.cloudstorage.s3.archive;
+
+import lombok.experimental.UtilityClass;
+import ru.redeyed.cloudstorage.common.util.FileExtension;
+import ru.redeyed.cloudstorage.common.util.PathUtil;
+import java.util.List;
+
+@UtilityClass
+public class CompressedContentUtil {
+
+    private static final List<Signature> SIGNATURES = List.of(
+            new Signature(0, 0xFF, 0xD8, 0xFF),
+            new Signature(0, 0x89, 'P', 'N', 'G'),
+            new Signature(0, 'G', 'I', 'F', '8'),
+            new Signature(8, 'W', 'E', 'B', 'P'),
+            new Signature(4, 'f', 't', 'y', 'p'),
+            new Signature(0, 0x1A, 0x45, 0xDF, 0xA3),
+            new Signature(0, 'I', 'D', '3'),
+            new Signature(0, 'O', 'g', 'g', 'S'),
+            new Signature(0, 'f', 'L', 'a', 'C'),
+            new Signature(0, 'P', 'K', 0x03, 0x04),
+            new Signature(0, 0x1F, 0x8B),
+            new Signature(0, 'B', 'Z', 'h'),
+            new Signature(0, 0xFD, '7', 'z', 'X', 'Z', 0x00),
+            new Signature(0, 0x28, 0xB5, 0x2F, 0xFD),
+            new Signature(0, '7', 'z', 0xBC, 0xAF, 0x27, 0x1C),
+            new Signature(0, 'R', 'a', 'r', '!')
+    );
+
+    public static boolean isCompressed(String path) {
+        return FileExtension.isCompressed(PathUtil.extractFileExtension(path));
+    }
+
+    public static boolean isCompressed(String path, byte[] content) {
+        if (isCompressed(path)) {
+            return true;
+        }
+
+        for (var signature : SIGNATURES) {
+            if (signature.matches(content)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private record Signature(int offset, int... bytes) {
+
+        boolean matches(byte[] content) {
+            if (content.length < offset + bytes.length) {
+                return false;
+            }
+
+            for (var index = 0; index < bytes.length; index++) {
+                if ((content[offset + index] & 0xFF) != bytes[index]) {
+                    return false;
+                }
+            }
+
+            return true;
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package ru.redeyed.cloudstorage.s3.archive;
+
+import jakarta.annotation.PreDestroy;
+import lombok.SneakyThrows;
+import org.springframework.stereotype.Component;
+import ru.redeyed.cloudstorage.common.concurrent.ExecutorFactory;
+import ru.redeyed.cloudstorage.common.util.PathUtil;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.ArrayDeque;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+@Component
+public class PrefetchingZipWriter {
+
+    private static final String EXECUTOR_NAME = "zip-prefetch";
+
+    private final ExecutorService executor;
+
+    private final int prefetchDepth;
+
+    private final long prefetchMemoryLimit;
+
+    private final long maxPrefetchObjectSize;
+
+    public PrefetchingZipWriter(ArchiveConfigProperties archiveConfigProperties, ExecutorFactory executorFactory) {
+        this.executor = executorFactory.newTaskExecutor(
+                EXECUTOR_NAME, archiveConfigProperties.prefetchConcurrency()
+        );
+        this.prefetchDepth = Math.max(archiveConfigProperties.prefetchDepth(), 1);
+        this.prefetchMemoryLimit = archiveConfigProperties.prefetchMemoryLimit().toBytes();
+        this.maxPrefetchObjectSize = Math.min(
+                archiveConfigProperties.maxPrefetchObjectSize().toBytes(), prefetchMemoryLimit
+        );
+    }
+
+    @SneakyThrows
+    public void write(List<ZipSource> sources, Function<String, InputStream> objectOpener,
+                      ZipCompression compression, ZipOutputStream zipOutputStream) {
+
+        var prefetches = new ArrayDeque<Prefetch>();
+
+        var nextToSchedule = 0;
+        var reservedBytes = 0L;
+
+        try {
+            for (var index = 0; index < sources.size(); index++) {
+                while (nextToSchedule < sources.size() && nextToSchedule < index + prefetchDepth) {
+                    var source = sources.get(nextToSchedule);
+
+                    if (!isPrefetchable(source)) {
+                        nextToSchedule++;
+                        continue;
+                    }
+
+                    if (reservedBytes + source.size() > prefetchMemoryLimit) {
+                        break;
+                    }
+
+                    var content = executor.submit(() -> readAllBytes(objectOpener, source));
+
+                    prefetches.add(new Prefetch(nextToSchedule, content));
+                    reservedBytes += source.size();
+                    nextToSchedule++;
+                }
+
+                var source = sources.get(index);
+
+                if (!prefetches.isEmpty() && prefetches.peek().index() == index) {
+                    var prefetch = prefetches.poll();
+                    writeBufferedEntry(source, getResult(prefetch.content()), compression, zipOutputStream);
+                    reservedBytes -= source.size();
+
+                } else if (PathUtil.isDirectory(source.path())) {
+                    zipOutputStream.putNextEntry(new ZipEntry(source.entryName()));
+                    zipOutputStream.closeEntry();
+
+                } else {
+                    writeStreamedEntry(source, objectOpener, compression, zipOutputStream);
+                }
+            }
+        } finally {
+            prefetches.forEach(prefetch -> prefetch.content().cancel(true));
+        }
+    }
+
+    private static void writeBufferedEntry(ZipSource source, byte[] content, ZipCompression compression,
+                                           ZipOutputStream zipOutputStream) throws IOException {
+
+        var zipEntry = new ZipEntry(source.entryName());
+
+        if (compression == ZipCompression.NONE || CompressedContentUtil.isCompressed(source.path(), content)) {
+            var crc = new CRC32();
+            crc.update(content);
+
+            zipEntry.setMethod(ZipEntry.STORED);
+            zipEntry.setSize(content.length);
+            zipEntry.setCompressedSize(content.length);
+            zipEntry.setCrc(crc.getValue());
+        } else {
+            zipEntry.setMethod(ZipEntry.DEFLATED);
+            zipOutputStream.setLevel(compression.getDeflateLevel());
+        }
+
+        zipOutputStream.putNextEntry(zipEntry);
+        zipOutputStream.write(content);
+        zipOutputStream.closeEntry();
+    }
+
+    private static void writeStreamedEntry(ZipSource source, Function<String, InputStream> objectOpener,
+                                           ZipCompression compression, ZipOutputStream zipOutputStream)
+            throws IOException {
+
+        var deflateLevel = CompressedContentUtil.isCompressed(source.path())
+                ? Deflater.NO_COMPRESSION
+                : compression.getDeflateLevel();
+
+        var zipEntry = new ZipEntry(source.entryName());
+        zipEntry.setMethod(ZipEntry.DEFLATED);
+
+        zipOutputStream.setLevel(deflateLevel);
+        zipOutputStream.putNextEntry(zipEntry);
+
+        try (var inputStream = objectOpener.apply(source.path())) {
+            inputStream.transferTo(zipOutputStream);
+        }
+
+        zipOutputStream.closeEntry();
+    }
+
+    private boolean isPrefetchable(ZipSource source) {
+        return !PathUtil.isDirectory(source.path()) && source.size() <= maxPrefetchObjectSize;
+    }
+
+    @SneakyThrows
+    private static byte[] readAllBytes(Function<String, InputStream> objectOpener, ZipSource source) {
+        try (var inputStream = objectOpener.apply(source.path())) {
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private static byte[] getResult(Future<byte[]> content) throws Throwable {
+        try {
+            return content.get();
+        } catch (ExecutionException exception) {
+            throw exception.getCause();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record Prefetch(int index, Future<byte[]> content) {
+    }
+}
@@ -0,0 +1,16 @@
+package ru.redeyed.cloudstorage.s3.archive;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import java.util.zip.Deflater;
+
+@RequiredArgsConstructor
+@Getter
+public enum ZipCompression {
+
+    ADAPTIVE(Deflater.DEFAULT_COMPRESSION),
+    FASTEST(Deflater.BEST_SPEED),
+    NONE(Deflater.NO_COMPRESSION);
+
+    private final int deflateLevel;
+}
@@ -0,0 +1,4 @@
+package ru.redeyed.cloudstorage.s3.archive;
+
+public record ZipSource(String entryName, String path, long size) {
+}
@@ -0,0 +1,29 @@
+package ru.redeyed.cloudstorage.s3.blob;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+
+@Entity
+@Table(name = "blobs")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Getter
+public class Blob {
+
+    @Id
+    private String id;
+
+    private long size;
+
+    private long refCount;
+
+    private Instant updatedAt;
+}
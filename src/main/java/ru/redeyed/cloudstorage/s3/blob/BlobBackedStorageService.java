@@ -0,0 +1,386 @@
+package ru.redeyed.cloudstorage.s3.blob;
+
+import lombok.SneakyThrows;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Lazy;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.common.util.ResourcePath;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.DirectorySummary;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import ru.redeyed.cloudstorage.s3.StorageAddressing;
+import ru.redeyed.cloudstorage.s3.StorageConfigProperties;
+import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import ru.redeyed.cloudstorage.s3.StoragePage;
+import ru.redeyed.cloudstorage.s3.StoragePageRequest;
+import ru.redeyed.cloudstorage.s3.archive.PrefetchingZipWriter;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
+import ru.redeyed.cloudstorage.s3.archive.ZipSource;
+import ru.redeyed.cloudstorage.s3.move.MoveProgressListener;
+import ru.redeyed.cloudstorage.s3.upload.UploadExecutor;
+import ru.redeyed.cloudstorage.s3.upload.UploadTask;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+import java.util.zip.ZipOutputStream;
+
+@Component
+public class BlobBackedStorageService implements SimpleStorageService {
+
+    private static final String HASH_ALGORITHM = "SHA-256";
+
+    private static final String TEMP_FILE_PREFIX = "blob-";
+
+    private static final int BLOB_PATH_PREFIX_LENGTH = 2;
+
+    private static final long UNKNOWN_FILE_SIZE = -1;
+
+    private final SimpleStorageService objectStorageService;
+
+    private final SimpleStorageService indexedStorageService;
+
+    private final BlobRepository blobRepository;
+
+    private final PrefetchingZipWriter prefetchingZipWriter;
+
+    private final UploadExecutor uploadExecutor;
+
+    private final StorageAddressing addressing;
+
+    public BlobBackedStorageService(@Qualifier("objectStorageService") SimpleStorageService objectStorageService,
+                                    @Lazy @Qualifier("indexedStorageService")
+                                    SimpleStorageService indexedStorageService,
+                                    BlobRepository blobRepository,
+                                    PrefetchingZipWriter prefetchingZipWriter,
+                                    UploadExecutor uploadExecutor,
+                                    StorageConfigProperties storageConfigProperties) {
+
+        this.objectStorageService = objectStorageService;
+        this.indexedStorageService = indexedStorageService;
+        this.blobRepository = blobRepository;
+        this.prefetchingZipWriter = prefetchingZipWriter;
+        this.uploadExecutor = uploadExecutor;
+        this.addressing = storageConfigProperties.addressing();
+    }
+
+    public static String getBlobPath(String blobId) {
+        return blobId.substring(0, BLOB_PATH_PREFIX_LENGTH) + PathUtil.PATH_DELIMITER + blobId;
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> findFileInfo(BucketName bucketName, String path) {
+        return indexedStorageService.findFileInfo(bucketName, path);
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> findDirectoryInfo(BucketName bucketName, String path) {
+        return indexedStorageService.findDirectoryInfo(bucketName, path);
+    }
+
+    @Override
+    public List<StorageObjectInfo> getDirectoryObjectsInfo(BucketName bucketName, String path, boolean recursive) {
+        return indexedStorageService.getDirectoryObjectsInfo(bucketName, path, recursive);
+    }
+
+    @Override
+    public StoragePage getDirectoryObjectsInfo(BucketName bucketName, String path, StoragePageRequest pageRequest) {
+        return indexedStorageService.getDirectoryObjectsInfo(bucketName, path, pageRequest);
+    }
+
+    @Override
+    public long countDirectoryObjects(BucketName bucketName, String path) {
+        return indexedStorageService.countDirectoryObjects(bucketName, path);
+    }
+
+    @Override
+    public long countDirectoryObjects(BucketName bucketName, String path, long limit) {
+        return indexedStorageService.countDirectoryObjects(bucketName, path, limit);
+    }
+
+    @Override
+    public long getDirectorySize(BucketName bucketName, String path) {
+        return indexedStorageService.getDirectorySize(bucketName, path);
+    }
+
+    @Override
+    public DirectorySummary getDirectorySummary(BucketName bucketName, String path) {
+        return indexedStorageService.getDirectorySummary(bucketName, path);
+    }
+
+    @Override
+    public List<StorageObjectInfo> uploadFiles(BucketName bucketName, String rootPath, List<MultipartFile> files) {
+        var uploadTasks = new ArrayList<UploadTask<StorageObjectInfo>>();
+
+        for (var file : files) {
+            var path = rootPath + file.getOriginalFilename();
+
+            uploadTasks.add(new UploadTask<>(file.getSize(), () -> storeFile(path, file)));
+        }
+
+        return executeUploads(rootPath, uploadTasks);
+    }
+
+    @Override
+    public StorageObjectInfo uploadFile(BucketName bucketName, String path, InputStream inputStream) {
+        var uploadTask = new UploadTask<StorageObjectInfo>(UNKNOWN_FILE_SIZE, () -> storeStream(path, inputStream));
+
+        return executeUploads(path, List.of(uploadTask)).getFirst();
+    }
+
+    private StorageObjectInfo storeFile(String path, MultipartFile file) throws Exception {
+        var blobId = UUID.randomUUID().toString();
+
+        if (addressing == StorageAddressing.CONTENT_HASH) {
+            try (var inputStream = file.getInputStream()) {
+                blobId = hash(inputStream);
+            }
+        }
+
+        storeBlob(blobId, file.getSize(), file::getInputStream);
+
+        return toFileInfo(path, file.getSize(), blobId);
+    }
+
+    private StorageObjectInfo storeStream(String path, InputStream inputStream) throws Exception {
+        if (addressing != StorageAddressing.CONTENT_HASH) {
+            var blobId = UUID.randomUUID().toString();
+
+            blobRepository.acquire(blobId, 0, Instant.now());
+
+            try {
+                var blobInfo = objectStorageService.uploadFile(BucketName.BLOBS, getBlobPath(blobId), inputStream);
+
+                blobRepository.updateSize(blobId, blobInfo.size());
+
+                return toFileInfo(path, blobInfo.size(), blobId);
+            } catch (Exception exception) {
+                blobRepository.release(blobId, 1, Instant.now());
+                throw exception;
+            }
+        }
+
+        var tempFile = Files.createTempFile(TEMP_FILE_PREFIX, null);
+
+        try {
+            var messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+
+            try (var outputStream = Files.newOutputStream(tempFile)) {
+                new DigestInputStream(inputStream, messageDigest).transferTo(outputStream);
+            }
+
+            var blobId = HexFormat.of().formatHex(messageDigest.digest());
+            var size = Files.size(tempFile);
+
+            storeBlob(blobId, size, () -> Files.newInputStream(tempFile));
+
+            return toFileInfo(path, size, blobId);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+    }
+
+    @SneakyThrows
+    private List<StorageObjectInfo> executeUploads(String path, List<UploadTask<StorageObjectInfo>> uploadTasks) {
+        var owner = PathUtil.extractRootParentDirectoryName(path);
+
+        var uploadOutcomes = uploadExecutor.invokeAll(owner, uploadTasks);
+
+        var uploadedFilesInfo = new ArrayList<StorageObjectInfo>();
+        var failure = (Throwable) null;
+
+        for (var uploadOutcome : uploadOutcomes) {
+            if (uploadOutcome.succeeded()) {
+                uploadedFilesInfo.add(uploadOutcome.result());
+            } else if (failure == null) {
+                failure = uploadOutcome.failure();
+            }
+        }
+
+        if (failure != null) {
+            releaseBlobs(uploadedFilesInfo);
+            throw failure;
+        }
+
+        return uploadedFilesInfo;
+    }
+
+    private void storeBlob(String blobId, long size, BlobContent content) throws Exception {
+        blobRepository.acquire(blobId, size, Instant.now());
+
+        var blobPath = getBlobPath(blobId);
+        var deduplicated = addressing == StorageAddressing.CONTENT_HASH;
+
+        try {
+            if (deduplicated && objectStorageService.fileExists(BucketName.BLOBS, blobPath)) {
+                return;
+            }
+
+            try (var inputStream = content.open()) {
+                objectStorageService.uploadFile(BucketName.BLOBS, blobPath, inputStream);
+            }
+        } catch (Exception exception) {
+            blobRepository.release(blobId, 1, Instant.now());
+            throw exception;
+        }
+    }
+
+    @Override
+    public void discardUploadedFiles(BucketName bucketName, List<StorageObjectInfo> filesInfo) {
+        releaseBlobs(filesInfo);
+    }
+
+    @Override
+    public StorageObjectInfo createDirectory(BucketName bucketName, String path) {
+        var directoryName = PathUtil.extractResourceName(path);
+        return new StorageObjectInfo(path, directoryName, 0, true, null);
+    }
+
+    @Override
+    public InputStream downloadFile(BucketName bucketName, String path) {
+        var location = locate(bucketName, getFileInfo(bucketName, path));
+        return objectStorageService.downloadFile(location.bucketName(), location.path());
+    }
+
+    @Override
+    public InputStream downloadFile(BucketName bucketName, String path, long offset, long length) {
+        var location = locate(bucketName, getFileInfo(bucketName, path));
+        return objectStorageService.downloadFile(location.bucketName(), location.path(), offset, length);
+    }
+
+    @Override
+    public void downloadDirectory(BucketName bucketName, String path, ZipCompression compression,
+                                  ZipOutputStream zipOutputStream) {
+
+        var entryNameIndex = ResourcePath.of(path).nameIndex();
+
+        var zipSources = new ArrayList<ZipSource>();
+        var filesInfo = new HashMap<String, StorageObjectInfo>();
+
+        zipSources.add(new ZipSource(path.substring(entryNameIndex), path, 0));
+
+        for (var objectInfo : indexedStorageService.getDirectoryObjectsInfo(bucketName, path, true)) {
+            var entryName = objectInfo.path().substring(entryNameIndex);
+
+            zipSources.add(new ZipSource(entryName, objectInfo.path(), objectInfo.size()));
+
+            if (!objectInfo.isDirectory()) {
+                filesInfo.put(objectInfo.path(), objectInfo);
+            }
+        }
+
+        prefetchingZipWriter.write(zipSources, objectPath -> {
+            var location = locate(bucketName, filesInfo.get(objectPath));
+            return objectStorageService.downloadFile(location.bucketName(), location.path());
+        }, compression, zipOutputStream);
+    }
+
+    @Override
+    public void moveFile(BucketName bucketName, String oldPath, String newPath) {
+        if (!isBlob(getFileInfo(bucketName, oldPath))) {
+            objectStorageService.moveFile(bucketName, oldPath, newPath);
+        }
+    }
+
+    @Override
+    public void moveDirectory(BucketName bucketName, String oldPath, String newPath, MoveProgressListener listener) {
+        if (objectStorageService.directoryExists(bucketName, oldPath)) {
+            objectStorageService.moveDirectory(bucketName, oldPath, newPath, listener);
+        }
+    }
+
+    @Override
+    public void removeFile(BucketName bucketName, String path) {
+        var fileInfo = indexedStorageService.findFileInfo(bucketName, path);
+
+        if (fileInfo.isEmpty()) {
+            return;
+        }
+
+        if (!isBlob(fileInfo.get()) || blobRepository.release(fileInfo.get().blobId(), 1, Instant.now()) == 0) {
+            objectStorageService.removeFile(bucketName, path);
+        }
+    }
+
+    @Override
+    public void removeDirectory(BucketName bucketName, String path) {
+        releaseBlobs(indexedStorageService.getDirectoryObjectsInfo(bucketName, path, true));
+
+        objectStorageService.removeDirectory(bucketName, path);
+    }
+
+    @Override
+    public boolean fileExists(BucketName bucketName, String path) {
+        return indexedStorageService.fileExists(bucketName, path);
+    }
+
+    @Override
+    public boolean directoryExists(BucketName bucketName, String path) {
+        return indexedStorageService.directoryExists(bucketName, path);
+    }
+
+    @Override
+    public void search(BucketName bucketName, String path, String query, Consumer<StorageObjectInfo> consumer) {
+        indexedStorageService.search(bucketName, path, query, consumer);
+    }
+
+    private StorageObjectInfo getFileInfo(BucketName bucketName, String path) {
+        return indexedStorageService.findFileInfo(bucketName, path).orElseThrow();
+    }
+
+    private BlobLocation locate(BucketName bucketName, StorageObjectInfo fileInfo) {
+        if (isBlob(fileInfo)) {
+            return new BlobLocation(BucketName.BLOBS, getBlobPath(fileInfo.blobId()));
+        }
+
+        return new BlobLocation(bucketName, fileInfo.path());
+    }
+
+    private void releaseBlobs(List<StorageObjectInfo> objectsInfo) {
+        var referencesCounts = objectsInfo.stream()
+                .filter(this::isBlob)
+                .collect(Collectors.groupingBy(StorageObjectInfo::blobId, Collectors.counting()));
+
+        var now = Instant.now();
+
+        referencesCounts.forEach((blobId, count) -> blobRepository.release(blobId, count, now));
+    }
+
+    private boolean isBlob(StorageObjectInfo fileInfo) {
+        return fileInfo.blobId() != null;
+    }
+
+    @SneakyThrows
+    private static String hash(InputStream inputStream) {
+        var messageDigest = MessageDigest.getInstance(HASH_ALGORITHM);
+
+        new DigestInputStream(inputStream, messageDigest).transferTo(OutputStream.nullOutputStream());
+
+        return HexFormat.of().formatHex(messageDigest.digest());
+    }
+
+    private static StorageObjectInfo toFileInfo(String path, long size, String blobId) {
+        return new StorageObjectInfo(path, PathUtil.extractResourceName(path), size, false, blobId, blobId);
+    }
+
+    private record BlobLocation(BucketName bucketName, String path) {
+    }
+
+    @FunctionalInterface
+    private interface BlobContent {
+
+        InputStream open() throws Exception;
+    }
+}
@@ -0,0 +1,8 @@
+package ru.redeyed.cloudstorage.s3.blob;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "storage.blob")
+public record BlobConfigProperties(Duration sweepGracePeriod, int sweepBatchSize) {
+}
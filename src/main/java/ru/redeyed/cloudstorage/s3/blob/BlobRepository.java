@@ -0,0 +1,46 @@
+package ru.redeyed.cloudstorage.s3.blob;
+
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface BlobRepository extends JpaRepository<Blob, String> {
+
+    @Transactional
+    @Modifying
+    @Query(nativeQuery = true, value = """
+            insert into blobs (id, size, ref_count, updated_at)
+            values (:id, :size, 1, :now)
+            on conflict (id) do update
+            set ref_count = blobs.ref_count + 1, updated_at = :now
+            """)
+    void acquire(@Param("id") String id, @Param("size") long size, @Param("now") Instant now);
+
+    @Transactional
+    @Modifying
+    @Query("update Blob b set b.size = :size where b.id = :id")
+    void updateSize(@Param("id") String id, @Param("size") long size);
+
+    @Transactional
+    @Modifying
+    @Query("update Blob b set b.refCount = b.refCount - :count, b.updatedAt = :now where b.id = :id")
+    int release(@Param("id") String id, @Param("count") long count, @Param("now") Instant now);
+
+    @Query("select b.id from Blob b where b.refCount <= 0 and b.updatedAt < :threshold order by b.updatedAt")
+    List<String> findUnreferencedIds(@Param("threshold") Instant threshold, Limit limit);
+
+    @Query(nativeQuery = true, value = """
+            select * from blobs
+            where id = :id and ref_count <= 0 and updated_at < :threshold
+            for update skip locked
+            """)
+    Optional<Blob> lockUnreferenced(@Param("id") String id, @Param("threshold") Instant threshold);
+}
@@ -0,0 +1,61 @@
+package ru.redeyed.cloudstorage.s3.blob;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import java.time.Instant;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class BlobSweeper {
+
+    @Qualifier("objectStorageService")
+    private final SimpleStorageService blobStorageService;
+
+    private final BlobRepository blobRepository;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final BlobConfigProperties properties;
+
+    @Scheduled(cron = "${storage.blob.sweep-cron}")
+    public void sweep() {
+        var threshold = Instant.now().minus(properties.sweepGracePeriod());
+        var limit = Limit.of(properties.sweepBatchSize());
+
+        var sweptCount = 0L;
+        var batchSweptCount = 0L;
+
+        do {
+            var ids = blobRepository.findUnreferencedIds(threshold, limit);
+
+            batchSweptCount = ids.stream()
+                    .filter(id -> Boolean.TRUE.equals(transactionTemplate.execute(status -> sweep(id, threshold))))
+                    .count();
+
+            sweptCount += batchSweptCount;
+        } while (batchSweptCount == properties.sweepBatchSize());
+
+        log.info("Blob sweep finished, {} unreferenced blobs removed", sweptCount);
+    }
+
+    private boolean sweep(String id, Instant threshold) {
+        var blob = blobRepository.lockUnreferenced(id, threshold);
+
+        if (blob.isEmpty()) {
+            return false;
+        }
+
+        blobStorageService.removeFile(BucketName.BLOBS, BlobBackedStorageService.getBlobPath(id));
+        blobRepository.delete(blob.get());
+
+        return true;
+    }
+}
@@ -0,0 +1,299 @@
+package ru.redeyed.cloudstorage.s3.cache;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.multipart.MultipartFile;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.DirectorySummary;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import ru.redeyed.cloudstorage.s3.StoragePage;
+import ru.redeyed.cloudstorage.s3.StoragePageRequest;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
+import ru.redeyed.cloudstorage.s3.move.MoveProgressListener;
+import java.io.InputStream;
+import java.time.Clock;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.ZipOutputStream;
+
+@Component
+public class CachingStorageService implements SimpleStorageService {
+
+    private static final String CACHE_REQUESTS_METRIC = "storage.cache.requests";
+    private static final String CACHE_SIZE_METRIC = "storage.cache.size";
+
+    private static final String LAYER_TAG = "layer";
+    private static final String RESULT_TAG = "result";
+
+    private static final String HIT = "hit";
+    private static final String MISS = "miss";
+
+    private final SimpleStorageService storageService;
+
+    private final MeterRegistry meterRegistry;
+
+    private final StorageObjectCache sharedCache;
+
+    public CachingStorageService(@Qualifier("indexedStorageService") SimpleStorageService storageService,
+                                 StorageCacheConfigProperties storageCacheConfigProperties,
+                                 MeterRegistry meterRegistry) {
+
+        this.storageService = storageService;
+        this.meterRegistry = meterRegistry;
+        this.sharedCache = createSharedCache(storageCacheConfigProperties.shared());
+
+        if (sharedCache != null) {
+            Gauge.builder(CACHE_SIZE_METRIC, sharedCache, StorageObjectCache::size)
+                    .tag(LAYER_TAG, StorageCacheLayer.SHARED.getValue())
+                    .register(meterRegistry);
+        }
+    }
+
+    private static StorageObjectCache createSharedCache(StorageCacheConfigProperties.SharedCacheProperties properties) {
+        if (properties == null || !properties.enabled()) {
+            return null;
+        }
+
+        return new StorageObjectCache(
+                properties.maxPrefixes(),
+                properties.maxEntriesPerPrefix(),
+                properties.ttl(),
+                Clock.systemUTC()
+        );
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> findFileInfo(BucketName bucketName, String path) {
+        var key = new StorageCacheKey(bucketName, path, StorageCacheKind.FILE_INFO);
+        return getOrLoad(key, () -> storageService.findFileInfo(bucketName, path));
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> findDirectoryInfo(BucketName bucketName, String path) {
+        var key = new StorageCacheKey(bucketName, path, StorageCacheKind.DIRECTORY_INFO);
+        return getOrLoad(key, () -> storageService.findDirectoryInfo(bucketName, path));
+    }
+
+    @Override
+    public List<StorageObjectInfo> getDirectoryObjectsInfo(BucketName bucketName, String path, boolean recursive) {
+        var kind = recursive ? StorageCacheKind.DIRECTORY_OBJECTS_RECURSIVE : StorageCacheKind.DIRECTORY_OBJECTS;
+        var key = new StorageCacheKey(bucketName, path, kind);
+
+        List<StorageObjectInfo> objectsInfo = getOrLoad(key,
+                () -> List.copyOf(storageService.getDirectoryObjectsInfo(bucketName, path, recursive))
+        );
+
+        return new ArrayList<>(objectsInfo);
+    }
+
+    @Override
+    public StoragePage getDirectoryObjectsInfo(BucketName bucketName, String path, StoragePageRequest pageRequest) {
+        return storageService.getDirectoryObjectsInfo(bucketName, path, pageRequest);
+    }
+
+    @Override
+    public long countDirectoryObjects(BucketName bucketName, String path) {
+        return storageService.countDirectoryObjects(bucketName, path);
+    }
+
+    @Override
+    public long countDirectoryObjects(BucketName bucketName, String path, long limit) {
+        return storageService.countDirectoryObjects(bucketName, path, limit);
+    }
+
+    @Override
+    public long getDirectorySize(BucketName bucketName, String path) {
+        return storageService.getDirectorySize(bucketName, path);
+    }
+
+    @Override
+    public DirectorySummary getDirectorySummary(BucketName bucketName, String path) {
+        return storageService.getDirectorySummary(bucketName, path);
+    }
+
+    @Override
+    public List<StorageObjectInfo> uploadFiles(BucketName bucketName, String rootPath, List<MultipartFile> files) {
+        try {
+            return storageService.uploadFiles(bucketName, rootPath, files);
+        } finally {
+            for (var file : files) {
+                invalidate(bucketName, rootPath + Objects.requireNonNull(file.getOriginalFilename()));
+            }
+        }
+    }
+
+    @Override
+    public StorageObjectInfo uploadFile(BucketName bucketName, String path, InputStream inputStream) {
+        try {
+            return storageService.uploadFile(bucketName, path, inputStream);
+        } finally {
+            invalidate(bucketName, path);
+        }
+    }
+
+    @Override
+    public StorageObjectInfo createDirectory(BucketName bucketName, String path) {
+        try {
+            return storageService.createDirectory(bucketName, path);
+        } finally {
+            invalidate(bucketName, path);
+        }
+    }
+
+    @Override
+    public InputStream downloadFile(BucketName bucketName, String path) {
+        return storageService.downloadFile(bucketName, path);
+    }
+
+    @Override
+    public InputStream downloadFile(BucketName bucketName, String path, long offset, long length) {
+        return storageService.downloadFile(bucketName, path, offset, length);
+    }
+
+    @Override
+    public void downloadDirectory(BucketName bucketName, String path, ZipCompression compression,
+                                  ZipOutputStream zipOutputStream) {
+
+        storageService.downloadDirectory(bucketName, path, compression, zipOutputStream);
+    }
+
+    @Override
+    public void moveFile(BucketName bucketName, String oldPath, String newPath) {
+        try {
+            storageService.moveFile(bucketName, oldPath, newPath);
+        } finally {
+            invalidate(bucketName, oldPath);
+            invalidate(bucketName, newPath);
+        }
+    }
+
+    @Override
+    public void moveDirectory(BucketName bucketName, String oldPath, String newPath, MoveProgressListener listener) {
+        try {
+            storageService.moveDirectory(bucketName, oldPath, newPath, listener);
+        } finally {
+            invalidate(bucketName, oldPath);
+            invalidate(bucketName, newPath);
+        }
+    }
+
+    @Override
+    public void removeFile(BucketName bucketName, String path) {
+        try {
+            storageService.removeFile(bucketName, path);
+        } finally {
+            invalidate(bucketName, path);
+        }
+    }
+
+    @Override
+    public void removeDirectory(BucketName bucketName, String path) {
+        try {
+            storageService.removeDirectory(bucketName, path);
+        } finally {
+            invalidate(bucketName, path);
+        }
+    }
+
+    @Override
+    public boolean fileExists(BucketName bucketName, String path) {
+        return findFileInfo(bucketName, path).isPresent();
+    }
+
+    @Override
+    public boolean directoryExists(BucketName bucketName, String path) {
+        return findDirectoryInfo(bucketName, path).isPresent();
+    }
+
+    @Override
+    public void search(BucketName bucketName, String path, String query, Consumer<StorageObjectInfo> consumer) {
+        storageService.search(bucketName, path, query, consumer);
+    }
+
+    @SuppressWarnings("unchecked")
+    private <T> T getOrLoad(StorageCacheKey key, Supplier<T> loader) {
+        var requestCache = getRequestCache();
+
+        if (requestCache != null) {
+            var value = requestCache.get(key);
+            recordCacheRequest(StorageCacheLayer.REQUEST, value != null);
+
+            if (value != null) {
+                return (T) value;
+            }
+        }
+
+        if (sharedCache != null) {
+            var value = sharedCache.get(key);
+            recordCacheRequest(StorageCacheLayer.SHARED, value != null);
+
+            if (value != null) {
+                if (requestCache != null) {
+                    requestCache.put(key, value);
+                }
+
+                return (T) value;
+            }
+        }
+
+        var value = loader.get();
+
+        if (!isCacheable(value)) {
+            return value;
+        }
+
+        if (requestCache != null) {
+            requestCache.put(key, value);
+        }
+
+        if (sharedCache != null) {
+            sharedCache.put(key, value);
+        }
+
+        return value;
+    }
+
+    private static boolean isCacheable(Object value) {
+        return !(value instanceof Optional<?> optional) || optional.isPresent();
+    }
+
+    private void invalidate(BucketName bucketName, String path) {
+        var requestCache = getRequestCache();
+
+        if (requestCache != null) {
+            requestCache.invalidate(bucketName, path);
+        }
+
+        if (sharedCache != null) {
+            sharedCache.invalidate(bucketName, path);
+        }
+    }
+
+    private StorageObjectCache getRequestCache() {
+        var requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return null;
+        }
+
+        var requestCache = requestAttributes.getAttribute(
+                StorageRequestCacheInterceptor.REQUEST_CACHE_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST
+        );
+
+        return (StorageObjectCache) requestCache;
+    }
+
+    private void recordCacheRequest(StorageCacheLayer layer, boolean hit) {
+        meterRegistry.counter(CACHE_REQUESTS_METRIC, LAYER_TAG, layer.getValue(), RESULT_TAG, hit ? HIT : MISS)
+                .increment();
+    }
+}
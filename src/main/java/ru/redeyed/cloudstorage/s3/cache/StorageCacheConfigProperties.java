@@ -0,0 +1,25 @@
+package ru.redeyed.cloudstorage.s3.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "storage.cache")
+public record StorageCacheConfigProperties(
+
+        boolean requestScoped,
+
+        SharedCacheProperties shared
+) {
+
+    public record SharedCacheProperties(
+
+            boolean enabled,
+
+            int maxPrefixes,
+
+            int maxEntriesPerPrefix,
+
+            Duration ttl
+    ) {
+    }
+}
@@ -0,0 +1,6 @@
+package ru.redeyed.cloudstorage.s3.cache;
+
+import ru.redeyed.cloudstorage.s3.BucketName;
+
+public record StorageCacheKey(BucketName bucketName, String path, StorageCacheKind kind) {
+}
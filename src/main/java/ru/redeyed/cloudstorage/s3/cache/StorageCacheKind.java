@@ -0,0 +1,9 @@
+package ru.redeyed.cloudstorage.s3.cache;
+
+public enum StorageCacheKind {
+
+    FILE_INFO,
+    DIRECTORY_INFO,
+    DIRECTORY_OBJECTS,
+    DIRECTORY_OBJECTS_RECURSIVE
+}
@@ -0,0 +1,14 @@
+package ru.redeyed.cloudstorage.s3.cache;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum StorageCacheLayer {
+
+    REQUEST("request"),
+    SHARED("shared");
+
+    private final String value;
+}
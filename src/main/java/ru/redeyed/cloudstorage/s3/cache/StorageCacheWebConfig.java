@@ -0,0 +1,20 @@
+package ru.redeyed.cloudstorage.s3.cache;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class StorageCacheWebConfig implements WebMvcConfigurer {
+
+    private final StorageCacheConfigProperties storageCacheConfigProperties;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (storageCacheConfigProperties.requestScoped()) {
+            registry.addInterceptor(new StorageRequestCacheInterceptor());
+        }
+    }
+}
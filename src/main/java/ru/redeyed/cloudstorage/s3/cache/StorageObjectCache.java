@@ -0,0 +1,118 @@
+package ru.redeyed.cloudstorage.s3.cache;
+
+import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * In-process cache of storage lookups. Invalidation only reaches the instance it is called on, so the shared cache
+ * is safe for a single node only: with several nodes, writes on one node leave stale entries on the others until
+ * their TTL expires.
+ */
+public class StorageObjectCache {
+
+    private static final float LOAD_FACTOR = 0.75f;
+    private static final int INITIAL_CAPACITY = 16;
+
+    private final int maxEntriesPerPrefix;
+
+    private final Duration ttl;
+
+    private final Clock clock;
+
+    private final Map<String, Map<StorageCacheKey, CacheEntry>> segments;
+
+    public StorageObjectCache(int maxPrefixes, int maxEntriesPerPrefix, Duration ttl, Clock clock) {
+        this.maxEntriesPerPrefix = maxEntriesPerPrefix;
+        this.ttl = ttl;
+        this.clock = clock;
+        this.segments = createLruMap(maxPrefixes);
+    }
+
+    public static StorageObjectCache unbounded() {
+        return new StorageObjectCache(Integer.MAX_VALUE, Integer.MAX_VALUE, Duration.ZERO, Clock.systemUTC());
+    }
+
+    public synchronized Object get(StorageCacheKey key) {
+        var segment = segments.get(getSegmentKey(key.bucketName(), key.path()));
+
+        if (segment == null) {
+            return null;
+        }
+
+        var entry = segment.get(key);
+
+        if (entry == null) {
+            return null;
+        }
+
+        if (entry.isExpired(clock.instant())) {
+            segment.remove(key);
+            return null;
+        }
+
+        return entry.value();
+    }
+
+    public synchronized void put(StorageCacheKey key, Object value) {
+        var expiresAt = ttl.isZero() ? Instant.MAX : clock.instant().plus(ttl);
+
+        segments.computeIfAbsent(getSegmentKey(key.bucketName(), key.path()), ignore -> createLruMap(maxEntriesPerPrefix))
+                .put(key, new CacheEntry(value, expiresAt));
+    }
+
+    public synchronized void invalidate(BucketName bucketName, String path) {
+        var segmentKey = getSegmentKey(bucketName, path);
+        var segment = segments.get(segmentKey);
+
+        if (segment == null) {
+            return;
+        }
+
+        segment.keySet().removeIf(key -> isAncestorOrDescendant(key.path(), path));
+
+        if (segment.isEmpty()) {
+            segments.remove(segmentKey);
+        }
+    }
+
+    public synchronized int size() {
+        return segments.values().stream()
+                .mapToInt(Map::size)
+                .sum();
+    }
+
+    private static boolean isAncestorOrDescendant(String cachedPath, String path) {
+        return cachedPath.equals(path) || isAncestor(path, cachedPath) || isAncestor(cachedPath, path);
+    }
+
+    private static boolean isAncestor(String directoryPath, String path) {
+        return (directoryPath.isEmpty() || PathUtil.isDirectory(directoryPath)) && path.startsWith(directoryPath);
+    }
+
+    private static String getSegmentKey(BucketName bucketName, String path) {
+        var rootDirectoryName = PathUtil.extractRootParentDirectoryName(path);
+        return bucketName.getValue() + PathUtil.PATH_DELIMITER + rootDirectoryName;
+    }
+
+    private static <K, V> Map<K, V> createLruMap(int maxEntries) {
+        return new LinkedHashMap<>(INITIAL_CAPACITY, LOAD_FACTOR, true) {
+
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    private record CacheEntry(Object value, Instant expiresAt) {
+
+        boolean isExpired(Instant now) {
+            return now.isAfter(expiresAt);
+        }
+    }
+}
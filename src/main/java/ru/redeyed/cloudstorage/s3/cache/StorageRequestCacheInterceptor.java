@@ -0,0 +1,30 @@
+package ru.redeyed.cloudstorage.s3.cache;
+
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+public class StorageRequestCacheInterceptor implements HandlerInterceptor {
+
+    public static final String REQUEST_CACHE_ATTRIBUTE = StorageRequestCacheInterceptor.class.getName() + ".cache";
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+
+        if (request.getAttribute(REQUEST_CACHE_ATTRIBUTE) == null) {
+            request.setAttribute(REQUEST_CACHE_ATTRIBUTE, StorageObjectCache.unbounded());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception exception) {
+
+        request.removeAttribute(REQUEST_CACHE_ATTRIBUTE);
+    }
+}
@@ -0,0 +1,306 @@
+package ru.redeyed.cloudstorage.s3.index;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.DirectorySummary;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import ru.redeyed.cloudstorage.s3.StoragePage;
+import ru.redeyed.cloudstorage.s3.StoragePageRequest;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
+import ru.redeyed.cloudstorage.s3.move.MoveProgressListener;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.zip.ZipOutputStream;
+
+@Component
+@RequiredArgsConstructor
+public class IndexedStorageService implements SimpleStorageService {
+
+    private static final String LIKE_ESCAPE = "\\";
+    private static final String LIKE_ANY = "%";
+    private static final String LIKE_ANY_SINGLE = "_";
+
+    @Qualifier("backendStorageService")
+    private final SimpleStorageService storageService;
+
+    private final ResourceMetadataRepository resourceMetadataRepository;
+
+    private final ResourceMetadataMapper resourceMetadataMapper;
+
+    private final EntityManager entityManager;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StorageObjectInfo> findFileInfo(BucketName bucketName, String path) {
+        return resourceMetadataRepository.findByBucketAndPath(bucketName.getValue(), path)
+                .filter(resourceMetadata -> resourceMetadata.getType() == StorageObjectType.FILE)
+                .map(resourceMetadataMapper::toStorageObjectInfo);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Optional<StorageObjectInfo> findDirectoryInfo(BucketName bucketName, String path) {
+        var resourceMetadata = resourceMetadataRepository.findByBucketAndPath(bucketName.getValue(), path);
+
+        if (resourceMetadata.isPresent()) {
+            return resourceMetadata
+                    .filter(metadata -> metadata.getType() == StorageObjectType.DIRECTORY)
+                    .map(resourceMetadataMapper::toStorageObjectInfo);
+        }
+
+        if (!resourceMetadataRepository.existsByBucketAndPathStartingWith(bucketName.getValue(), path)) {
+            return Optional.empty();
+        }
+
+        var directoryName = PathUtil.extractResourceName(path);
+
+        return Optional.of(new StorageObjectInfo(path, directoryName, 0, true, null));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<StorageObjectInfo> getDirectoryObjectsInfo(BucketName bucketName, String path, boolean recursive) {
+        var resourcesMetadata = recursive
+                ? resourceMetadataRepository.findAllNested(bucketName.getValue(), path, toPrefixPattern(path))
+                : resourceMetadataRepository.findAllByBucketAndParentPathOrderByPath(bucketName.getValue(), path);
+
+        return resourceMetadataMapper.toStorageObjectInfos(resourcesMetadata);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public StoragePage getDirectoryObjectsInfo(BucketName bucketName, String path, StoragePageRequest pageRequest) {
+        var bucket = bucketName.getValue();
+        var types = toObjectTypes(pageRequest);
+        var namePattern = toPrefixPattern(Objects.toString(pageRequest.namePrefix(), ""));
+        var startAfter = pageRequest.startAfter();
+        var limit = Limit.of(pageRequest.limit() + 1);
+
+        var resourcesMetadata = (List<ResourceMetadata>) null;
+
+        if (!pageRequest.descending()) {
+            resourcesMetadata = resourceMetadataRepository.findChildrenAfter(
+                    bucket, path, types, namePattern, Objects.toString(startAfter, ""), limit
+            );
+        } else if (startAfter == null) {
+            resourcesMetadata = resourceMetadataRepository.findChildrenDescending(
+                    bucket, path, types, namePattern, limit
+            );
+        } else {
+            resourcesMetadata = resourceMetadataRepository.findChildrenBefore(
+                    bucket, path, types, namePattern, startAfter, limit
+            );
+        }
+
+        return StoragePage.of(resourceMetadataMapper.toStorageObjectInfos(resourcesMetadata), pageRequest.limit());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countDirectoryObjects(BucketName bucketName, String path) {
+        return resourceMetadataRepository.countNested(bucketName.getValue(), path, toPrefixPattern(path));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long countDirectoryObjects(BucketName bucketName, String path, long limit) {
+        return resourceMetadataRepository.countNested(bucketName.getValue(), path, toPrefixPattern(path), limit);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public long getDirectorySize(BucketName bucketName, String path) {
+        return resourceMetadataRepository.sumNestedSize(bucketName.getValue(), toPrefixPattern(path));
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public DirectorySummary getDirectorySummary(BucketName bucketName, String path) {
+        return resourceMetadataRepository.summarizeNested(bucketName.getValue(), toPrefixPattern(path));
+    }
+
+    @Override
+    public List<StorageObjectInfo> uploadFiles(BucketName bucketName, String rootPath, List<MultipartFile> files) {
+        var uploadedFilesInfo = storageService.uploadFiles(bucketName, rootPath, files);
+
+        try {
+            transactionTemplate.executeWithoutResult(status ->
+                    uploadedFilesInfo.forEach(objectInfo -> index(bucketName, objectInfo))
+            );
+        } catch (RuntimeException exception) {
+            discardUploadedFiles(bucketName, uploadedFilesInfo, exception);
+            throw exception;
+        }
+
+        return uploadedFilesInfo;
+    }
+
+    @Override
+    public StorageObjectInfo uploadFile(BucketName bucketName, String path, InputStream inputStream) {
+        var uploadedFileInfo = storageService.uploadFile(bucketName, path, inputStream);
+
+        try {
+            indexInTransaction(bucketName, uploadedFileInfo);
+        } catch (RuntimeException exception) {
+            discardUploadedFiles(bucketName, List.of(uploadedFileInfo), exception);
+            throw exception;
+        }
+
+        return uploadedFileInfo;
+    }
+
+    @Override
+    public StorageObjectInfo createDirectory(BucketName bucketName, String path) {
+        var directoryInfo = storageService.createDirectory(bucketName, path);
+
+        indexInTransaction(bucketName, directoryInfo);
+
+        return directoryInfo;
+    }
+
+    @Override
+    public InputStream downloadFile(BucketName bucketName, String path) {
+        return storageService.downloadFile(bucketName, path);
+    }
+
+    @Override
+    public InputStream downloadFile(BucketName bucketName, String path, long offset, long length) {
+        return storageService.downloadFile(bucketName, path, offset, length);
+    }
+
+    @Override
+    public void downloadDirectory(BucketName bucketName, String path, ZipCompression compression,
+                                  ZipOutputStream zipOutputStream) {
+
+        storageService.downloadDirectory(bucketName, path, compression, zipOutputStream);
+    }
+
+    @Override
+    public void moveFile(BucketName bucketName, String oldPath, String newPath) {
+        storageService.moveFile(bucketName, oldPath, newPath);
+
+        transactionTemplate.executeWithoutResult(status -> resourceMetadataRepository.move(
+                bucketName.getValue(), oldPath, newPath,
+                PathUtil.removeResourceName(newPath), PathUtil.extractResourceName(newPath)
+        ));
+    }
+
+    @Override
+    public void moveDirectory(BucketName bucketName, String oldPath, String newPath, MoveProgressListener listener) {
+        storageService.moveDirectory(bucketName, oldPath, newPath, listener);
+
+        var bucket = bucketName.getValue();
+        var directoryName = PathUtil.extractResourceName(newPath);
+
+        transactionTemplate.executeWithoutResult(status -> {
+            resourceMetadataRepository.moveNested(
+                    bucket, oldPath, toPrefixPattern(oldPath), oldPath.length(), newPath
+            );
+            resourceMetadataRepository.delete(bucket, oldPath);
+
+            index(bucketName, new StorageObjectInfo(newPath, directoryName, 0, true, null));
+        });
+    }
+
+    @Override
+    public void removeFile(BucketName bucketName, String path) {
+        storageService.removeFile(bucketName, path);
+
+        transactionTemplate.executeWithoutResult(status ->
+                resourceMetadataRepository.delete(bucketName.getValue(), path)
+        );
+    }
+
+    @Override
+    public void removeDirectory(BucketName bucketName, String path) {
+        storageService.removeDirectory(bucketName, path);
+
+        transactionTemplate.executeWithoutResult(status ->
+                resourceMetadataRepository.deleteAllByPattern(bucketName.getValue(), toPrefixPattern(path))
+        );
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean fileExists(BucketName bucketName, String path) {
+        return findFileInfo(bucketName, path).isPresent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public boolean directoryExists(BucketName bucketName, String path) {
+        return findDirectoryInfo(bucketName, path).isPresent();
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public void search(BucketName bucketName, String path, String query, Consumer<StorageObjectInfo> consumer) {
+        var namePattern = LIKE_ANY + escapeLike(query) + LIKE_ANY;
+
+        try (var resourcesMetadata = resourceMetadataRepository.streamAllNestedByName(
+                bucketName.getValue(), path, toPrefixPattern(path), namePattern
+        )) {
+            resourcesMetadata.forEach(resourceMetadata -> {
+                consumer.accept(resourceMetadataMapper.toStorageObjectInfo(resourceMetadata));
+                entityManager.detach(resourceMetadata);
+            });
+        }
+    }
+
+    private void index(BucketName bucketName, StorageObjectInfo objectInfo) {
+        resourceMetadataRepository.index(bucketName.getValue(), objectInfo);
+    }
+
+    private void indexInTransaction(BucketName bucketName, StorageObjectInfo objectInfo) {
+        transactionTemplate.executeWithoutResult(status -> index(bucketName, objectInfo));
+    }
+
+    private void discardUploadedFiles(BucketName bucketName, List<StorageObjectInfo> filesInfo,
+                                      RuntimeException indexException) {
+        try {
+            storageService.discardUploadedFiles(bucketName, filesInfo);
+        } catch (RuntimeException exception) {
+            indexException.addSuppressed(exception);
+        }
+    }
+
+    private static List<StorageObjectType> toObjectTypes(StoragePageRequest pageRequest) {
+        var types = new ArrayList<StorageObjectType>();
+
+        if (pageRequest.includeFiles()) {
+            types.add(StorageObjectType.FILE);
+        }
+
+        if (pageRequest.includeDirectories()) {
+            types.add(StorageObjectType.DIRECTORY);
+        }
+
+        return types;
+    }
+
+    private static String toPrefixPattern(String path) {
+        return escapeLike(path) + LIKE_ANY;
+    }
+
+    private static String escapeLike(String value) {
+        return value
+                .replace(LIKE_ESCAPE, LIKE_ESCAPE + LIKE_ESCAPE)
+                .replace(LIKE_ANY, LIKE_ESCAPE + LIKE_ANY)
+                .replace(LIKE_ANY_SINGLE, LIKE_ESCAPE + LIKE_ANY_SINGLE);
+    }
+}
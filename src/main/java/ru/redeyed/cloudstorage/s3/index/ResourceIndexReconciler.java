@@ -0,0 +1,147 @@
+package ru.redeyed.cloudstorage.s3.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.redeyed.cloudstorage.common.lock.DatabaseLockExecutor;
+import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import ru.redeyed.cloudstorage.s3.StorageAddressing;
+import ru.redeyed.cloudstorage.s3.StorageConfigProperties;
+import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Consumer;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ResourceIndexReconciler {
+
+    private static final String BUCKET_ROOT_PATH = "";
+
+    private static final String LOCK_NAME = "resource-index-reconciliation";
+
+    private static final int BATCH_SIZE = 500;
+
+    @Qualifier("objectStorageService")
+    private final SimpleStorageService storageService;
+
+    private final ResourceMetadataRepository resourceMetadataRepository;
+
+    private final StorageConfigProperties storageConfigProperties;
+
+    private final DatabaseLockExecutor databaseLockExecutor;
+
+    private final TransactionTemplate transactionTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void reconcileIfEmpty() {
+        if (resourceMetadataRepository.count() == 0) {
+            reconcile();
+        }
+    }
+
+    @Scheduled(cron = "${storage.index.reconciliation-cron}")
+    public void reconcile() {
+        if (storageConfigProperties.addressing() != StorageAddressing.PATH) {
+            log.info("Index reconciliation skipped, the index is the source of truth in {} addressing",
+                    storageConfigProperties.addressing());
+            return;
+        }
+
+        if (!databaseLockExecutor.runExclusively(LOCK_NAME, this::reconcileIndexedBuckets)) {
+            log.info("Index reconciliation skipped, it is already running on another node");
+        }
+    }
+
+    private void reconcileIndexedBuckets() {
+        for (var bucketName : BucketName.values()) {
+            if (bucketName.isIndexed()) {
+                reconcile(bucketName);
+            }
+        }
+    }
+
+    private void reconcile(BucketName bucketName) {
+        var bucket = bucketName.getValue();
+
+        var missingObjects = listStoredObjects(bucketName);
+        var stalePaths = new ArrayList<String>();
+
+        for (var resourceMetadata : resourceMetadataRepository.findAllByBucket(bucket)) {
+            var storedObject = missingObjects.get(resourceMetadata.getPath());
+
+            if (storedObject == null) {
+                stalePaths.add(resourceMetadata.getPath());
+            } else if (isUpToDate(resourceMetadata, storedObject)) {
+                missingObjects.remove(resourceMetadata.getPath());
+            }
+        }
+
+        inBatches(new ArrayList<>(missingObjects.values()),
+                batch -> batch.forEach(objectInfo -> resourceMetadataRepository.index(bucket, objectInfo))
+        );
+
+        inBatches(stalePaths, batch -> resourceMetadataRepository.deleteAllByBucketAndPathIn(bucket, batch));
+
+        log.info("Index of bucket {} reconciled, {} resources indexed, {} stale resources removed",
+                bucket, missingObjects.size(), stalePaths.size());
+    }
+
+    private Map<String, StorageObjectInfo> listStoredObjects(BucketName bucketName) {
+        var storedObjects = new LinkedHashMap<String, StorageObjectInfo>();
+
+        for (var objectInfo : storageService.getDirectoryObjectsInfo(bucketName, BUCKET_ROOT_PATH, true)) {
+            storedObjects.put(objectInfo.path(), objectInfo);
+
+            var directoryPath = PathUtil.removeResourceName(objectInfo.path());
+
+            while (!directoryPath.isEmpty() && !storedObjects.containsKey(directoryPath)) {
+                storedObjects.put(directoryPath, createDirectoryInfo(directoryPath));
+                directoryPath = PathUtil.removeResourceName(directoryPath);
+            }
+        }
+
+        return storedObjects;
+    }
+
+    private <T> void inBatches(List<T> items, Consumer<List<T>> action) {
+        for (var batchStart = 0; batchStart < items.size(); batchStart += BATCH_SIZE) {
+            var batch = items.subList(batchStart, Math.min(batchStart + BATCH_SIZE, items.size()));
+            transactionTemplate.executeWithoutResult(status -> action.accept(batch));
+        }
+    }
+
+    void indexImplicitDirectories(String bucket, String path, Set<String> indexedPaths) {
+        var directoryPath = PathUtil.removeResourceName(path);
+
+        while (!directoryPath.isEmpty() && indexedPaths.add(directoryPath)) {
+            resourceMetadataRepository.index(bucket, createDirectoryInfo(directoryPath));
+            directoryPath = PathUtil.removeResourceName(directoryPath);
+        }
+    }
+
+    private static boolean isUpToDate(ResourceMetadata resourceMetadata, StorageObjectInfo objectInfo) {
+        var type = objectInfo.isDirectory() ? StorageObjectType.DIRECTORY : StorageObjectType.FILE;
+
+        return resourceMetadata.getType() == type
+                && resourceMetadata.getSize() == objectInfo.size()
+                && Objects.equals(resourceMetadata.getEtag(), objectInfo.etag());
+    }
+
+    private static StorageObjectInfo createDirectoryInfo(String directoryPath) {
+        var directoryName = PathUtil.extractResourceName(directoryPath);
+        return new StorageObjectInfo(directoryPath, directoryName, 0, true, null);
+    }
+}
@@ -0,0 +1,45 @@
+package ru.redeyed.cloudstorage.s3.index;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.util.UUID;
+
+@Entity
+@Table(name = "resources")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Getter
+public class ResourceMetadata {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.UUID)
+    private UUID id;
+
+    private String bucket;
+
+    private String path;
+
+    private String parentPath;
+
+    private String name;
+
+    private long size;
+
+    @Enumerated(EnumType.STRING)
+    private StorageObjectType type;
+
+    private String etag;
+
+    private String blobId;
+}
@@ -0,0 +1,21 @@
+package ru.redeyed.cloudstorage.s3.index;
+
+import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
+import org.mapstruct.Named;
+import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import java.util.List;
+
+@Mapper
+public abstract class ResourceMetadataMapper {
+
+    @Mapping(target = "isDirectory", source = "resourceMetadata", qualifiedByName = "isDirectory")
+    public abstract StorageObjectInfo toStorageObjectInfo(ResourceMetadata resourceMetadata);
+
+    public abstract List<StorageObjectInfo> toStorageObjectInfos(List<ResourceMetadata> resourceMetadata);
+
+    @Named("isDirectory")
+    protected boolean isDirectory(ResourceMetadata resourceMetadata) {
+        return resourceMetadata.getType() == StorageObjectType.DIRECTORY;
+    }
+}
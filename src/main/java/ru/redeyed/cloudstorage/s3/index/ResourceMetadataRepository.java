@@ -0,0 +1,173 @@
+package ru.redeyed.cloudstorage.s3.index;
+
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.s3.DirectorySummary;
+import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+@Repository
+public interface ResourceMetadataRepository extends JpaRepository<ResourceMetadata, UUID> {
+
+    String STREAM_FETCH_SIZE = "500";
+
+    Optional<ResourceMetadata> findByBucketAndPath(String bucket, String path);
+
+    boolean existsByBucketAndPathStartingWith(String bucket, String pathPrefix);
+
+    List<ResourceMetadata> findAllByBucket(String bucket);
+
+    List<ResourceMetadata> findAllByBucketAndParentPathOrderByPath(String bucket, String parentPath);
+
+    @Query("""
+            select r from ResourceMetadata r
+            where r.bucket = :bucket and r.path like :pathPattern escape '\\' and r.path <> :path
+            order by r.path
+            """)
+    List<ResourceMetadata> findAllNested(@Param("bucket") String bucket, @Param("path") String path,
+                                         @Param("pathPattern") String pathPattern);
+
+    @Query("""
+            select r from ResourceMetadata r
+            where r.bucket = :bucket and r.parentPath = :parentPath and r.type in :types
+                and r.name like :namePattern escape '\\' and r.path > :startAfter
+            order by r.path
+            """)
+    List<ResourceMetadata> findChildrenAfter(@Param("bucket") String bucket, @Param("parentPath") String parentPath,
+                                             @Param("types") Collection<StorageObjectType> types,
+                                             @Param("namePattern") String namePattern,
+                                             @Param("startAfter") String startAfter, Limit limit);
+
+    @Query("""
+            select r from ResourceMetadata r
+            where r.bucket = :bucket and r.parentPath = :parentPath and r.type in :types
+                and r.name like :namePattern escape '\\' and r.path < :startBefore
+            order by r.path desc
+            """)
+    List<ResourceMetadata> findChildrenBefore(@Param("bucket") String bucket, @Param("parentPath") String parentPath,
+                                              @Param("types") Collection<StorageObjectType> types,
+                                              @Param("namePattern") String namePattern,
+                                              @Param("startBefore") String startBefore, Limit limit);
+
+    @Query("""
+            select r from ResourceMetadata r
+            where r.bucket = :bucket and r.parentPath = :parentPath and r.type in :types
+                and r.name like :namePattern escape '\\'
+            order by r.path desc
+            """)
+    List<ResourceMetadata> findChildrenDescending(@Param("bucket") String bucket,
+                                                  @Param("parentPath") String parentPath,
+                                                  @Param("types") Collection<StorageObjectType> types,
+                                                  @Param("namePattern") String namePattern, Limit limit);
+
+    @Query("""
+            select coalesce(sum(r.size), 0) from ResourceMetadata r
+            where r.bucket = :bucket and r.path like :pathPattern escape '\\'
+            """)
+    long sumNestedSize(@Param("bucket") String bucket, @Param("pathPattern") String pathPattern);
+
+    @Query("""
+            select new ru.redeyed.cloudstorage.s3.DirectorySummary(count(r), coalesce(sum(r.size), 0))
+            from ResourceMetadata r
+            where r.bucket = :bucket and r.path like :pathPattern escape '\\'
+            """)
+    DirectorySummary summarizeNested(@Param("bucket") String bucket, @Param("pathPattern") String pathPattern);
+
+    @Query("""
+            select count(r) from ResourceMetadata r
+            where r.bucket = :bucket and r.path like :pathPattern escape '\\' and r.path <> :path
+            """)
+    long countNested(@Param("bucket") String bucket, @Param("path") String path,
+                     @Param("pathPattern") String pathPattern);
+
+    @Query(nativeQuery = true, value = """
+            select count(*) from (
+                select 1 from resources
+                where bucket = :bucket and path like :pathPattern escape '\\' and path <> :path
+                limit :limit
+            ) nested
+            """)
+    long countNested(@Param("bucket") String bucket, @Param("path") String path,
+                     @Param("pathPattern") String pathPattern, @Param("limit") long limit);
+
+    @Query("""
+            select r from ResourceMetadata r
+            where r.bucket = :bucket and r.path like :pathPattern escape '\\' and r.path <> :path
+                and r.name like :namePattern escape '\\'
+            order by r.path
+            """)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = STREAM_FETCH_SIZE))
+    Stream<ResourceMetadata> streamAllNestedByName(@Param("bucket") String bucket, @Param("path") String path,
+                                                   @Param("pathPattern") String pathPattern,
+                                                   @Param("namePattern") String namePattern);
+
+    @Modifying(clearAutomatically = true)
+    @Query(value = """
+            INSERT INTO resources (bucket, path, parent_path, name, size, type, etag, blob_id)
+            VALUES (:bucket, :path, :parentPath, :name, :size, :type, :etag, :blobId)
+            ON CONFLICT (bucket, path) DO UPDATE
+            SET size = EXCLUDED.size, type = EXCLUDED.type, etag = EXCLUDED.etag, blob_id = EXCLUDED.blob_id
+            """, nativeQuery = true)
+    void upsert(@Param("bucket") String bucket, @Param("path") String path, @Param("parentPath") String parentPath,
+                @Param("name") String name, @Param("size") long size, @Param("type") String type,
+                @Param("etag") String etag, @Param("blobId") String blobId);
+
+    default void index(String bucket, StorageObjectInfo objectInfo) {
+        var type = objectInfo.isDirectory() ? StorageObjectType.DIRECTORY : StorageObjectType.FILE;
+
+        upsert(
+                bucket,
+                objectInfo.path(),
+                PathUtil.removeResourceName(objectInfo.path()),
+                objectInfo.name(),
+                objectInfo.size(),
+                type.name(),
+                objectInfo.etag(),
+                objectInfo.blobId()
+        );
+    }
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update ResourceMetadata r
+            set r.path = :newPath, r.parentPath = :newParentPath, r.name = :newName
+            where r.bucket = :bucket and r.path = :oldPath
+            """)
+    int move(@Param("bucket") String bucket, @Param("oldPath") String oldPath, @Param("newPath") String newPath,
+             @Param("newParentPath") String newParentPath, @Param("newName") String newName);
+
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            update ResourceMetadata r
+            set r.path = concat(:newPath, substring(r.path, :oldPathLength + 1)),
+                r.parentPath = concat(:newPath, substring(r.parentPath, :oldPathLength + 1))
+            where r.bucket = :bucket and r.path like :oldPathPattern escape '\\' and r.path <> :oldPath
+            """)
+    int moveNested(@Param("bucket") String bucket, @Param("oldPath") String oldPath,
+                   @Param("oldPathPattern") String oldPathPattern, @Param("oldPathLength") int oldPathLength,
+                   @Param("newPath") String newPath);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ResourceMetadata r where r.bucket = :bucket and r.path = :path")
+    int delete(@Param("bucket") String bucket, @Param("path") String path);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ResourceMetadata r where r.bucket = :bucket and r.path like :pathPattern escape '\\'")
+    int deleteAllByPattern(@Param("bucket") String bucket, @Param("pathPattern") String pathPattern);
+
+    @Modifying(clearAutomatically = true)
+    @Query("delete from ResourceMetadata r where r.bucket = :bucket and r.path in :paths")
+    int deleteAllByBucketAndPathIn(@Param("bucket") String bucket, @Param("paths") Collection<String> paths);
+}
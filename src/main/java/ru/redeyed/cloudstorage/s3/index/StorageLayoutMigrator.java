@@ -0,0 +1,142 @@
+package ru.redeyed.cloudstorage.s3.index;
+
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import ru.redeyed.cloudstorage.common.lock.DatabaseLockExecutor;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import ru.redeyed.cloudstorage.s3.StorageAddressing;
+import ru.redeyed.cloudstorage.s3.StorageConfigProperties;
+import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import ru.redeyed.cloudstorage.s3.StoragePage;
+import ru.redeyed.cloudstorage.s3.StoragePageRequest;
+import java.util.ArrayDeque;
+import java.util.HashSet;
+import java.util.Set;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StorageLayoutMigrator {
+
+    private static final String BUCKET_ROOT_PATH = "";
+
+    private static final String LOCK_NAME = "storage-layout-migration";
+
+    private static final int PAGE_SIZE = 1000;
+
+    private static final int PROGRESS_LOG_INTERVAL = 1000;
+
+    @Qualifier("objectStorageService")
+    private final SimpleStorageService objectStorageService;
+
+    @Qualifier("backendStorageService")
+    private final SimpleStorageService backendStorageService;
+
+    private final ResourceMetadataRepository resourceMetadataRepository;
+
+    private final ResourceIndexReconciler resourceIndexReconciler;
+
+    private final TransactionTemplate transactionTemplate;
+
+    private final DatabaseLockExecutor databaseLockExecutor;
+
+    private final StorageConfigProperties storageConfigProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void migrateIfEnabled() {
+        if (storageConfigProperties.migrateOnStartup()) {
+            migrate();
+        }
+    }
+
+    public void migrate() {
+        if (storageConfigProperties.addressing() == StorageAddressing.PATH) {
+            log.warn("Storage layout migration skipped, addressing is {}", StorageAddressing.PATH);
+            return;
+        }
+
+        if (!databaseLockExecutor.runExclusively(LOCK_NAME, this::migrateIndexedBuckets)) {
+            log.info("Storage layout migration skipped, it is already running on another node");
+        }
+    }
+
+    private void migrateIndexedBuckets() {
+        for (var bucketName : BucketName.values()) {
+            if (bucketName.isIndexed()) {
+                migrate(bucketName);
+            }
+        }
+    }
+
+    private void migrate(BucketName bucketName) {
+        log.info("Migrating objects of bucket {} to {} addressing",
+                bucketName.getValue(), storageConfigProperties.addressing());
+
+        var pendingDirectoriesPaths = new ArrayDeque<String>();
+        var indexedPaths = new HashSet<String>();
+        var migratedCount = 0L;
+
+        pendingDirectoriesPaths.push(BUCKET_ROOT_PATH);
+
+        while (!pendingDirectoriesPaths.isEmpty()) {
+            var directoryPath = pendingDirectoriesPaths.pop();
+            var startAfter = (String) null;
+            var page = (StoragePage) null;
+
+            do {
+                page = objectStorageService.getDirectoryObjectsInfo(bucketName, directoryPath, new StoragePageRequest(
+                        PAGE_SIZE, startAfter, false, true, true, null
+                ));
+
+                for (var objectInfo : page.objectsInfo()) {
+                    if (objectInfo.isDirectory()) {
+                        pendingDirectoriesPaths.push(objectInfo.path());
+                    }
+
+                    migrate(bucketName, objectInfo, indexedPaths);
+
+                    if (++migratedCount % PROGRESS_LOG_INTERVAL == 0) {
+                        log.info("{} objects of bucket {} migrated", migratedCount, bucketName.getValue());
+                    }
+                }
+
+                if (!page.objectsInfo().isEmpty()) {
+                    startAfter = page.objectsInfo().getLast().path();
+                }
+            } while (page.hasNext());
+        }
+
+        log.info("Migration of bucket {} finished, {} objects migrated", bucketName.getValue(), migratedCount);
+    }
+
+    private void migrate(BucketName bucketName, StorageObjectInfo objectInfo, Set<String> indexedPaths) {
+        var bucket = bucketName.getValue();
+
+        if (!objectInfo.isDirectory() && !objectStorageService.fileExists(bucketName, objectInfo.path())) {
+            return;
+        }
+
+        var migratedInfo = objectInfo.isDirectory() ? objectInfo : copyToBackend(bucketName, objectInfo.path());
+
+        transactionTemplate.executeWithoutResult(status -> {
+            resourceIndexReconciler.indexImplicitDirectories(bucket, migratedInfo.path(), indexedPaths);
+            resourceMetadataRepository.index(bucket, migratedInfo);
+        });
+
+        objectStorageService.removeFile(bucketName, objectInfo.path());
+    }
+
+    @SneakyThrows
+    private StorageObjectInfo copyToBackend(BucketName bucketName, String path) {
+        try (var inputStream = objectStorageService.downloadFile(bucketName, path)) {
+            return backendStorageService.uploadFile(bucketName, path, inputStream);
+        }
+    }
+}
@@ -0,0 +1,6 @@
+package ru.redeyed.cloudstorage.s3.index;
+
+public enum StorageObjectType {
+
+    FILE, DIRECTORY
+}
@@ -0,0 +1,420 @@
+package ru.redeyed.cloudstorage.s3.local;
+
+import jakarta.annotation.PostConstruct;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.util.FileSystemUtils;
+import org.springframework.web.multipart.MultipartFile;
+import ru.redeyed.cloudstorage.common.io.FileChannelInputStream;
+import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.common.util.ResourcePath;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import ru.redeyed.cloudstorage.s3.StoragePage;
+import ru.redeyed.cloudstorage.s3.StoragePageRequest;
+import ru.redeyed.cloudstorage.s3.archive.PrefetchingZipWriter;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
+import ru.redeyed.cloudstorage.s3.archive.ZipSource;
+import ru.redeyed.cloudstorage.s3.move.MoveProgress;
+import ru.redeyed.cloudstorage.s3.move.MoveProgressListener;
+import ru.redeyed.cloudstorage.s3.upload.UploadExecutor;
+import ru.redeyed.cloudstorage.s3.upload.UploadTask;
+import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import java.util.zip.ZipOutputStream;
+
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "filesystem")
+@Slf4j
+public class LocalFileSystemStorageService implements SimpleStorageService {
+
+    private static final String PATH_OUTSIDE_BUCKET_MESSAGE = "Path '%s' points outside of the bucket directory";
+
+    private static final String TEMP_DIRECTORY = ".tmp";
+    private static final String TEMP_FILE_PREFIX = "upload-";
+    private static final String ETAG_DELIMITER = "-";
+
+    private static final long UNKNOWN_OBJECT_SIZE = -1;
+    private static final long TRANSFER_CHUNK_SIZE = 8L * 1024 * 1024;
+
+    private static final Comparator<StorageObjectInfo> BY_PATH = Comparator.comparing(StorageObjectInfo::path);
+
+    private final Path rootDirectory;
+
+    private final Path tempDirectory;
+
+    private final UploadExecutor uploadExecutor;
+
+    private final PrefetchingZipWriter prefetchingZipWriter;
+
+    public LocalFileSystemStorageService(LocalStorageConfigProperties localStorageConfigProperties,
+                                         UploadExecutor uploadExecutor,
+                                         PrefetchingZipWriter prefetchingZipWriter) {
+
+        this.rootDirectory = localStorageConfigProperties.rootDirectory().toAbsolutePath().normalize();
+        this.tempDirectory = rootDirectory.resolve(TEMP_DIRECTORY);
+        this.uploadExecutor = uploadExecutor;
+        this.prefetchingZipWriter = prefetchingZipWriter;
+    }
+
+    @PostConstruct
+    @SneakyThrows
+    public void init() {
+        for (var bucketName : BucketName.values()) {
+            Files.createDirectories(getBucketDirectory(bucketName));
+        }
+
+        FileSystemUtils.deleteRecursively(tempDirectory);
+        Files.createDirectories(tempDirectory);
+
+        log.info("Local storage is initialized in {}", rootDirectory);
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> findFileInfo(BucketName bucketName, String path) {
+        var bucketDirectory = getBucketDirectory(bucketName);
+
+        return readObjectInfo(bucketDirectory, resolve(bucketDirectory, path))
+                .filter(objectInfo -> objectInfo.path().equals(path));
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> findDirectoryInfo(BucketName bucketName, String path) {
+        if (!PathUtil.isDirectory(path)) {
+            path = path + PathUtil.PATH_DELIMITER;
+        }
+
+        return findFileInfo(bucketName, path);
+    }
+
+    @Override
+    public List<StorageObjectInfo> getDirectoryObjectsInfo(BucketName bucketName, String path, boolean recursive) {
+        try (var objectsInfo = walk(bucketName, path, recursive ? Integer.MAX_VALUE : 1)) {
+            return objectsInfo
+                    .sorted(BY_PATH)
+                    .toList();
+        }
+    }
+
+    @Override
+    public StoragePage getDirectoryObjectsInfo(BucketName bucketName, String path, StoragePageRequest pageRequest) {
+        var pathPrefix = path + Objects.toString(pageRequest.namePrefix(), "");
+        var startAfter = pageRequest.startAfter();
+
+        try (var objectsInfo = walk(bucketName, path, 1)) {
+            var pageObjectsInfo = objectsInfo
+                    .filter(objectInfo -> objectInfo.path().startsWith(pathPrefix))
+                    .filter(objectInfo -> objectInfo.isDirectory()
+                            ? pageRequest.includeDirectories()
+                            : pageRequest.includeFiles())
+                    .filter(objectInfo -> startAfter == null || (pageRequest.descending()
+                            ? objectInfo.path().compareTo(startAfter) < 0
+                            : objectInfo.path().compareTo(startAfter) > 0))
+                    .sorted(pageRequest.descending() ? BY_PATH.reversed() : BY_PATH)
+                    .limit(pageRequest.limit() + 1L)
+                    .toList();
+
+            return StoragePage.of(pageObjectsInfo, pageRequest.limit());
+        }
+    }
+
+    @Override
+    public long countDirectoryObjects(BucketName bucketName, String path) {
+        try (var objectsInfo = walk(bucketName, path, Integer.MAX_VALUE)) {
+            return objectsInfo.count();
+        }
+    }
+
+    @Override
+    public long getDirectorySize(BucketName bucketName, String path) {
+        try (var objectsInfo = walk(bucketName, path, Integer.MAX_VALUE)) {
+            return objectsInfo
+                    .mapToLong(StorageObjectInfo::size)
+                    .sum();
+        }
+    }
+
+    @Override
+    public List<StorageObjectInfo> uploadFiles(BucketName bucketName, String rootPath, List<MultipartFile> files) {
+        var uploadTasks = new ArrayList<UploadTask<StorageObjectInfo>>();
+
+        for (var file : files) {
+            var filePath = Objects.requireNonNull(file.getOriginalFilename());
+            var fullPath = rootPath + filePath;
+
+            uploadTasks.add(new UploadTask<>(file.getSize(), () -> putFile(bucketName, fullPath, file)));
+        }
+
+        return executeUploads(bucketName, rootPath, uploadTasks);
+    }
+
+    @Override
+    public StorageObjectInfo uploadFile(BucketName bucketName, String path, InputStream inputStream) {
+        var uploadTask = new UploadTask<StorageObjectInfo>(
+                UNKNOWN_OBJECT_SIZE, () -> putStream(bucketName, path, inputStream)
+        );
+
+        return executeUploads(bucketName, path, List.of(uploadTask)).getFirst();
+    }
+
+    private StorageObjectInfo putFile(BucketName bucketName, String path, MultipartFile file) throws IOException {
+        var bucketDirectory = getBucketDirectory(bucketName);
+        var objectPath = resolve(bucketDirectory, path);
+
+        var tempFile = Files.createTempFile(tempDirectory, TEMP_FILE_PREFIX, null);
+
+        try {
+            file.transferTo(tempFile.toFile());
+            moveToObjectPath(tempFile, objectPath);
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        return readObjectInfo(bucketDirectory, objectPath).orElseThrow();
+    }
+
+    private StorageObjectInfo putStream(BucketName bucketName, String path, InputStream inputStream)
+            throws IOException {
+
+        var bucketDirectory = getBucketDirectory(bucketName);
+        var objectPath = resolve(bucketDirectory, path);
+
+        var tempFile = Files.createTempFile(tempDirectory, TEMP_FILE_PREFIX, null);
+
+        try {
+            try (var fileChannel = FileChannel.open(tempFile, StandardOpenOption.WRITE)) {
+                var sourceChannel = Channels.newChannel(inputStream);
+
+                var position = 0L;
+                var transferredCount = fileChannel.transferFrom(sourceChannel, position, TRANSFER_CHUNK_SIZE);
+
+                while (transferredCount > 0) {
+                    position += transferredCount;
+                    transferredCount = fileChannel.transferFrom(sourceChannel, position, TRANSFER_CHUNK_SIZE);
+                }
+            }
+
+            moveToObjectPath(tempFile, objectPath);
+
+        } finally {
+            Files.deleteIfExists(tempFile);
+        }
+
+        return readObjectInfo(bucketDirectory, objectPath).orElseThrow();
+    }
+
+    private static void moveToObjectPath(Path tempFile, Path objectPath) throws IOException {
+        Files.createDirectories(objectPath.getParent());
+        Files.move(tempFile, objectPath, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @SneakyThrows
+    private List<StorageObjectInfo> executeUploads(BucketName bucketName, String path,
+                                                   List<UploadTask<StorageObjectInfo>> uploadTasks) {
+
+        var owner = PathUtil.extractRootParentDirectoryName(path);
+
+        var uploadOutcomes = uploadExecutor.invokeAll(owner, uploadTasks);
+
+        var uploadedFilesInfo = new ArrayList<StorageObjectInfo>();
+        var failure = (Throwable) null;
+
+        for (var uploadOutcome : uploadOutcomes) {
+            if (uploadOutcome.succeeded()) {
+                uploadedFilesInfo.add(uploadOutcome.result());
+            } else if (failure == null) {
+                failure = uploadOutcome.failure();
+            }
+        }
+
+        if (failure != null) {
+            for (var uploadedFileInfo : uploadedFilesInfo) {
+                removeFile(bucketName, uploadedFileInfo.path());
+            }
+
+            throw failure;
+        }
+
+        return uploadedFilesInfo;
+    }
+
+    @Override
+    @SneakyThrows
+    public StorageObjectInfo createDirectory(BucketName bucketName, String path) {
+        var bucketDirectory = getBucketDirectory(bucketName);
+        var directoryPath = Files.createDirectories(resolve(bucketDirectory, path));
+
+        return readObjectInfo(bucketDirectory, directoryPath).orElseThrow();
+    }
+
+    @Override
+    @SneakyThrows
+    public InputStream downloadFile(BucketName bucketName, String path) {
+        var objectPath = resolve(getBucketDirectory(bucketName), path);
+
+        return new FileChannelInputStream(FileChannel.open(objectPath, StandardOpenOption.READ), 0, Long.MAX_VALUE);
+    }
+
+    @Override
+    @SneakyThrows
+    public InputStream downloadFile(BucketName bucketName, String path, long offset, long length) {
+        var objectPath = resolve(getBucketDirectory(bucketName), path);
+
+        return new FileChannelInputStream(FileChannel.open(objectPath, StandardOpenOption.READ), offset, length);
+    }
+
+    @Override
+    public void downloadDirectory(BucketName bucketName, String path, ZipCompression compression,
+                                  ZipOutputStream zipOutputStream) {
+
+        var entryNameIndex = ResourcePath.of(path).nameIndex();
+
+        var zipSources = new ArrayList<ZipSource>();
+
+        zipSources.add(new ZipSource(path.substring(entryNameIndex), path, 0));
+
+        for (var objectInfo : getDirectoryObjectsInfo(bucketName, path, true)) {
+            var entryName = objectInfo.path().substring(entryNameIndex);
+
+            zipSources.add(new ZipSource(entryName, objectInfo.path(), objectInfo.size()));
+        }
+
+        prefetchingZipWriter.write(
+                zipSources, objectPath -> downloadFile(bucketName, objectPath), compression, zipOutputStream
+        );
+    }
+
+    @Override
+    @SneakyThrows
+    public void moveFile(BucketName bucketName, String oldPath, String newPath) {
+        var bucketDirectory = getBucketDirectory(bucketName);
+        var targetPath = resolve(bucketDirectory, newPath);
+
+        Files.createDirectories(targetPath.getParent());
+        Files.move(resolve(bucketDirectory, oldPath), targetPath, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    @Override
+    @SneakyThrows
+    public void moveDirectory(BucketName bucketName, String oldPath, String newPath, MoveProgressListener listener) {
+        var bucketDirectory = getBucketDirectory(bucketName);
+        var targetPath = resolve(bucketDirectory, newPath);
+
+        var objectsCount = countDirectoryObjects(bucketName, oldPath);
+
+        Files.createDirectories(targetPath.getParent());
+        Files.move(resolve(bucketDirectory, oldPath), targetPath, StandardCopyOption.ATOMIC_MOVE);
+
+        listener.onProgress(new MoveProgress(objectsCount, objectsCount, 0, objectsCount));
+    }
+
+    @Override
+    @SneakyThrows
+    public void removeFile(BucketName bucketName, String path) {
+        Files.deleteIfExists(resolve(getBucketDirectory(bucketName), path));
+    }
+
+    @Override
+    @SneakyThrows
+    public void removeDirectory(BucketName bucketName, String path) {
+        FileSystemUtils.deleteRecursively(resolve(getBucketDirectory(bucketName), path));
+    }
+
+    @Override
+    public boolean fileExists(BucketName bucketName, String path) {
+        return findFileInfo(bucketName, path).isPresent();
+    }
+
+    @Override
+    public boolean directoryExists(BucketName bucketName, String path) {
+        return findDirectoryInfo(bucketName, path).isPresent();
+    }
+
+    @Override
+    public void search(BucketName bucketName, String path, String query, Consumer<StorageObjectInfo> consumer) {
+        try (var objectsInfo = walk(bucketName, path, Integer.MAX_VALUE)) {
+            objectsInfo
+                    .filter(objectInfo -> objectInfo.name().contains(query))
+                    .forEach(consumer);
+        }
+    }
+
+    @SneakyThrows
+    private Stream<StorageObjectInfo> walk(BucketName bucketName, String path, int maxDepth) {
+        var bucketDirectory = getBucketDirectory(bucketName);
+        var directoryPath = resolve(bucketDirectory, path);
+
+        if (!Files.isDirectory(directoryPath)) {
+            return Stream.empty();
+        }
+
+        return Files.walk(directoryPath, maxDepth)
+                .filter(objectPath -> !objectPath.equals(directoryPath))
+                .map(objectPath -> readObjectInfo(bucketDirectory, objectPath))
+                .flatMap(Optional::stream);
+    }
+
+    @SneakyThrows
+    private Optional<StorageObjectInfo> readObjectInfo(Path bucketDirectory, Path objectPath) {
+        var attributes = (BasicFileAttributes) null;
+
+        try {
+            attributes = Files.readAttributes(objectPath, BasicFileAttributes.class);
+        } catch (NoSuchFileException exception) {
+            return Optional.empty();
+        }
+
+        var relativePath = bucketDirectory.relativize(objectPath).toString()
+                .replace(File.separator, PathUtil.PATH_DELIMITER);
+
+        if (attributes.isDirectory()) {
+            var path = relativePath + PathUtil.PATH_DELIMITER;
+            return Optional.of(new StorageObjectInfo(path, PathUtil.extractResourceName(path), 0, true, null));
+        }
+
+        var fileName = PathUtil.extractResourceName(relativePath);
+
+        return Optional.of(new StorageObjectInfo(
+                relativePath, fileName, attributes.size(), false, toEtag(attributes)
+        ));
+    }
+
+    private Path getBucketDirectory(BucketName bucketName) {
+        return rootDirectory.resolve(bucketName.getValue());
+    }
+
+    private static Path resolve(Path bucketDirectory, String path) {
+        var objectPath = bucketDirectory.resolve(path).normalize();
+
+        if (!objectPath.startsWith(bucketDirectory)) {
+            throw new IllegalArgumentException(PATH_OUTSIDE_BUCKET_MESSAGE.formatted(path));
+        }
+
+        return objectPath;
+    }
+
+    private static String toEtag(BasicFileAttributes attributes) {
+        return Long.toHexString(attributes.lastModifiedTime().toMillis())
+                + ETAG_DELIMITER
+                + Long.toHexString(attributes.size());
+    }
+}
@@ -0,0 +1,8 @@
+package ru.redeyed.cloudstorage.s3.local;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.nio.file.Path;
+
+@ConfigurationProperties(prefix = "storage.local")
+public record LocalStorageConfigProperties(Path rootDirectory) {
+}
@@ -0,0 +1,8 @@
+package ru.redeyed.cloudstorage.s3.memory;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "storage.memory")
+public record InMemoryStorageConfigProperties(Duration latency) {
+}
@@ -0,0 +1,404 @@
+package ru.redeyed.cloudstorage.s3.memory;
+
+import lombok.SneakyThrows;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import ru.redeyed.cloudstorage.common.io.ByteBufferInputStream;
+import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.common.util.ResourcePath;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import ru.redeyed.cloudstorage.s3.StoragePage;
+import ru.redeyed.cloudstorage.s3.StoragePageRequest;
+import ru.redeyed.cloudstorage.s3.archive.PrefetchingZipWriter;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
+import ru.redeyed.cloudstorage.s3.archive.ZipSource;
+import ru.redeyed.cloudstorage.s3.move.MoveProgress;
+import ru.redeyed.cloudstorage.s3.move.MoveProgressListener;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.zip.ZipOutputStream;
+
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "memory")
+public class InMemoryStorageService implements SimpleStorageService {
+
+    private static final String OBJECT_NOT_FOUND_MESSAGE = "Object '%s' does not exist";
+
+    private static final String PREFIX_UPPER_BOUND = String.valueOf(Character.MAX_VALUE);
+
+    private static final ByteBuffer EMPTY_CONTENT = ByteBuffer.allocateDirect(0).asReadOnlyBuffer();
+
+    private static final long UNKNOWN_OBJECT_SIZE = -1;
+
+    private final Map<BucketName, ConcurrentNavigableMap<String, StoredObject>> buckets;
+
+    private final AtomicLong versions = new AtomicLong();
+
+    private final PrefetchingZipWriter prefetchingZipWriter;
+
+    private final Duration latency;
+
+    public InMemoryStorageService(InMemoryStorageConfigProperties inMemoryStorageConfigProperties,
+                                  PrefetchingZipWriter prefetchingZipWriter) {
+
+        this.prefetchingZipWriter = prefetchingZipWriter;
+        this.latency = Objects.requireNonNullElse(inMemoryStorageConfigProperties.latency(), Duration.ZERO);
+
+        this.buckets = new EnumMap<>(BucketName.class);
+
+        for (var bucketName : BucketName.values()) {
+            buckets.put(bucketName, new ConcurrentSkipListMap<>());
+        }
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> findFileInfo(BucketName bucketName, String path) {
+        simulateLatency();
+
+        return Optional.ofNullable(getObjects(bucketName).get(path))
+                .map(storedObject -> toStorageObjectInfo(path, storedObject));
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> findDirectoryInfo(BucketName bucketName, String path) {
+        if (!PathUtil.isDirectory(path)) {
+            path = path + PathUtil.PATH_DELIMITER;
+        }
+
+        var markerInfo = findFileInfo(bucketName, path);
+
+        if (markerInfo.isPresent()) {
+            return markerInfo;
+        }
+
+        if (scan(bucketName, path).isEmpty()) {
+            return Optional.empty();
+        }
+
+        return Optional.of(toDirectoryInfo(path));
+    }
+
+    @Override
+    public List<StorageObjectInfo> getDirectoryObjectsInfo(BucketName bucketName, String path, boolean recursive) {
+        simulateLatency();
+
+        if (!recursive) {
+            return listChildren(getObjects(bucketName), path, path);
+        }
+
+        var objectsInfo = new ArrayList<StorageObjectInfo>();
+
+        for (var entry : scan(bucketName, path).entrySet()) {
+            if (!entry.getKey().equals(path)) {
+                objectsInfo.add(toStorageObjectInfo(entry.getKey(), entry.getValue()));
+            }
+        }
+
+        return objectsInfo;
+    }
+
+    @Override
+    public StoragePage getDirectoryObjectsInfo(BucketName bucketName, String path, StoragePageRequest pageRequest) {
+        simulateLatency();
+
+        var prefix = path + Objects.toString(pageRequest.namePrefix(), "");
+        var startAfter = pageRequest.startAfter();
+
+        var objectsInfo = new ArrayList<StorageObjectInfo>();
+
+        for (var objectInfo : listChildren(getObjects(bucketName), path, prefix)) {
+            if (objectInfo.isDirectory() ? !pageRequest.includeDirectories() : !pageRequest.includeFiles()) {
+                continue;
+            }
+
+            if (startAfter != null && (pageRequest.descending()
+                    ? objectInfo.path().compareTo(startAfter) >= 0
+                    : objectInfo.path().compareTo(startAfter) <= 0)) {
+                continue;
+            }
+
+            objectsInfo.add(objectInfo);
+        }
+
+        if (pageRequest.descending()) {
+            Collections.reverse(objectsInfo);
+        }
+
+        var pageSize = Math.min(objectsInfo.size(), pageRequest.limit() + 1);
+
+        return StoragePage.of(objectsInfo.subList(0, pageSize), pageRequest.limit());
+    }
+
+    @Override
+    public long countDirectoryObjects(BucketName bucketName, String path) {
+        simulateLatency();
+
+        var objects = scan(bucketName, path);
+
+        return objects.containsKey(path) ? objects.size() - 1 : objects.size();
+    }
+
+    @Override
+    public long getDirectorySize(BucketName bucketName, String path) {
+        simulateLatency();
+
+        return scan(bucketName, path).values().stream()
+                .mapToLong(StoredObject::size)
+                .sum();
+    }
+
+    @Override
+    @SneakyThrows
+    public List<StorageObjectInfo> uploadFiles(BucketName bucketName, String rootPath, List<MultipartFile> files) {
+        simulateLatency();
+
+        var uploadedFilesInfo = new ArrayList<StorageObjectInfo>();
+
+        for (var file : files) {
+            var path = rootPath + Objects.requireNonNull(file.getOriginalFilename());
+
+            try (var inputStream = file.getInputStream()) {
+                uploadedFilesInfo.add(put(bucketName, path, readContent(inputStream, file.getSize())));
+            }
+        }
+
+        return uploadedFilesInfo;
+    }
+
+    @Override
+    @SneakyThrows
+    public StorageObjectInfo uploadFile(BucketName bucketName, String path, InputStream inputStream) {
+        simulateLatency();
+
+        return put(bucketName, path, readContent(inputStream, UNKNOWN_OBJECT_SIZE));
+    }
+
+    @Override
+    public StorageObjectInfo createDirectory(BucketName bucketName, String path) {
+        simulateLatency();
+
+        return put(bucketName, path, EMPTY_CONTENT);
+    }
+
+    @Override
+    public InputStream downloadFile(BucketName bucketName, String path) {
+        simulateLatency();
+
+        return new ByteBufferInputStream(getObject(bucketName, path).content().duplicate());
+    }
+
+    @Override
+    public InputStream downloadFile(BucketName bucketName, String path, long offset, long length) {
+        simulateLatency();
+
+        var content = getObject(bucketName, path).content();
+
+        var beginIndex = (int) Math.min(offset, content.limit());
+        var endIndex = (int) Math.min(offset + length, content.limit());
+
+        return new ByteBufferInputStream(content.slice(beginIndex, endIndex - beginIndex));
+    }
+
+    @Override
+    public void downloadDirectory(BucketName bucketName, String path, ZipCompression compression,
+                                  ZipOutputStream zipOutputStream) {
+
+        simulateLatency();
+
+        var entryNameIndex = ResourcePath.of(path).nameIndex();
+
+        var zipSources = new ArrayList<ZipSource>();
+
+        for (var entry : scan(bucketName, path).entrySet()) {
+            var entryName = entry.getKey().substring(entryNameIndex);
+
+            zipSources.add(new ZipSource(entryName, entry.getKey(), entry.getValue().size()));
+        }
+
+        prefetchingZipWriter.write(
+                zipSources, objectPath -> downloadFile(bucketName, objectPath), compression, zipOutputStream
+        );
+    }
+
+    @Override
+    public void moveFile(BucketName bucketName, String oldPath, String newPath) {
+        simulateLatency();
+
+        var objects = getObjects(bucketName);
+
+        objects.put(newPath, objects.get(oldPath));
+        objects.remove(oldPath);
+    }
+
+    @Override
+    public void moveDirectory(BucketName bucketName, String oldPath, String newPath, MoveProgressListener listener) {
+        simulateLatency();
+
+        var objects = getObjects(bucketName);
+        var objectsToMove = new ArrayList<>(scan(bucketName, oldPath).entrySet());
+
+        for (var entry : objectsToMove) {
+            objects.put(newPath + entry.getKey().substring(oldPath.length()), entry.getValue());
+        }
+
+        for (var entry : objectsToMove) {
+            objects.remove(entry.getKey());
+        }
+
+        var objectsCount = objectsToMove.size();
+
+        listener.onProgress(new MoveProgress(objectsCount, objectsCount, 0, objectsCount));
+    }
+
+    @Override
+    public void removeFile(BucketName bucketName, String path) {
+        simulateLatency();
+
+        getObjects(bucketName).remove(path);
+    }
+
+    @Override
+    public void removeDirectory(BucketName bucketName, String path) {
+        simulateLatency();
+
+        scan(bucketName, path).clear();
+    }
+
+    @Override
+    public boolean fileExists(BucketName bucketName, String path) {
+        return findFileInfo(bucketName, path).isPresent();
+    }
+
+    @Override
+    public boolean directoryExists(BucketName bucketName, String path) {
+        return findDirectoryInfo(bucketName, path).isPresent();
+    }
+
+    @Override
+    public void search(BucketName bucketName, String path, String query, Consumer<StorageObjectInfo> consumer) {
+        simulateLatency();
+
+        for (var entry : scan(bucketName, path).entrySet()) {
+            var objectPath = entry.getKey();
+
+            if (!objectPath.equals(path) && PathUtil.extractResourceName(objectPath).contains(query)) {
+                consumer.accept(toStorageObjectInfo(objectPath, entry.getValue()));
+            }
+        }
+    }
+
+    private StorageObjectInfo put(BucketName bucketName, String path, ByteBuffer content) {
+        var storedObject = new StoredObject(content, Long.toHexString(versions.incrementAndGet()));
+
+        getObjects(bucketName).put(path, storedObject);
+
+        return toStorageObjectInfo(path, storedObject);
+    }
+
+    private StoredObject getObject(BucketName bucketName, String path) {
+        return Optional.ofNullable(getObjects(bucketName).get(path))
+                .orElseThrow(() -> new IllegalStateException(OBJECT_NOT_FOUND_MESSAGE.formatted(path)));
+    }
+
+    private ConcurrentNavigableMap<String, StoredObject> getObjects(BucketName bucketName) {
+        return buckets.get(bucketName);
+    }
+
+    private ConcurrentNavigableMap<String, StoredObject> scan(BucketName bucketName, String prefix) {
+        return getObjects(bucketName).subMap(prefix, true, prefix + PREFIX_UPPER_BOUND, false);
+    }
+
+    private static List<StorageObjectInfo> listChildren(NavigableMap<String, StoredObject> objects, String path,
+                                                        String prefix) {
+
+        var children = new ArrayList<StorageObjectInfo>();
+
+        var entry = objects.ceilingEntry(prefix);
+
+        while (entry != null && entry.getKey().startsWith(prefix)) {
+            var objectPath = entry.getKey();
+            var delimiterIndex = objectPath.indexOf(PathUtil.PATH_DELIMITER, path.length());
+
+            if (delimiterIndex == -1) {
+                if (!objectPath.equals(path)) {
+                    children.add(toStorageObjectInfo(objectPath, entry.getValue()));
+                }
+
+                entry = objects.higherEntry(objectPath);
+                continue;
+            }
+
+            var directoryPath = objectPath.substring(0, delimiterIndex + 1);
+
+            children.add(objectPath.equals(directoryPath)
+                    ? toStorageObjectInfo(objectPath, entry.getValue())
+                    : toDirectoryInfo(directoryPath)
+            );
+
+            entry = objects.higherEntry(directoryPath + PREFIX_UPPER_BOUND);
+        }
+
+        return children;
+    }
+
+    private static ByteBuffer readContent(InputStream inputStream, long size) throws IOException {
+        if (size == UNKNOWN_OBJECT_SIZE) {
+            var bytes = inputStream.readAllBytes();
+            return ByteBuffer.allocateDirect(bytes.length).put(bytes).flip().asReadOnlyBuffer();
+        }
+
+        var content = ByteBuffer.allocateDirect(Math.toIntExact(size));
+        var sourceChannel = Channels.newChannel(inputStream);
+
+        var readCount = 0;
+
+        while (content.hasRemaining() && readCount != -1) {
+            readCount = sourceChannel.read(content);
+        }
+
+        return content.flip().asReadOnlyBuffer();
+    }
+
+    private static StorageObjectInfo toStorageObjectInfo(String path, StoredObject storedObject) {
+        var name = PathUtil.extractResourceName(path);
+        var isDirectory = PathUtil.isDirectory(path);
+
+        return new StorageObjectInfo(path, name, storedObject.size(), isDirectory, storedObject.etag());
+    }
+
+    private static StorageObjectInfo toDirectoryInfo(String path) {
+        return new StorageObjectInfo(path, PathUtil.extractResourceName(path), 0, true, null);
+    }
+
+    @SneakyThrows
+    private void simulateLatency() {
+        if (latency.isPositive()) {
+            Thread.sleep(latency);
+        }
+    }
+
+    private record StoredObject(ByteBuffer content, String etag) {
+
+        long size() {
+            return content.limit();
+        }
+    }
+}
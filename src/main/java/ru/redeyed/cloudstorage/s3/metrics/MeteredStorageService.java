@@ -0,0 +1,335 @@
+package ru.redeyed.cloudstorage.s3.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.BaseUnits;
+import io.minio.errors.ErrorResponseException;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.multipart.MultipartFile;
+import ru.redeyed.cloudstorage.common.io.CountingInputStream;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.DirectorySummary;
+import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import ru.redeyed.cloudstorage.s3.StoragePage;
+import ru.redeyed.cloudstorage.s3.StoragePageRequest;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
+import ru.redeyed.cloudstorage.s3.minio.MinioStatusCode;
+import ru.redeyed.cloudstorage.s3.move.MoveProgressListener;
+import ru.redeyed.cloudstorage.s3.trace.MinioCallTrace;
+import ru.redeyed.cloudstorage.s3.trace.MinioCallTraceContext;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.zip.ZipOutputStream;
+
+public class MeteredStorageService implements SimpleStorageService {
+
+    private static final String OPERATION_METRIC = "storage.operation";
+    private static final String OPERATION_ERRORS_METRIC = "storage.operation.errors";
+    private static final String OPERATION_BYTES_METRIC = "storage.operation.bytes";
+    private static final String OPERATION_S3_CALLS_METRIC = "storage.operation.s3.calls";
+
+    private static final String LAYER_TAG = "layer";
+    private static final String OPERATION_TAG = "operation";
+    private static final String OUTCOME_TAG = "outcome";
+    private static final String CODE_TAG = "code";
+
+    private static final String SUCCESS = "success";
+    private static final String ERROR = "error";
+
+    private static final String OTHER_ERROR_CODE = "Other";
+
+    private final SimpleStorageService storageService;
+
+    private final StorageLayer layer;
+
+    private final MeterRegistry meterRegistry;
+
+    private final boolean s3CallsTraced;
+
+    public MeteredStorageService(SimpleStorageService storageService, StorageLayer layer,
+                                 MeterRegistry meterRegistry) {
+
+        this(storageService, layer, meterRegistry, false);
+    }
+
+    public MeteredStorageService(SimpleStorageService storageService, StorageLayer layer,
+                                 MeterRegistry meterRegistry, boolean s3CallsTraced) {
+
+        this.storageService = storageService;
+        this.layer = layer;
+        this.meterRegistry = meterRegistry;
+        this.s3CallsTraced = s3CallsTraced;
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> findFileInfo(BucketName bucketName, String path) {
+        return measure(StorageOperation.FIND_FILE_INFO, () -> storageService.findFileInfo(bucketName, path));
+    }
+
+    @Override
+    public Optional<StorageObjectInfo> findDirectoryInfo(BucketName bucketName, String path) {
+        return measure(StorageOperation.FIND_DIRECTORY_INFO, () -> storageService.findDirectoryInfo(bucketName, path));
+    }
+
+    @Override
+    public List<StorageObjectInfo> getDirectoryObjectsInfo(BucketName bucketName, String path, boolean recursive) {
+        return measure(StorageOperation.GET_DIRECTORY_OBJECTS_INFO,
+                () -> storageService.getDirectoryObjectsInfo(bucketName, path, recursive)
+        );
+    }
+
+    @Override
+    public StoragePage getDirectoryObjectsInfo(BucketName bucketName, String path, StoragePageRequest pageRequest) {
+        return measure(StorageOperation.GET_DIRECTORY_PAGE,
+                () -> storageService.getDirectoryObjectsInfo(bucketName, path, pageRequest)
+        );
+    }
+
+    @Override
+    public long countDirectoryObjects(BucketName bucketName, String path) {
+        return measure(StorageOperation.COUNT_DIRECTORY_OBJECTS,
+                () -> storageService.countDirectoryObjects(bucketName, path)
+        );
+    }
+
+    @Override
+    public long countDirectoryObjects(BucketName bucketName, String path, long limit) {
+        return measure(StorageOperation.COUNT_DIRECTORY_OBJECTS,
+                () -> storageService.countDirectoryObjects(bucketName, path, limit)
+        );
+    }
+
+    @Override
+    public long getDirectorySize(BucketName bucketName, String path) {
+        return measure(StorageOperation.GET_DIRECTORY_SIZE, () -> storageService.getDirectorySize(bucketName, path));
+    }
+
+    @Override
+    public DirectorySummary getDirectorySummary(BucketName bucketName, String path) {
+        return measure(StorageOperation.GET_DIRECTORY_SUMMARY,
+                () -> storageService.getDirectorySummary(bucketName, path)
+        );
+    }
+
+    @Override
+    public List<StorageObjectInfo> uploadFiles(BucketName bucketName, String rootPath, List<MultipartFile> files) {
+        var uploadedFilesInfo = measure(StorageOperation.UPLOAD_FILES,
+                () -> storageService.uploadFiles(bucketName, rootPath, files)
+        );
+
+        recordBytes(StorageOperation.UPLOAD_FILES, files.stream().mapToLong(MultipartFile::getSize).sum());
+
+        return uploadedFilesInfo;
+    }
+
+    @Override
+    public StorageObjectInfo uploadFile(BucketName bucketName, String path, InputStream inputStream) {
+        var countingInputStream = new CountingInputStream(inputStream);
+
+        var uploadedFileInfo = measure(StorageOperation.UPLOAD_FILE,
+                () -> storageService.uploadFile(bucketName, path, countingInputStream)
+        );
+
+        recordBytes(StorageOperation.UPLOAD_FILE, countingInputStream.getCount());
+
+        return uploadedFileInfo;
+    }
+
+    @Override
+    public StorageObjectInfo createDirectory(BucketName bucketName, String path) {
+        return measure(StorageOperation.CREATE_DIRECTORY, () -> storageService.createDirectory(bucketName, path));
+    }
+
+    @Override
+    public InputStream downloadFile(BucketName bucketName, String path) {
+        var inputStream = measure(StorageOperation.DOWNLOAD_FILE, () -> storageService.downloadFile(bucketName, path));
+        return new RecordingInputStream(inputStream, StorageOperation.DOWNLOAD_FILE);
+    }
+
+    @Override
+    public InputStream downloadFile(BucketName bucketName, String path, long offset, long length) {
+        var inputStream = measure(StorageOperation.DOWNLOAD_FILE_RANGE,
+                () -> storageService.downloadFile(bucketName, path, offset, length)
+        );
+
+        return new RecordingInputStream(inputStream, StorageOperation.DOWNLOAD_FILE_RANGE);
+    }
+
+    @Override
+    public void downloadDirectory(BucketName bucketName, String path, ZipCompression compression,
+                                  ZipOutputStream zipOutputStream) {
+
+        measure(StorageOperation.DOWNLOAD_DIRECTORY,
+                () -> storageService.downloadDirectory(bucketName, path, compression, zipOutputStream)
+        );
+    }
+
+    @Override
+    public void moveFile(BucketName bucketName, String oldPath, String newPath) {
+        measure(StorageOperation.MOVE_FILE, () -> storageService.moveFile(bucketName, oldPath, newPath));
+    }
+
+    @Override
+    public void moveDirectory(BucketName bucketName, String oldPath, String newPath, MoveProgressListener listener) {
+        measure(StorageOperation.MOVE_DIRECTORY,
+                () -> storageService.moveDirectory(bucketName, oldPath, newPath, listener)
+        );
+    }
+
+    @Override
+    public void removeFile(BucketName bucketName, String path) {
+        measure(StorageOperation.REMOVE_FILE, () -> storageService.removeFile(bucketName, path));
+    }
+
+    @Override
+    public void removeDirectory(BucketName bucketName, String path) {
+        measure(StorageOperation.REMOVE_DIRECTORY, () -> storageService.removeDirectory(bucketName, path));
+    }
+
+    @Override
+    public boolean fileExists(BucketName bucketName, String path) {
+        return measure(StorageOperation.FILE_EXISTS, () -> storageService.fileExists(bucketName, path));
+    }
+
+    @Override
+    public boolean directoryExists(BucketName bucketName, String path) {
+        return measure(StorageOperation.DIRECTORY_EXISTS, () -> storageService.directoryExists(bucketName, path));
+    }
+
+    @Override
+    public void search(BucketName bucketName, String path, String query, Consumer<StorageObjectInfo> consumer) {
+        measure(StorageOperation.SEARCH, () -> storageService.search(bucketName, path, query, consumer));
+    }
+
+    private void measure(StorageOperation operation, Runnable call) {
+        measure(operation, () -> {
+            call.run();
+            return null;
+        });
+    }
+
+    private <T> T measure(StorageOperation operation, Supplier<T> call) {
+        if (layer == StorageLayer.BACKEND) {
+            countBackendCall();
+        }
+
+        if (!s3CallsTraced) {
+            return time(operation, call);
+        }
+
+        var trace = new MinioCallTrace(operation.getValue(), MinioCallTraceContext.current());
+
+        try {
+            return MinioCallTraceContext.callWithin(trace, () -> time(operation, call));
+        } finally {
+            recordS3Calls(operation, trace.getCallsCount());
+        }
+    }
+
+    private <T> T time(StorageOperation operation, Supplier<T> call) {
+        var sample = Timer.start(meterRegistry);
+        var outcome = SUCCESS;
+
+        try {
+            return call.get();
+
+        } catch (Exception exception) {
+            outcome = ERROR;
+            recordError(operation, exception);
+            throw exception;
+
+        } finally {
+            sample.stop(Timer.builder(OPERATION_METRIC)
+                    .tag(LAYER_TAG, layer.getValue())
+                    .tag(OPERATION_TAG, operation.getValue())
+                    .tag(OUTCOME_TAG, outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry)
+            );
+        }
+    }
+
+    private void countBackendCall() {
+        var requestAttributes = RequestContextHolder.getRequestAttributes();
+
+        if (requestAttributes == null) {
+            return;
+        }
+
+        var requestBackendCalls = requestAttributes.getAttribute(
+                StorageMetricsInterceptor.REQUEST_BACKEND_CALLS_ATTRIBUTE, RequestAttributes.SCOPE_REQUEST
+        );
+
+        if (requestBackendCalls != null) {
+            ((AtomicLong) requestBackendCalls).incrementAndGet();
+        }
+    }
+
+    private void recordError(StorageOperation operation, Exception exception) {
+        meterRegistry.counter(OPERATION_ERRORS_METRIC,
+                LAYER_TAG, layer.getValue(),
+                OPERATION_TAG, operation.getValue(),
+                CODE_TAG, getErrorCode(exception)
+        ).increment();
+    }
+
+    private void recordBytes(StorageOperation operation, long bytes) {
+        DistributionSummary.builder(OPERATION_BYTES_METRIC)
+                .baseUnit(BaseUnits.BYTES)
+                .tag(LAYER_TAG, layer.getValue())
+                .tag(OPERATION_TAG, operation.getValue())
+                .register(meterRegistry)
+                .record(bytes);
+    }
+
+    private void recordS3Calls(StorageOperation operation, long count) {
+        DistributionSummary.builder(OPERATION_S3_CALLS_METRIC)
+                .tag(OPERATION_TAG, operation.getValue())
+                .register(meterRegistry)
+                .record(count);
+    }
+
+    private static String getErrorCode(Throwable exception) {
+        for (var cause = exception; cause != null; cause = cause.getCause()) {
+            if (cause instanceof ErrorResponseException errorResponseException) {
+                return MinioStatusCode.fromValue(errorResponseException.errorResponse().code())
+                        .map(MinioStatusCode::getValue)
+                        .orElse(OTHER_ERROR_CODE);
+            }
+        }
+
+        return exception.getClass().getSimpleName();
+    }
+
+    private class RecordingInputStream extends CountingInputStream {
+
+        private final StorageOperation operation;
+
+        private boolean recorded;
+
+        private RecordingInputStream(InputStream inputStream, StorageOperation operation) {
+            super(inputStream);
+            this.operation = operation;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                super.close();
+            } finally {
+                if (!recorded) {
+                    recorded = true;
+                    recordBytes(operation, getCount());
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,14 @@
+package ru.redeyed.cloudstorage.s3.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum StorageLayer {
+
+    SERVICE("service"),
+    BACKEND("backend");
+
+    private final String value;
+}
@@ -0,0 +1,58 @@
+package ru.redeyed.cloudstorage.s3.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+import java.util.concurrent.atomic.AtomicLong;
+
+@RequiredArgsConstructor
+public class StorageMetricsInterceptor implements HandlerInterceptor {
+
+    public static final String REQUEST_BACKEND_CALLS_ATTRIBUTE =
+            StorageMetricsInterceptor.class.getName() + ".backendCalls";
+
+    private static final String REQUEST_BACKEND_CALLS_METRIC = "storage.request.backend.calls";
+
+    private static final String HANDLER_TAG = "handler";
+
+    private static final String HANDLER_NAME_DELIMITER = ".";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+
+        if (request.getAttribute(REQUEST_BACKEND_CALLS_ATTRIBUTE) == null) {
+            request.setAttribute(REQUEST_BACKEND_CALLS_ATTRIBUTE, new AtomicLong());
+        }
+
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception exception) {
+
+        var backendCalls = (AtomicLong) request.getAttribute(REQUEST_BACKEND_CALLS_ATTRIBUTE);
+        request.removeAttribute(REQUEST_BACKEND_CALLS_ATTRIBUTE);
+
+        if (backendCalls == null || !(handler instanceof HandlerMethod handlerMethod)) {
+            return;
+        }
+
+        var handlerName = handlerMethod.getBeanType().getSimpleName()
+                + HANDLER_NAME_DELIMITER + handlerMethod.getMethod().getName();
+
+        DistributionSummary.builder(REQUEST_BACKEND_CALLS_METRIC)
+                .tag(HANDLER_TAG, handlerName)
+                .register(meterRegistry)
+                .record(backendCalls.get());
+    }
+}
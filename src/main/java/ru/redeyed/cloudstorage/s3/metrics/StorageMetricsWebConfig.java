@@ -0,0 +1,19 @@
+package ru.redeyed.cloudstorage.s3.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@RequiredArgsConstructor
+public class StorageMetricsWebConfig implements WebMvcConfigurer {
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new StorageMetricsInterceptor(meterRegistry));
+    }
+}
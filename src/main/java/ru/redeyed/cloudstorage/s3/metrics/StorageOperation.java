@@ -0,0 +1,32 @@
+package ru.redeyed.cloudstorage.s3.metrics;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum StorageOperation {
+
+    FIND_FILE_INFO("findFileInfo"),
+    FIND_DIRECTORY_INFO("findDirectoryInfo"),
+    GET_DIRECTORY_OBJECTS_INFO("getDirectoryObjectsInfo"),
+    GET_DIRECTORY_PAGE("getDirectoryPage"),
+    COUNT_DIRECTORY_OBJECTS("countDirectoryObjects"),
+    GET_DIRECTORY_SIZE("getDirectorySize"),
+    GET_DIRECTORY_SUMMARY("getDirectorySummary"),
+    UPLOAD_FILES("uploadFiles"),
+    UPLOAD_FILE("uploadFile"),
+    CREATE_DIRECTORY("createDirectory"),
+    DOWNLOAD_FILE("downloadFile"),
+    DOWNLOAD_FILE_RANGE("downloadFileRange"),
+    DOWNLOAD_DIRECTORY("downloadDirectory"),
+    MOVE_FILE("moveFile"),
+    MOVE_DIRECTORY("moveDirectory"),
+    REMOVE_FILE("removeFile"),
+    REMOVE_DIRECTORY("removeDirectory"),
+    FILE_EXISTS("fileExists"),
+    DIRECTORY_EXISTS("directoryExists"),
+    SEARCH("search");
+
+    private final String value;
+}
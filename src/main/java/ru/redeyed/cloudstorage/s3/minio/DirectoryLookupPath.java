@@ -0,0 +1,15 @@
+package ru.redeyed.cloudstorage.s3.minio;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum DirectoryLookupPath {
+
+    MARKER_OBJECT("marker-object"),
+    IMPLICIT_PREFIX("implicit-prefix"),
+    NOT_FOUND("not-found");
+
+    private final String value;
+}
@@ -1,21 +1,116 @@
 package ru.redeyed.cloudstorage.s3.minio;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.okhttp3.OkHttpMetricsEventListener;
+import io.minio.MinioAsyncClient;
 import io.minio.MinioClient;
+import io.minio.http.HttpUtils;
 import lombok.RequiredArgsConstructor;
+import okhttp3.ConnectionPool;
+import okhttp3.Dispatcher;
+import okhttp3.OkHttpClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import ru.redeyed.cloudstorage.common.concurrent.ExecutorFactory;
+import ru.redeyed.cloudstorage.s3.trace.MinioTraceConfigProperties;
+import ru.redeyed.cloudstorage.s3.trace.TracingMinioClient;
+import java.util.concurrent.TimeUnit;
 
 @Configuration
+@ConditionalOnProperty(name = "storage.backend", havingValue = "minio", matchIfMissing = true)
 @RequiredArgsConstructor
 public class MinioConfig {
 
+    private static final String HTTP_REQUESTS_METRIC = "minio.http.requests";
+    private static final String HTTP_CONNECTIONS_METRIC = "minio.http.connections";
+    private static final String HTTP_CALLS_METRIC = "minio.http.calls";
+
+    private static final String STATE_TAG = "state";
+
+    private static final String ACTIVE = "active";
+    private static final String IDLE = "idle";
+    private static final String RUNNING = "running";
+    private static final String QUEUED = "queued";
+
+    private static final String DISPATCHER_EXECUTOR_NAME = "minio-dispatcher";
+
     private final MinioConfigProperties minioConfigProperties;
 
+    private final MinioTraceConfigProperties minioTraceConfigProperties;
+
+    private final ExecutorFactory executorFactory;
+
+    private final MeterRegistry meterRegistry;
+
+    @Bean
+    public OkHttpClient minioHttpClient() {
+        var properties = minioConfigProperties.http();
+
+        var dispatcher = executorFactory.isVirtualThreads()
+                ? new Dispatcher(executorFactory.newTaskExecutor(DISPATCHER_EXECUTOR_NAME, properties.maxRequests()))
+                : new Dispatcher();
+
+        dispatcher.setMaxRequests(Math.max(properties.maxRequests(), 1));
+        dispatcher.setMaxRequestsPerHost(Math.max(properties.maxRequestsPerHost(), 1));
+
+        var connectionPool = new ConnectionPool(
+                Math.max(properties.maxIdleConnections(), 0), properties.keepAlive().toMillis(), TimeUnit.MILLISECONDS
+        );
+
+        registerPoolMetrics(dispatcher, connectionPool);
+
+        return HttpUtils.newDefaultHttpClient(
+                        properties.connectTimeout().toMillis(),
+                        properties.writeTimeout().toMillis(),
+                        properties.readTimeout().toMillis()
+                )
+                .newBuilder()
+                .dispatcher(dispatcher)
+                .connectionPool(connectionPool)
+                .eventListener(OkHttpMetricsEventListener.builder(meterRegistry, HTTP_REQUESTS_METRIC).build())
+                .build();
+    }
+
+    @Bean
+    public MinioClient minioClient(OkHttpClient minioHttpClient) {
+        var minioClient = MinioClient.builder()
+                .endpoint(minioConfigProperties.url())
+                .credentials(minioConfigProperties.accessKey(), minioConfigProperties.secretKey())
+                .httpClient(minioHttpClient)
+                .build();
+
+        return minioTraceConfigProperties.enabled()
+                ? new TracingMinioClient(minioClient)
+                : minioClient;
+    }
+
     @Bean
-    public MinioClient minioClient() {
-        return MinioClient.builder()
+    public MinioAsyncClient minioAsyncClient(OkHttpClient minioHttpClient) {
+        return MinioAsyncClient.builder()
                 .endpoint(minioConfigProperties.url())
                 .credentials(minioConfigProperties.accessKey(), minioConfigProperties.secretKey())
+                .httpClient(minioHttpClient)
                 .build();
     }
+
+    private void registerPoolMetrics(Dispatcher dispatcher, ConnectionPool connectionPool) {
+        Gauge.builder(HTTP_CONNECTIONS_METRIC, connectionPool,
+                        pool -> pool.connectionCount() - pool.idleConnectionCount())
+                .tag(STATE_TAG, ACTIVE)
+                .register(meterRegistry);
+
+        Gauge.builder(HTTP_CONNECTIONS_METRIC, connectionPool, ConnectionPool::idleConnectionCount)
+                .tag(STATE_TAG, IDLE)
+                .register(meterRegistry);
+
+        Gauge.builder(HTTP_CALLS_METRIC, dispatcher, Dispatcher::runningCallsCount)
+                .tag(STATE_TAG, RUNNING)
+                .register(meterRegistry);
+
+        Gauge.builder(HTTP_CALLS_METRIC, dispatcher, Dispatcher::queuedCallsCount)
+                .tag(STATE_TAG, QUEUED)
+                .register(meterRegistry);
+    }
 }
@@ -1,7 +1,35 @@
 package ru.redeyed.cloudstorage.s3.minio;
 
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import java.time.Duration;
 
 @ConfigurationProperties(prefix = "minio")
-public record MinioConfigProperties(String url, String accessKey, String secretKey) {
+public record MinioConfigProperties(
+
+        String url,
+
+        String accessKey,
+
+        String secretKey,
+
+        HttpClientProperties http
+) {
+
+    public record HttpClientProperties(
+
+            int maxIdleConnections,
+
+            Duration keepAlive,
+
+            int maxRequests,
+
+            int maxRequestsPerHost,
+
+            Duration connectTimeout,
+
+            Duration readTimeout,
+
+            Duration writeTimeout
+    ) {
+    }
 }
@@ -0,0 +1,239 @@
+package ru.redeyed.cloudstorage.s3.minio;
+
+import io.minio.CopyObjectArgs;
+import io.minio.CopySource;
+import io.minio.ListObjectsArgs;
+import io.minio.MinioClient;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.messages.DeleteError;
+import io.minio.messages.DeleteObject;
+import jakarta.annotation.PreDestroy;
+import lombok.SneakyThrows;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.redeyed.cloudstorage.common.concurrent.ExecutorFactory;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.minio.exception.ObjectsRemovalException;
+import ru.redeyed.cloudstorage.s3.move.MoveConfigProperties;
+import ru.redeyed.cloudstorage.s3.move.MoveProgress;
+import ru.redeyed.cloudstorage.s3.move.MoveProgressListener;
+import ru.redeyed.cloudstorage.s3.trace.MinioCallTraceContext;
+import java.io.ByteArrayInputStream;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "minio", matchIfMissing = true)
+@Slf4j
+public class MinioDirectoryMover {
+
+    private static final String EXECUTOR_NAME = "minio-move";
+
+    private final MinioClient minioClient;
+
+    private final ExecutorService executor;
+
+    private final int concurrency;
+
+    private final int deleteBatchSize;
+
+    public MinioDirectoryMover(MinioClient minioClient, MoveConfigProperties moveConfigProperties,
+                               ExecutorFactory executorFactory) {
+
+        this.minioClient = minioClient;
+        this.concurrency = Math.max(moveConfigProperties.concurrency(), 1);
+        this.executor = executorFactory.newTaskExecutor(EXECUTOR_NAME, concurrency);
+        this.deleteBatchSize = Math.max(moveConfigProperties.deleteBatchSize(), 1);
+    }
+
+    @SneakyThrows
+    public void move(BucketName bucketName, String oldPath, String newPath, MoveProgressListener listener) {
+        var sourceObjects = listObjectStates(bucketName, oldPath);
+        var targetObjects = listObjectStates(bucketName, newPath);
+
+        var progress = new Progress(sourceObjects.size(), listener);
+
+        var permits = new Semaphore(concurrency);
+        var failure = new AtomicReference<Throwable>();
+
+        for (var sourceObject : sourceObjects.entrySet()) {
+            if (failure.get() != null) {
+                break;
+            }
+
+            var sourcePath = sourceObject.getKey();
+            var targetPath = newPath + sourcePath.substring(oldPath.length());
+
+            if (sourceObject.getValue().equals(targetObjects.get(targetPath))) {
+                progress.skipped();
+                continue;
+            }
+
+            permits.acquire();
+
+            try {
+                executor.submit(MinioCallTraceContext.wrap(() -> {
+                    try {
+                        copyObject(bucketName, sourcePath, targetPath);
+                        progress.copied();
+                    } catch (Throwable exception) {
+                        failure.compareAndSet(null, exception);
+                    } finally {
+                        permits.release();
+                    }
+                }));
+            } catch (RejectedExecutionException exception) {
+                permits.release();
+                failure.compareAndSet(null, exception);
+            }
+        }
+
+        permits.acquire(concurrency);
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        if (!sourceObjects.containsKey(oldPath) && !targetObjects.containsKey(newPath)) {
+            createDirectoryMarker(bucketName, newPath);
+        }
+
+        removeObjects(bucketName, new ArrayList<>(sourceObjects.keySet()), progress);
+    }
+
+    @SneakyThrows
+    private Map<String, ObjectState> listObjectStates(BucketName bucketName, String path) {
+        var objectStates = new LinkedHashMap<String, ObjectState>();
+
+        var resultItems = minioClient.listObjects(ListObjectsArgs.builder()
+                .bucket(bucketName.getValue())
+                .prefix(path)
+                .recursive(true)
+                .build()
+        );
+
+        for (var resultItem : resultItems) {
+            var item = resultItem.get();
+            objectStates.put(item.objectName(), new ObjectState(item.size(), item.etag()));
+        }
+
+        return objectStates;
+    }
+
+    private void copyObject(BucketName bucketName, String sourcePath, String targetPath) throws Exception {
+        minioClient.copyObject(CopyObjectArgs.builder()
+                .bucket(bucketName.getValue())
+                .object(targetPath)
+                .source(CopySource.builder()
+                        .bucket(bucketName.getValue())
+                        .object(sourcePath)
+                        .build())
+                .build()
+        );
+    }
+
+    @SneakyThrows
+    private void createDirectoryMarker(BucketName bucketName, String path) {
+        minioClient.putObject(PutObjectArgs.builder()
+                .bucket(bucketName.getValue())
+                .object(path)
+                .stream(new ByteArrayInputStream(new byte[]{}), 0, -1)
+                .build()
+        );
+    }
+
+    @SneakyThrows
+    private void removeObjects(BucketName bucketName, List<String> paths, Progress progress) {
+        for (var batchStart = 0; batchStart < paths.size(); batchStart += deleteBatchSize) {
+            var batchEnd = Math.min(batchStart + deleteBatchSize, paths.size());
+
+            var objectsToDelete = paths.subList(batchStart, batchEnd).stream()
+                    .map(DeleteObject::new)
+                    .toList();
+
+            var resultDeleteErrors = minioClient.removeObjects(RemoveObjectsArgs.builder()
+                    .bucket(bucketName.getValue())
+                    .objects(objectsToDelete)
+                    .build()
+            );
+
+            var failedObjectsCount = 0;
+            var firstDeleteError = (DeleteError) null;
+
+            for (var resultDeleteError : resultDeleteErrors) {
+                var deleteError = resultDeleteError.get();
+                failedObjectsCount++;
+
+                if (firstDeleteError == null) {
+                    firstDeleteError = deleteError;
+                }
+
+                log.error("Error while deleting {} - {}", deleteError.objectName(), deleteError.message());
+            }
+
+            progress.deleted(objectsToDelete.size() - failedObjectsCount);
+
+            if (firstDeleteError != null) {
+                throw new ObjectsRemovalException(
+                        failedObjectsCount, firstDeleteError.objectName(), firstDeleteError.message()
+                );
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private record ObjectState(long size, String etag) {
+    }
+
+    private static class Progress {
+
+        private final long totalObjects;
+
+        private final MoveProgressListener listener;
+
+        private final AtomicLong copiedObjects = new AtomicLong();
+
+        private final AtomicLong skippedObjects = new AtomicLong();
+
+        private final AtomicLong deletedObjects = new AtomicLong();
+
+        Progress(long totalObjects, MoveProgressListener listener) {
+            this.totalObjects = totalObjects;
+            this.listener = listener;
+        }
+
+        void copied() {
+            copiedObjects.incrementAndGet();
+            report();
+        }
+
+        void skipped() {
+            skippedObjects.incrementAndGet();
+            report();
+        }
+
+        void deleted(long count) {
+            deletedObjects.addAndGet(count);
+            report();
+        }
+
+        private void report() {
+            listener.onProgress(new MoveProgress(
+                    totalObjects, copiedObjects.get(), skippedObjects.get(), deletedObjects.get()
+            ));
+        }
+    }
+}
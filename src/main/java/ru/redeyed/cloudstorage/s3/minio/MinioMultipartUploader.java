@@ -0,0 +1,244 @@
+package ru.redeyed.cloudstorage.s3.minio;
+
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.messages.Part;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.trace.MinioCall;
+import ru.redeyed.cloudstorage.s3.trace.MinioCallTrace;
+import ru.redeyed.cloudstorage.s3.trace.MinioCallTraceContext;
+import ru.redeyed.cloudstorage.s3.upload.UploadConfigProperties;
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "minio", matchIfMissing = true)
+@Slf4j
+public class MinioMultipartUploader {
+
+    private static final long MIN_PART_SIZE = 5L * 1024 * 1024;
+    private static final long MAX_PART_SIZE = Integer.MAX_VALUE - 8;
+
+    private static final int MAX_PARTS_COUNT = 10_000;
+
+    private static final long UNKNOWN_PART_SIZE = -1;
+
+    private static final String TOO_MANY_PARTS_MESSAGE = "Object exceeds the maximum number of upload parts.";
+
+    private final MinioClient minioClient;
+
+    private final MinioAsyncClient minioAsyncClient;
+
+    private final boolean enabled;
+
+    private final long threshold;
+
+    private final int partSize;
+
+    private final int concurrency;
+
+    private final Semaphore bufferPermits;
+
+    private final Queue<byte[]> freeBuffers;
+
+    public MinioMultipartUploader(MinioClient minioClient, MinioAsyncClient minioAsyncClient,
+                                  UploadConfigProperties uploadConfigProperties) {
+
+        var properties = uploadConfigProperties.multipart();
+
+        this.minioClient = minioClient;
+        this.minioAsyncClient = minioAsyncClient;
+        this.enabled = properties.enabled();
+        this.threshold = properties.threshold().toBytes();
+        this.partSize = (int) Math.clamp(properties.partSize().toBytes(), MIN_PART_SIZE, MAX_PART_SIZE);
+        this.concurrency = Math.max(properties.concurrency(), 1);
+        this.bufferPermits = new Semaphore((int) Math.max(properties.memoryLimit().toBytes() / partSize, 1), true);
+        this.freeBuffers = new ArrayBlockingQueue<>(concurrency);
+    }
+
+    public boolean isMultipart(long size) {
+        return enabled && (size < 0 || size >= threshold);
+    }
+
+    public ObjectWriteResponse upload(BucketName bucketName, String path, InputStream inputStream) throws Exception {
+        var trace = MinioCallTraceContext.current();
+        var bucket = bucketName.getValue();
+
+        var partPermits = new Semaphore(concurrency);
+        var partUploads = new ArrayList<CompletableFuture<Part>>();
+        var failed = new AtomicBoolean();
+
+        var uploadId = (String) null;
+        var buffer = (byte[]) null;
+
+        partPermits.acquire();
+
+        try {
+            buffer = acquireBuffer();
+            var length = inputStream.readNBytes(buffer, 0, partSize);
+
+            if (length < partSize) {
+                return putObject(bucket, path, buffer, length);
+            }
+
+            uploadId = await(traced(trace, MinioCall.CREATE_MULTIPART_UPLOAD,
+                    () -> minioAsyncClient.createMultipartUploadAsync(bucket, null, path, null, null)
+            )).result().uploadId();
+
+            for (var partNumber = 1; length > 0; partNumber++) {
+                if (partNumber > MAX_PARTS_COUNT) {
+                    throw new IllegalStateException(TOO_MANY_PARTS_MESSAGE);
+                }
+
+                var partBuffer = buffer;
+                buffer = null;
+
+                partUploads.add(uploadPart(
+                        trace, bucket, path, uploadId, partNumber, partBuffer, length, partPermits, failed
+                ));
+
+                if (failed.get()) {
+                    awaitAll(partUploads);
+                }
+
+                partPermits.acquire();
+                buffer = acquireBuffer();
+                length = inputStream.readNBytes(buffer, 0, partSize);
+            }
+
+            var parts = awaitAll(partUploads).toArray(Part[]::new);
+            var multipartUploadId = uploadId;
+
+            return await(traced(trace, MinioCall.COMPLETE_MULTIPART_UPLOAD,
+                    () -> minioAsyncClient.completeMultipartUploadAsync(
+                            bucket, null, path, multipartUploadId, parts, null, null
+                    )
+            ));
+
+        } catch (Exception exception) {
+            awaitQuietly(partUploads);
+
+            if (uploadId != null) {
+                abort(bucket, path, uploadId);
+            }
+
+            throw exception;
+
+        } finally {
+            if (buffer != null) {
+                releaseBuffer(buffer);
+                partPermits.release();
+            }
+        }
+    }
+
+    private ObjectWriteResponse putObject(String bucket, String path, byte[] buffer, int length) throws Exception {
+        return minioClient.putObject(PutObjectArgs.builder()
+                .bucket(bucket)
+                .object(path)
+                .stream(new ByteArrayInputStream(buffer, 0, length), length, UNKNOWN_PART_SIZE)
+                .build()
+        );
+    }
+
+    private CompletableFuture<Part> uploadPart(MinioCallTrace trace, String bucket, String path, String uploadId,
+                                               int partNumber, byte[] buffer, int length, Semaphore partPermits,
+                                               AtomicBoolean failed) throws Exception {
+
+        try {
+            return traced(trace, MinioCall.UPLOAD_PART,
+                    () -> minioAsyncClient.uploadPartAsync(
+                            bucket, null, path, buffer, length, uploadId, partNumber, null, null
+                    ))
+                    .thenApply(response -> new Part(partNumber, response.etag()))
+                    .whenComplete((part, failure) -> {
+                        if (failure != null) {
+                            failed.set(true);
+                        }
+
+                        releaseBuffer(buffer);
+                        partPermits.release();
+                    });
+
+        } catch (Exception exception) {
+            releaseBuffer(buffer);
+            partPermits.release();
+            throw exception;
+        }
+    }
+
+    private void abort(String bucket, String path, String uploadId) {
+        try {
+            await(minioAsyncClient.abortMultipartUploadAsync(bucket, null, path, uploadId, null, null));
+        } catch (Exception exception) {
+            log.warn("Failed to abort multipart upload {} of {}/{}", uploadId, bucket, path, exception);
+        }
+    }
+
+    private byte[] acquireBuffer() throws InterruptedException {
+        bufferPermits.acquire();
+
+        var buffer = freeBuffers.poll();
+
+        return buffer != null ? buffer : new byte[partSize];
+    }
+
+    private void releaseBuffer(byte[] buffer) {
+        freeBuffers.offer(buffer);
+        bufferPermits.release();
+    }
+
+    private static <T> CompletableFuture<T> traced(MinioCallTrace trace, MinioCall call,
+                                                   Callable<CompletableFuture<T>> action) throws Exception {
+        if (trace == null) {
+            return action.call();
+        }
+
+        trace.countCall(call);
+
+        var startTime = System.nanoTime();
+
+        return action.call().whenComplete((result, failure) -> trace.addDuration(call, System.nanoTime() - startTime));
+    }
+
+    private static <T> T await(CompletableFuture<T> future) throws Exception {
+        try {
+            return future.get();
+        } catch (ExecutionException exception) {
+            throw exception.getCause() instanceof Exception cause ? cause : exception;
+        }
+    }
+
+    private static <T> List<T> awaitAll(List<CompletableFuture<T>> futures) throws Exception {
+        var results = new ArrayList<T>(futures.size());
+
+        for (var future : futures) {
+            results.add(await(future));
+        }
+
+        return results;
+    }
+
+    private static void awaitQuietly(List<? extends CompletableFuture<?>> futures) {
+        for (var future : futures) {
+            try {
+                future.join();
+            } catch (RuntimeException ignore) {
+            }
+        }
+    }
+}
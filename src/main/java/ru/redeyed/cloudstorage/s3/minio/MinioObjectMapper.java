@@ -4,42 +4,27 @@ import io.minio.StatObjectResponse;
 import io.minio.messages.Item;
 import org.mapstruct.Mapper;
 import org.mapstruct.Mapping;
-import org.mapstruct.Named;
-import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.common.util.ResourcePath;
 import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
 
 @Mapper
 public abstract class MinioObjectMapper {
 
-    @Mapping(target = "path", expression = "java(item.objectName())")
-    @Mapping(target = "name", source = "item", qualifiedByName = "getName")
-    @Mapping(target = "size", expression = "java(item.size())")
-    @Mapping(target = "isDirectory", source = "item", qualifiedByName = "isDirectory")
-    public abstract StorageObjectInfo toStorageObjectInfo(Item item);
-
-    @Mapping(target = "path", expression = "java(statObjectResponse.object())")
-    @Mapping(target = "name", source = "statObjectResponse", qualifiedByName = "getName")
-    @Mapping(target = "size", expression = "java(statObjectResponse.size())")
-    @Mapping(target = "isDirectory", source = "statObjectResponse", qualifiedByName = "isDirectory")
-    public abstract StorageObjectInfo toStorageObjectInfo(StatObjectResponse statObjectResponse);
-
-    @Named("getName")
-    protected String getName(Item item) {
-        return PathUtil.extractResourceName(item.objectName());
+    public StorageObjectInfo toStorageObjectInfo(Item item) {
+        return toStorageObjectInfo(ResourcePath.of(item.objectName()), item.size(), item.etag());
     }
 
-    @Named("getName")
-    protected String getName(StatObjectResponse statObjectResponse) {
-        return PathUtil.extractResourceName(statObjectResponse.object());
+    public StorageObjectInfo toStorageObjectInfo(StatObjectResponse statObjectResponse) {
+        return toStorageObjectInfo(
+                ResourcePath.of(statObjectResponse.object()), statObjectResponse.size(), statObjectResponse.etag()
+        );
     }
 
-    @Named("isDirectory")
-    protected boolean isDirectory(StatObjectResponse statObjectResponse) {
-        return PathUtil.isDirectory(statObjectResponse.object());
-    }
-
-    @Named("isDirectory")
-    protected boolean isDirectory(Item item) {
-        return PathUtil.isDirectory(item.objectName());
-    }
+    @Mapping(target = "path", expression = "java(resourcePath.value())")
+    @Mapping(target = "name", expression = "java(resourcePath.name())")
+    @Mapping(target = "size", source = "size")
+    @Mapping(target = "isDirectory", expression = "java(resourcePath.isDirectory())")
+    @Mapping(target = "etag", source = "etag")
+    @Mapping(target = "blobId", ignore = true)
+    protected abstract StorageObjectInfo toStorageObjectInfo(ResourcePath resourcePath, long size, String etag);
 }
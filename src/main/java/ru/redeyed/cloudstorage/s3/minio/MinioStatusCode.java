@@ -2,12 +2,28 @@ package ru.redeyed.cloudstorage.s3.minio;
 
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import java.util.Arrays;
+import java.util.Optional;
 
 @RequiredArgsConstructor
 @Getter
 public enum MinioStatusCode {
 
-    NO_SUCH_KEY("NoSuchKey");
+    NO_SUCH_KEY("NoSuchKey"),
+    NO_SUCH_BUCKET("NoSuchBucket"),
+    NO_SUCH_UPLOAD("NoSuchUpload"),
+    ACCESS_DENIED("AccessDenied"),
+    INVALID_RANGE("InvalidRange"),
+    PRECONDITION_FAILED("PreconditionFailed"),
+    SLOW_DOWN("SlowDown"),
+    INTERNAL_ERROR("InternalError"),
+    SERVICE_UNAVAILABLE("ServiceUnavailable");
 
     private final String value;
+
+    public static Optional<MinioStatusCode> fromValue(String value) {
+        return Arrays.stream(values())
+                .filter(statusCode -> statusCode.value.equals(value))
+                .findFirst();
+    }
 }
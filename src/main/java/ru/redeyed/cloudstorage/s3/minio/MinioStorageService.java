@@ -8,40 +8,67 @@ import io.minio.MinioClient;
 import io.minio.PutObjectArgs;
 import io.minio.RemoveObjectArgs;
 import io.minio.RemoveObjectsArgs;
-import io.minio.Result;
 import io.minio.StatObjectArgs;
 import io.minio.errors.ErrorResponseException;
 import io.minio.messages.DeleteObject;
-import io.minio.messages.Item;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Component;
 import org.springframework.web.multipart.MultipartFile;
+import ru.redeyed.cloudstorage.common.io.CountingInputStream;
 import ru.redeyed.cloudstorage.common.util.PathUtil;
+import ru.redeyed.cloudstorage.common.util.ResourcePath;
 import ru.redeyed.cloudstorage.s3.BucketName;
 import ru.redeyed.cloudstorage.s3.SimpleStorageService;
 import ru.redeyed.cloudstorage.s3.StorageObjectInfo;
+import ru.redeyed.cloudstorage.s3.StoragePage;
+import ru.redeyed.cloudstorage.s3.StoragePageRequest;
+import ru.redeyed.cloudstorage.s3.archive.PrefetchingZipWriter;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
+import ru.redeyed.cloudstorage.s3.archive.ZipSource;
+import ru.redeyed.cloudstorage.s3.move.MoveProgressListener;
+import ru.redeyed.cloudstorage.s3.upload.UploadExecutor;
+import ru.redeyed.cloudstorage.s3.upload.UploadTask;
 import java.io.ByteArrayInputStream;
 import java.io.InputStream;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
-import java.util.concurrent.Executors;
-import java.util.concurrent.TimeUnit;
-import java.util.zip.ZipEntry;
+import java.util.function.Consumer;
 import java.util.zip.ZipOutputStream;
 
 @Component
+@ConditionalOnProperty(name = "storage.backend", havingValue = "minio", matchIfMissing = true)
 @RequiredArgsConstructor
 @Slf4j
 public class MinioStorageService implements SimpleStorageService {
 
+    private static final String DIRECTORY_LOOKUPS_METRIC = "storage.directory.lookups";
+    private static final String LOOKUP_PATH_TAG = "path";
+
+    private static final long UNKNOWN_OBJECT_SIZE = -1;
+    private static final long UNKNOWN_PART_SIZE = -1;
+    private static final long STREAM_PART_SIZE = 10L * 1024 * 1024;
+
     private final MinioClient minioClient;
 
     private final MinioObjectMapper minioObjectMapper;
 
+    private final MeterRegistry meterRegistry;
+
+    private final UploadExecutor uploadExecutor;
+
+    private final PrefetchingZipWriter prefetchingZipWriter;
+
+    private final MinioDirectoryMover minioDirectoryMover;
+
+    private final MinioMultipartUploader minioMultipartUploader;
+
     @Override
     @SneakyThrows
     public Optional<StorageObjectInfo> findFileInfo(BucketName bucketName, String path) {
@@ -67,18 +94,53 @@ public class MinioStorageService implements SimpleStorageService {
 
     @Override
     public Optional<StorageObjectInfo> findDirectoryInfo(BucketName bucketName, String path) {
-        path = PathUtil.trimLastSlash(path);
+        if (!PathUtil.isDirectory(path)) {
+            path = path + PathUtil.PATH_DELIMITER;
+        }
 
-        var directoryName = PathUtil.extractResourceName(path);
+        var markerInfo = findFileInfo(bucketName, path);
+
+        if (markerInfo.isPresent()) {
+            recordDirectoryLookup(DirectoryLookupPath.MARKER_OBJECT);
+            return markerInfo;
+        }
+
+        var implicitDirectoryInfo = findImplicitDirectoryInfo(bucketName, path);
 
+        recordDirectoryLookup(implicitDirectoryInfo.isPresent()
+                ? DirectoryLookupPath.IMPLICIT_PREFIX
+                : DirectoryLookupPath.NOT_FOUND
+        );
+
+        return implicitDirectoryInfo;
+    }
+
+    @SneakyThrows
+    private Optional<StorageObjectInfo> findImplicitDirectoryInfo(BucketName bucketName, String path) {
         var resultItems = minioClient.listObjects(ListObjectsArgs.builder()
                 .bucket(bucketName.getValue())
                 .prefix(path)
+                .startAfter(path)
+                .maxKeys(1)
+                .recursive(true)
                 .build()
         );
 
-        return findItem(resultItems, directoryName, true)
-                .map(minioObjectMapper::toStorageObjectInfo);
+        var resultItemsIterator = resultItems.iterator();
+
+        if (!resultItemsIterator.hasNext()) {
+            return Optional.empty();
+        }
+
+        resultItemsIterator.next().get();
+
+        var directoryName = PathUtil.extractResourceName(path);
+
+        return Optional.of(new StorageObjectInfo(path, directoryName, 0, true, null));
+    }
+
+    private void recordDirectoryLookup(DirectoryLookupPath lookupPath) {
+        meterRegistry.counter(DIRECTORY_LOOKUPS_METRIC, LOOKUP_PATH_TAG, lookupPath.getValue()).increment();
     }
 
     @Override
@@ -110,39 +172,198 @@ public class MinioStorageService implements SimpleStorageService {
 
     @Override
     @SneakyThrows
+    public StoragePage getDirectoryObjectsInfo(BucketName bucketName, String path, StoragePageRequest pageRequest) {
+        var storageObjectInfos = new ArrayList<StorageObjectInfo>();
+
+        var startAfter = pageRequest.startAfter();
+        var ascendingStartAfter = pageRequest.descending() ? null : startAfter;
+
+        var resultItems = minioClient.listObjects(ListObjectsArgs.builder()
+                .bucket(bucketName.getValue())
+                .prefix(path + Objects.toString(pageRequest.namePrefix(), ""))
+                .startAfter(ascendingStartAfter)
+                .build()
+        );
+
+        for (var resultItem : resultItems) {
+            if (!pageRequest.descending() && storageObjectInfos.size() > pageRequest.limit()) {
+                break;
+            }
+
+            var item = resultItem.get();
+            var objectName = item.objectName();
+
+            if (objectName.equals(path) || ascendingStartAfter != null && objectName.compareTo(startAfter) <= 0) {
+                continue;
+            }
+
+            var storageObjectInfo = minioObjectMapper.toStorageObjectInfo(item);
+
+            if (storageObjectInfo.isDirectory() ? pageRequest.includeDirectories() : pageRequest.includeFiles()) {
+                storageObjectInfos.add(storageObjectInfo);
+            }
+        }
+
+        if (pageRequest.descending()) {
+            Collections.reverse(storageObjectInfos);
+
+            if (startAfter != null) {
+                storageObjectInfos.removeIf(objectInfo -> objectInfo.path().compareTo(startAfter) >= 0);
+            }
+        }
+
+        return StoragePage.of(storageObjectInfos, pageRequest.limit());
+    }
+
+    @Override
+    @SneakyThrows
+    public long countDirectoryObjects(BucketName bucketName, String path) {
+        var objectsCount = 0L;
+
+        var resultItems = minioClient.listObjects(ListObjectsArgs.builder()
+                .bucket(bucketName.getValue())
+                .prefix(path)
+                .recursive(true)
+                .build()
+        );
+
+        for (var resultItem : resultItems) {
+            if (!resultItem.get().objectName().equals(path)) {
+                objectsCount++;
+            }
+        }
+
+        return objectsCount;
+    }
+
+    @Override
+    @SneakyThrows
+    public long countDirectoryObjects(BucketName bucketName, String path, long limit) {
+        var objectsCount = 0L;
+
+        var resultItems = minioClient.listObjects(ListObjectsArgs.builder()
+                .bucket(bucketName.getValue())
+                .prefix(path)
+                .recursive(true)
+                .build()
+        );
+
+        for (var resultItem : resultItems) {
+            if (objectsCount >= limit) {
+                break;
+            }
+
+            if (!resultItem.get().objectName().equals(path)) {
+                objectsCount++;
+            }
+        }
+
+        return objectsCount;
+    }
+
+    @Override
+    @SneakyThrows
+    public long getDirectorySize(BucketName bucketName, String path) {
+        var directorySize = 0L;
+
+        var resultItems = minioClient.listObjects(ListObjectsArgs.builder()
+                .bucket(bucketName.getValue())
+                .prefix(path)
+                .recursive(true)
+                .build()
+        );
+
+        for (var resultItem : resultItems) {
+            directorySize += resultItem.get().size();
+        }
+
+        return directorySize;
+    }
+
+    @Override
     public List<StorageObjectInfo> uploadFiles(BucketName bucketName, String rootPath, List<MultipartFile> files) {
-        var uploadedFilesInfo = new ArrayList<StorageObjectInfo>();
+        var uploadTasks = new ArrayList<UploadTask<StorageObjectInfo>>();
 
-        var executor = Executors.newCachedThreadPool();
+        for (var file : files) {
+            var filePath = Objects.requireNonNull(file.getOriginalFilename());
+            var fullPath = rootPath + filePath;
 
-        try {
-            for (var file : files) {
-                var filePath = Objects.requireNonNull(file.getOriginalFilename());
-                var fullPath = rootPath + filePath;
+            uploadTasks.add(new UploadTask<>(file.getSize(), () -> putFile(bucketName, fullPath, file)));
+        }
+
+        return executeUploads(bucketName, rootPath, uploadTasks);
+    }
+
+    @Override
+    public StorageObjectInfo uploadFile(BucketName bucketName, String path, InputStream inputStream) {
+        var uploadTask = new UploadTask<StorageObjectInfo>(
+                UNKNOWN_OBJECT_SIZE, () -> putStream(bucketName, path, inputStream)
+        );
+
+        return executeUploads(bucketName, path, List.of(uploadTask)).getFirst();
+    }
+
+    private StorageObjectInfo putFile(BucketName bucketName, String path, MultipartFile file) throws Exception {
+        try (var inputStream = file.getInputStream()) {
+            var objectWriteResponse = minioMultipartUploader.isMultipart(file.getSize())
+                    ? minioMultipartUploader.upload(bucketName, path, inputStream)
+                    : minioClient.putObject(PutObjectArgs.builder()
+                            .bucket(bucketName.getValue())
+                            .object(path)
+                            .stream(inputStream, file.getSize(), UNKNOWN_PART_SIZE)
+                            .build()
+                    );
+
+            var fileName = PathUtil.extractResourceName(path);
+
+            return new StorageObjectInfo(path, fileName, file.getSize(), false, objectWriteResponse.etag());
+        }
+    }
+
+    private StorageObjectInfo putStream(BucketName bucketName, String path, InputStream inputStream) throws Exception {
+        var countingInputStream = new CountingInputStream(inputStream);
 
-                executor.submit(() -> minioClient.putObject(PutObjectArgs.builder()
+        var objectWriteResponse = minioMultipartUploader.isMultipart(UNKNOWN_OBJECT_SIZE)
+                ? minioMultipartUploader.upload(bucketName, path, countingInputStream)
+                : minioClient.putObject(PutObjectArgs.builder()
                         .bucket(bucketName.getValue())
-                        .object(fullPath)
-                        .stream(file.getInputStream(), file.getSize(), -1)
+                        .object(path)
+                        .stream(countingInputStream, UNKNOWN_OBJECT_SIZE, STREAM_PART_SIZE)
                         .build()
-                ));
+                );
+
+        var fileName = PathUtil.extractResourceName(path);
+
+        return new StorageObjectInfo(path, fileName, countingInputStream.getCount(), false, objectWriteResponse.etag());
+    }
+
+    @SneakyThrows
+    private List<StorageObjectInfo> executeUploads(BucketName bucketName, String path,
+                                                   List<UploadTask<StorageObjectInfo>> uploadTasks) {
 
-                var fileName = PathUtil.extractResourceName(filePath);
+        var owner = PathUtil.extractRootParentDirectoryName(path);
 
-                var uploadedFileInfo = new StorageObjectInfo(fullPath, fileName, file.getSize(), false);
+        var uploadOutcomes = uploadExecutor.invokeAll(owner, uploadTasks);
 
-                uploadedFilesInfo.add(uploadedFileInfo);
+        var uploadedFilesInfo = new ArrayList<StorageObjectInfo>();
+        var failure = (Throwable) null;
+
+        for (var uploadOutcome : uploadOutcomes) {
+            if (uploadOutcome.succeeded()) {
+                uploadedFilesInfo.add(uploadOutcome.result());
+            } else if (failure == null) {
+                failure = uploadOutcome.failure();
             }
-        } finally {
-            executor.shutdown();
         }
 
-        try {
-            if (!executor.awaitTermination(1, TimeUnit.HOURS)) {
-                executor.shutdownNow();
-            }
-        } catch (InterruptedException e) {
-            executor.shutdownNow();
+        if (failure != null) {
+            var uploadedPaths = uploadedFilesInfo.stream()
+                    .map(StorageObjectInfo::path)
+                    .toList();
+
+            removeObjects(bucketName, uploadedPaths);
+
+            throw failure;
         }
 
         return uploadedFilesInfo;
@@ -151,7 +372,7 @@ public class MinioStorageService implements SimpleStorageService {
     @Override
     @SneakyThrows
     public StorageObjectInfo createDirectory(BucketName bucketName, String path) {
-        minioClient.putObject(PutObjectArgs.builder()
+        var objectWriteResponse = minioClient.putObject(PutObjectArgs.builder()
                 .bucket(bucketName.getValue())
                 .object(path)
                 .stream(new ByteArrayInputStream(new byte[]{}), 0, -1)
@@ -160,7 +381,7 @@ public class MinioStorageService implements SimpleStorageService {
 
         var directoryName = PathUtil.extractResourceName(path);
 
-        return new StorageObjectInfo(path, directoryName, 0, true);
+        return new StorageObjectInfo(path, directoryName, 0, true, objectWriteResponse.etag());
     }
 
     @Override
@@ -176,7 +397,22 @@ public class MinioStorageService implements SimpleStorageService {
 
     @Override
     @SneakyThrows
-    public void downloadDirectory(BucketName bucketName, String path, ZipOutputStream zipOutputStream) {
+    public InputStream downloadFile(BucketName bucketName, String path, long offset, long length) {
+        return minioClient.getObject(
+                GetObjectArgs.builder()
+                        .bucket(bucketName.getValue())
+                        .object(path)
+                        .offset(offset)
+                        .length(length)
+                        .build()
+        );
+    }
+
+    @Override
+    @SneakyThrows
+    public void downloadDirectory(BucketName bucketName, String path, ZipCompression compression,
+                                  ZipOutputStream zipOutputStream) {
+
         var resultItemsToDownload = minioClient.listObjects(ListObjectsArgs.builder()
                 .bucket(bucketName.getValue())
                 .prefix(path)
@@ -184,25 +420,21 @@ public class MinioStorageService implements SimpleStorageService {
                 .build()
         );
 
-        for (var resultItem : resultItemsToDownload) {
-            var item = resultItem.get();
+        var entryNameIndex = ResourcePath.of(path).nameIndex();
 
-            var directoryName = PathUtil.extractResourceName(path);
-            var entryName = PathUtil.extractPathFromDirectory(directoryName, item.objectName());
+        var zipSources = new ArrayList<ZipSource>();
 
-            zipOutputStream.putNextEntry(new ZipEntry(entryName));
+        for (var resultItem : resultItemsToDownload) {
+            var item = resultItem.get();
 
-            try (var inputStream = minioClient.getObject(
-                    GetObjectArgs.builder()
-                            .bucket(BucketName.USER_FILES.getValue())
-                            .object(item.objectName())
-                            .build())
-            ) {
-                inputStream.transferTo(zipOutputStream);
-            }
+            var entryName = item.objectName().substring(entryNameIndex);
 
-            zipOutputStream.closeEntry();
+            zipSources.add(new ZipSource(entryName, item.objectName(), item.size()));
         }
+
+        prefetchingZipWriter.write(
+                zipSources, objectPath -> downloadFile(bucketName, objectPath), compression, zipOutputStream
+        );
     }
 
     @Override
@@ -218,7 +450,7 @@ public class MinioStorageService implements SimpleStorageService {
     @Override
     @SneakyThrows
     public void removeDirectory(BucketName bucketName, String path) {
-        var objectsToDelete = new ArrayList<DeleteObject>();
+        var pathsToDelete = new ArrayList<String>();
 
         var resultItemsToDelete = minioClient.listObjects(ListObjectsArgs.builder()
                 .bucket(bucketName.getValue())
@@ -228,14 +460,22 @@ public class MinioStorageService implements SimpleStorageService {
         );
 
         for (var objectItem : resultItemsToDelete) {
-            var deleteObjectPath = objectItem.get().objectName();
-            objectsToDelete.add(new DeleteObject(deleteObjectPath));
+            pathsToDelete.add(objectItem.get().objectName());
         }
 
-        if (objectsToDelete.isEmpty()) {
+        removeObjects(bucketName, pathsToDelete);
+    }
+
+    @SneakyThrows
+    private void removeObjects(BucketName bucketName, List<String> paths) {
+        if (paths.isEmpty()) {
             return;
         }
 
+        var objectsToDelete = paths.stream()
+                .map(DeleteObject::new)
+                .toList();
+
         var resultDeleteErrors = minioClient.removeObjects(RemoveObjectsArgs.builder()
                 .bucket(bucketName.getValue())
                 .objects(objectsToDelete)
@@ -275,36 +515,13 @@ public class MinioStorageService implements SimpleStorageService {
     }
 
     @Override
-    @SneakyThrows
-    public void moveDirectory(BucketName bucketName, String oldPath, String newPath) {
-        var directoryName = PathUtil.extractResourceName(oldPath);
-
-        var directoryObjectsInfo = getDirectoryObjectsInfo(bucketName, oldPath, true);
-
-        for (var objectInfo : directoryObjectsInfo) {
-            var pathFromDirectory = PathUtil.extractPathFromDirectory(directoryName, objectInfo.path());
-            var pathWithoutParentDirectory = PathUtil.removeRootParentDirectory(pathFromDirectory);
-
-            minioClient.copyObject(CopyObjectArgs.builder()
-                    .bucket(bucketName.getValue())
-                    .object(newPath + pathWithoutParentDirectory)
-                    .source(CopySource.builder()
-                            .bucket(bucketName.getValue())
-                            .object(objectInfo.path())
-                            .build())
-                    .build()
-            );
-        }
-
-        removeDirectory(bucketName, oldPath);
-        createDirectory(bucketName, newPath);
+    public void moveDirectory(BucketName bucketName, String oldPath, String newPath, MoveProgressListener listener) {
+        minioDirectoryMover.move(bucketName, oldPath, newPath, listener);
     }
 
     @Override
     @SneakyThrows
-    public List<StorageObjectInfo> search(BucketName bucketName, String path, String pattern) {
-        var foundObjectsInfo = new ArrayList<StorageObjectInfo>();
-
+    public void search(BucketName bucketName, String path, String query, Consumer<StorageObjectInfo> consumer) {
         var resultItems = minioClient.listObjects(ListObjectsArgs.builder()
                 .bucket(bucketName.getValue())
                 .prefix(path)
@@ -313,37 +530,11 @@ public class MinioStorageService implements SimpleStorageService {
         );
 
         for (var resultItem : resultItems) {
-            var item = resultItem.get();
-
-            var resourceName = PathUtil.extractResourceName(item.objectName());
-
-            if (resourceName.matches(pattern)) {
-                foundObjectsInfo.add(minioObjectMapper.toStorageObjectInfo(item));
-            }
-        }
-
-        return foundObjectsInfo;
-    }
-
-    @SneakyThrows
-    private Optional<Item> findItem(Iterable<Result<Item>> resultItems, String resourceName, boolean isDirectory) {
-        for (var resultItem : resultItems) {
-            var item = resultItem.get();
-            var itemResourceName = PathUtil.extractResourceName(item.objectName());
+            var objectInfo = minioObjectMapper.toStorageObjectInfo(resultItem.get());
 
-            if (!itemResourceName.equals(resourceName)) {
-                continue;
-            }
-
-            if (item.isDir() && isDirectory) {
-                return Optional.of(item);
-            }
-
-            if (!item.isDir() && !isDirectory) {
-                return Optional.of(item);
+            if (!objectInfo.path().equals(path) && objectInfo.name().contains(query)) {
+                consumer.accept(objectInfo);
             }
         }
-
-        return Optional.empty();
     }
 }
@@ -0,0 +1,10 @@
+package ru.redeyed.cloudstorage.s3.minio.exception;
+
+public class ObjectsRemovalException extends RuntimeException {
+
+    private static final String MESSAGE_FORMAT = "Failed to remove %d objects, first error on %s: %s";
+
+    public ObjectsRemovalException(int failedObjectsCount, String objectName, String message) {
+        super(MESSAGE_FORMAT.formatted(failedObjectsCount, objectName, message));
+    }
+}
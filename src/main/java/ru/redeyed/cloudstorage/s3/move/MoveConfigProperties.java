@@ -0,0 +1,7 @@
+package ru.redeyed.cloudstorage.s3.move;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "storage.move")
+public record MoveConfigProperties(int concurrency, int deleteBatchSize) {
+}
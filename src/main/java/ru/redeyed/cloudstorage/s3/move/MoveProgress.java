@@ -0,0 +1,4 @@
+package ru.redeyed.cloudstorage.s3.move;
+
+public record MoveProgress(long totalObjects, long copiedObjects, long skippedObjects, long deletedObjects) {
+}
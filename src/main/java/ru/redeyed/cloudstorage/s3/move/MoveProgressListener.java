@@ -0,0 +1,10 @@
+package ru.redeyed.cloudstorage.s3.move;
+
+@FunctionalInterface
+public interface MoveProgressListener {
+
+    MoveProgressListener NONE = progress -> {
+    };
+
+    void onProgress(MoveProgress progress);
+}
@@ -0,0 +1,24 @@
+package ru.redeyed.cloudstorage.s3.trace;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+@Getter
+public enum MinioCall {
+
+    BUCKET_EXISTS("bucketExists"),
+    MAKE_BUCKET("makeBucket"),
+    STAT_OBJECT("statObject"),
+    LIST_OBJECTS("listObjects"),
+    GET_OBJECT("getObject"),
+    PUT_OBJECT("putObject"),
+    COPY_OBJECT("copyObject"),
+    REMOVE_OBJECT("removeObject"),
+    REMOVE_OBJECTS("removeObjects"),
+    CREATE_MULTIPART_UPLOAD("createMultipartUpload"),
+    UPLOAD_PART("uploadPart"),
+    COMPLETE_MULTIPART_UPLOAD("completeMultipartUpload");
+
+    private final String value;
+}
@@ -0,0 +1,7 @@
+package ru.redeyed.cloudstorage.s3.trace;
+
+public enum MinioCallBudgetMode {
+
+    LOG,
+    FAIL
+}
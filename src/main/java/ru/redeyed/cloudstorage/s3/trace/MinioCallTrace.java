@@ -0,0 +1,116 @@
+package ru.redeyed.cloudstorage.s3.trace;
+
+import lombok.Getter;
+import ru.redeyed.cloudstorage.s3.trace.exception.MinioCallBudgetExceededException;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class MinioCallTrace {
+
+    private static final String SUMMARY_FORMAT = "%d calls in %d ms %s";
+    private static final String CALL_SUMMARY_FORMAT = "%s=%d/%dms";
+
+    private static final String CALLS_DELIMITER = ", ";
+    private static final String CALLS_PREFIX = "[";
+    private static final String CALLS_SUFFIX = "]";
+
+    private static final int UNLIMITED_BUDGET = 0;
+
+    private static final MinioCall[] CALLS = MinioCall.values();
+
+    @Getter
+    private final String handlerName;
+
+    @Getter
+    private final int budget;
+
+    private final MinioCallBudgetMode budgetMode;
+
+    private final MinioCallTrace parent;
+
+    private final AtomicLongArray counts = new AtomicLongArray(CALLS.length);
+
+    private final AtomicLongArray durations = new AtomicLongArray(CALLS.length);
+
+    private final AtomicInteger totalCount = new AtomicInteger();
+
+    private final AtomicBoolean budgetExceeded = new AtomicBoolean();
+
+    public MinioCallTrace(String handlerName, int budget, MinioCallBudgetMode budgetMode) {
+        this(handlerName, budget, budgetMode, null);
+    }
+
+    public MinioCallTrace(String handlerName, MinioCallTrace parent) {
+        this(handlerName, UNLIMITED_BUDGET, MinioCallBudgetMode.LOG, parent);
+    }
+
+    private MinioCallTrace(String handlerName, int budget, MinioCallBudgetMode budgetMode, MinioCallTrace parent) {
+        this.handlerName = handlerName;
+        this.budget = budget;
+        this.budgetMode = budgetMode;
+        this.parent = parent;
+    }
+
+    public int getCallsCount() {
+        return totalCount.get();
+    }
+
+    public boolean isBudgetExceeded() {
+        return budgetExceeded.get();
+    }
+
+    public void countCall(MinioCall call) {
+        if (parent != null) {
+            parent.countCall(call);
+        }
+
+        var count = totalCount.incrementAndGet();
+
+        if (budget != UNLIMITED_BUDGET && count > budget) {
+            budgetExceeded.set(true);
+
+            if (budgetMode == MinioCallBudgetMode.FAIL) {
+                throw new MinioCallBudgetExceededException(budget);
+            }
+        }
+
+        counts.incrementAndGet(call.ordinal());
+    }
+
+    public void addDuration(MinioCall call, long durationNanos) {
+        if (parent != null) {
+            parent.addDuration(call, durationNanos);
+        }
+
+        durations.addAndGet(call.ordinal(), durationNanos);
+    }
+
+    @Override
+    public String toString() {
+        var callsSummary = new StringJoiner(CALLS_DELIMITER, CALLS_PREFIX, CALLS_SUFFIX);
+        var totalCalls = 0L;
+        var totalDurationNanos = 0L;
+
+        for (var call : CALLS) {
+            var count = counts.get(call.ordinal());
+
+            if (count == 0) {
+                continue;
+            }
+
+            var durationNanos = durations.get(call.ordinal());
+
+            totalCalls += count;
+            totalDurationNanos += durationNanos;
+
+            callsSummary.add(CALL_SUMMARY_FORMAT.formatted(
+                    call.getValue(), count, TimeUnit.NANOSECONDS.toMillis(durationNanos)
+            ));
+        }
+
+        return SUMMARY_FORMAT.formatted(totalCalls, TimeUnit.NANOSECONDS.toMillis(totalDurationNanos), callsSummary);
+    }
+}
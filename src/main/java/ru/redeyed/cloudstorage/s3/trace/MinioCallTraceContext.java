@@ -0,0 +1,80 @@
+package ru.redeyed.cloudstorage.s3.trace;
+
+import lombok.experimental.UtilityClass;
+import java.util.concurrent.Callable;
+import java.util.function.Supplier;
+
+@UtilityClass
+public class MinioCallTraceContext {
+
+    private static final ThreadLocal<MinioCallTrace> CURRENT_TRACE = new ThreadLocal<>();
+
+    public static MinioCallTrace current() {
+        return CURRENT_TRACE.get();
+    }
+
+    public static void bind(MinioCallTrace trace) {
+        CURRENT_TRACE.set(trace);
+    }
+
+    public static void unbind() {
+        CURRENT_TRACE.remove();
+    }
+
+    public static <T> T callWithin(MinioCallTrace trace, Supplier<T> supplier) {
+        var previousTrace = CURRENT_TRACE.get();
+        CURRENT_TRACE.set(trace);
+
+        try {
+            return supplier.get();
+        } finally {
+            restore(previousTrace);
+        }
+    }
+
+    public static <T> Callable<T> wrap(Callable<T> callable) {
+        var trace = CURRENT_TRACE.get();
+
+        if (trace == null) {
+            return callable;
+        }
+
+        return () -> {
+            var previousTrace = CURRENT_TRACE.get();
+            CURRENT_TRACE.set(trace);
+
+            try {
+                return callable.call();
+            } finally {
+                restore(previousTrace);
+            }
+        };
+    }
+
+    public static Runnable wrap(Runnable runnable) {
+        var trace = CURRENT_TRACE.get();
+
+        if (trace == null) {
+            return runnable;
+        }
+
+        return () -> {
+            var previousTrace = CURRENT_TRACE.get();
+            CURRENT_TRACE.set(trace);
+
+            try {
+                runnable.run();
+            } finally {
+                restore(previousTrace);
+            }
+        };
+    }
+
+    private static void restore(MinioCallTrace previousTrace) {
+        if (previousTrace == null) {
+            CURRENT_TRACE.remove();
+        } else {
+            CURRENT_TRACE.set(previousTrace);
+        }
+    }
+}
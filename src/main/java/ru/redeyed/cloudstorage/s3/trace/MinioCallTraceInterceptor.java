@@ -0,0 +1,82 @@
+package ru.redeyed.cloudstorage.s3.trace;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jspecify.annotations.NonNull;
+import org.jspecify.annotations.Nullable;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.AsyncHandlerInterceptor;
+
+@RequiredArgsConstructor
+@Slf4j
+public class MinioCallTraceInterceptor implements AsyncHandlerInterceptor {
+
+    public static final String REQUEST_TRACE_ATTRIBUTE = MinioCallTraceInterceptor.class.getName() + ".trace";
+
+    private static final String BUDGET_EXCEEDED_METRIC = "minio.trace.budget.exceeded";
+
+    private static final String HANDLER_TAG = "handler";
+
+    private static final String HANDLER_NAME_DELIMITER = ".";
+
+    private final MinioTraceConfigProperties minioTraceConfigProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, @NonNull HttpServletResponse response,
+                             @NonNull Object handler) {
+
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+
+        var trace = (MinioCallTrace) request.getAttribute(REQUEST_TRACE_ATTRIBUTE);
+
+        if (trace == null) {
+            var handlerName = handlerMethod.getBeanType().getSimpleName()
+                    + HANDLER_NAME_DELIMITER + handlerMethod.getMethod().getName();
+
+            trace = new MinioCallTrace(
+                    handlerName, minioTraceConfigProperties.budget(), minioTraceConfigProperties.budgetMode()
+            );
+
+            request.setAttribute(REQUEST_TRACE_ATTRIBUTE, trace);
+        }
+
+        MinioCallTraceContext.bind(trace);
+
+        return true;
+    }
+
+    @Override
+    public void afterConcurrentHandlingStarted(@NonNull HttpServletRequest request,
+                                               @NonNull HttpServletResponse response, @NonNull Object handler) {
+
+        MinioCallTraceContext.unbind();
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, @NonNull HttpServletResponse response,
+                                @NonNull Object handler, @Nullable Exception exception) {
+
+        MinioCallTraceContext.unbind();
+
+        var trace = (MinioCallTrace) request.getAttribute(REQUEST_TRACE_ATTRIBUTE);
+        request.removeAttribute(REQUEST_TRACE_ATTRIBUTE);
+
+        if (trace == null) {
+            return;
+        }
+
+        if (trace.isBudgetExceeded()) {
+            meterRegistry.counter(BUDGET_EXCEEDED_METRIC, HANDLER_TAG, trace.getHandlerName()).increment();
+            log.warn("{} exceeded the MinIO call budget of {}: {}", trace.getHandlerName(), trace.getBudget(), trace);
+        } else {
+            log.debug("{}: {}", trace.getHandlerName(), trace);
+        }
+    }
+}
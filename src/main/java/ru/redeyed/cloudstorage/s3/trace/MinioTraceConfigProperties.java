@@ -0,0 +1,7 @@
+package ru.redeyed.cloudstorage.s3.trace;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@ConfigurationProperties(prefix = "minio.trace")
+public record MinioTraceConfigProperties(boolean enabled, int budget, MinioCallBudgetMode budgetMode) {
+}
@@ -0,0 +1,25 @@
+package ru.redeyed.cloudstorage.s3.trace;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+@Configuration
+@ConditionalOnProperty(name = "storage.backend", havingValue = "minio", matchIfMissing = true)
+@RequiredArgsConstructor
+public class MinioTraceWebConfig implements WebMvcConfigurer {
+
+    private final MinioTraceConfigProperties minioTraceConfigProperties;
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        if (minioTraceConfigProperties.enabled()) {
+            registry.addInterceptor(new MinioCallTraceInterceptor(minioTraceConfigProperties, meterRegistry));
+        }
+    }
+}
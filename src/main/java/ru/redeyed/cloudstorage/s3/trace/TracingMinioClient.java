@@ -0,0 +1,149 @@
+package ru.redeyed.cloudstorage.s3.trace;
+
+import io.minio.BucketExistsArgs;
+import io.minio.CopyObjectArgs;
+import io.minio.GetObjectArgs;
+import io.minio.GetObjectResponse;
+import io.minio.ListObjectsArgs;
+import io.minio.MakeBucketArgs;
+import io.minio.MinioClient;
+import io.minio.ObjectWriteResponse;
+import io.minio.PutObjectArgs;
+import io.minio.RemoveObjectArgs;
+import io.minio.RemoveObjectsArgs;
+import io.minio.Result;
+import io.minio.StatObjectArgs;
+import io.minio.StatObjectResponse;
+import io.minio.messages.DeleteError;
+import io.minio.messages.Item;
+import lombok.SneakyThrows;
+import java.util.Iterator;
+import java.util.concurrent.Callable;
+
+public class TracingMinioClient extends MinioClient {
+
+    public TracingMinioClient(MinioClient client) {
+        super(client);
+    }
+
+    @Override
+    @SneakyThrows
+    public boolean bucketExists(BucketExistsArgs args) {
+        return trace(MinioCall.BUCKET_EXISTS, () -> super.bucketExists(args));
+    }
+
+    @Override
+    @SneakyThrows
+    public void makeBucket(MakeBucketArgs args) {
+        trace(MinioCall.MAKE_BUCKET, () -> {
+            super.makeBucket(args);
+            return null;
+        });
+    }
+
+    @Override
+    @SneakyThrows
+    public StatObjectResponse statObject(StatObjectArgs args) {
+        return trace(MinioCall.STAT_OBJECT, () -> super.statObject(args));
+    }
+
+    @Override
+    public Iterable<Result<Item>> listObjects(ListObjectsArgs args) {
+        var trace = MinioCallTraceContext.current();
+
+        if (trace == null) {
+            return super.listObjects(args);
+        }
+
+        trace.countCall(MinioCall.LIST_OBJECTS);
+
+        return traceIteration(trace, MinioCall.LIST_OBJECTS, super.listObjects(args));
+    }
+
+    @Override
+    @SneakyThrows
+    public GetObjectResponse getObject(GetObjectArgs args) {
+        return trace(MinioCall.GET_OBJECT, () -> super.getObject(args));
+    }
+
+    @Override
+    @SneakyThrows
+    public ObjectWriteResponse putObject(PutObjectArgs args) {
+        return trace(MinioCall.PUT_OBJECT, () -> super.putObject(args));
+    }
+
+    @Override
+    @SneakyThrows
+    public ObjectWriteResponse copyObject(CopyObjectArgs args) {
+        return trace(MinioCall.COPY_OBJECT, () -> super.copyObject(args));
+    }
+
+    @Override
+    @SneakyThrows
+    public void removeObject(RemoveObjectArgs args) {
+        trace(MinioCall.REMOVE_OBJECT, () -> {
+            super.removeObject(args);
+            return null;
+        });
+    }
+
+    @Override
+    public Iterable<Result<DeleteError>> removeObjects(RemoveObjectsArgs args) {
+        var trace = MinioCallTraceContext.current();
+
+        if (trace == null) {
+            return super.removeObjects(args);
+        }
+
+        trace.countCall(MinioCall.REMOVE_OBJECTS);
+
+        return traceIteration(trace, MinioCall.REMOVE_OBJECTS, super.removeObjects(args));
+    }
+
+    private static <T> T trace(MinioCall call, Callable<T> action) throws Exception {
+        var trace = MinioCallTraceContext.current();
+
+        if (trace == null) {
+            return action.call();
+        }
+
+        trace.countCall(call);
+
+        var startTime = System.nanoTime();
+
+        try {
+            return action.call();
+        } finally {
+            trace.addDuration(call, System.nanoTime() - startTime);
+        }
+    }
+
+    private static <T> Iterable<T> traceIteration(MinioCallTrace trace, MinioCall call, Iterable<T> iterable) {
+        return () -> new Iterator<>() {
+
+            private final Iterator<T> iterator = iterable.iterator();
+
+            @Override
+            public boolean hasNext() {
+                var startTime = System.nanoTime();
+
+                try {
+                    return iterator.hasNext();
+                } finally {
+                    trace.addDuration(call, System.nanoTime() - startTime);
+                }
+            }
+
+            @Override
+            public T next() {
+                var startTime = System.nanoTime();
+
+                try {
+                    return iterator.next();
+                } finally {
+                    trace.addDuration(call, System.nanoTime() - startTime);
+                }
+            }
+        };
+    }
+}
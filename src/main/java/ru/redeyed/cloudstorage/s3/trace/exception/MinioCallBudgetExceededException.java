@@ -0,0 +1,10 @@
+package ru.redeyed.cloudstorage.s3.trace.exception;
+
+public class MinioCallBudgetExceededException extends RuntimeException {
+
+    private static final String MESSAGE_FORMAT = "Request exceeded the storage call budget of %d calls.";
+
+    public MinioCallBudgetExceededException(int budget) {
+        super(MESSAGE_FORMAT.formatted(budget));
+    }
+}
@@ -0,0 +1,32 @@
+package ru.redeyed.cloudstorage.s3.upload;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "storage.upload")
+public record UploadConfigProperties(
+
+        int globalConcurrency,
+
+        int perUserConcurrency,
+
+        Duration timeout,
+
+        MultipartProperties multipart
+) {
+
+    public record MultipartProperties(
+
+            boolean enabled,
+
+            DataSize threshold,
+
+            DataSize partSize,
+
+            int concurrency,
+
+            DataSize memoryLimit
+    ) {
+    }
+}
@@ -0,0 +1,191 @@
+package ru.redeyed.cloudstorage.s3.upload;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.springframework.stereotype.Component;
+import ru.redeyed.cloudstorage.common.concurrent.ExecutorFactory;
+import ru.redeyed.cloudstorage.s3.trace.MinioCallTraceContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Component
+public class UploadExecutor {
+
+    private static final String QUEUED_TASKS_METRIC = "storage.upload.queued";
+    private static final String ACTIVE_TASKS_METRIC = "storage.upload.active";
+    private static final String IN_FLIGHT_BYTES_METRIC = "storage.upload.in-flight.bytes";
+
+    private static final String EXECUTOR_NAME = "storage-upload";
+
+    private static final ThreadLocal<Boolean> RUNNING_TASK = ThreadLocal.withInitial(() -> false);
+
+    private final ExecutorService executor;
+
+    private final Semaphore globalPermits;
+
+    private final ConcurrentMap<String, OwnerPermits> ownerPermits = new ConcurrentHashMap<>();
+
+    private final int perOwnerConcurrency;
+
+    private final long timeoutNanos;
+
+    private final AtomicInteger queuedTasks = new AtomicInteger();
+
+    private final AtomicInteger activeTasks = new AtomicInteger();
+
+    private final AtomicLong inFlightBytes = new AtomicLong();
+
+    public UploadExecutor(UploadConfigProperties uploadConfigProperties, ExecutorFactory executorFactory,
+                          MeterRegistry meterRegistry) {
+
+        this.executor = executorFactory.newTaskExecutor(EXECUTOR_NAME, uploadConfigProperties.globalConcurrency());
+        this.globalPermits = new Semaphore(uploadConfigProperties.globalConcurrency(), true);
+        this.perOwnerConcurrency = uploadConfigProperties.perUserConcurrency();
+        this.timeoutNanos = uploadConfigProperties.timeout().toNanos();
+
+        Gauge.builder(QUEUED_TASKS_METRIC, queuedTasks, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder(ACTIVE_TASKS_METRIC, activeTasks, AtomicInteger::get).register(meterRegistry);
+        Gauge.builder(IN_FLIGHT_BYTES_METRIC, inFlightBytes, AtomicLong::get).register(meterRegistry);
+    }
+
+    public <T> List<UploadOutcome<T>> invokeAll(String owner, List<UploadTask<T>> tasks) {
+        if (RUNNING_TASK.get()) {
+            return invokeInline(tasks);
+        }
+
+        var futures = new ArrayList<Future<T>>(tasks.size());
+
+        for (var task : tasks) {
+            futures.add(executor.submit(MinioCallTraceContext.wrap(() -> run(owner, task))));
+        }
+
+        var deadline = System.nanoTime() + timeoutNanos;
+
+        var outcomes = new ArrayList<UploadOutcome<T>>(futures.size());
+
+        for (var future : futures) {
+            outcomes.add(await(future, deadline));
+        }
+
+        return outcomes;
+    }
+
+    private <T> T run(String owner, UploadTask<T> task) throws Exception {
+        var ownerSemaphore = retainOwnerSemaphore(owner);
+
+        try {
+            return run(ownerSemaphore, task);
+        } finally {
+            releaseOwnerSemaphore(owner);
+        }
+    }
+
+    private Semaphore retainOwnerSemaphore(String owner) {
+        return ownerPermits.compute(owner, (ignore, permits) -> {
+            var retainedPermits = permits != null ? permits : new OwnerPermits(perOwnerConcurrency);
+            retainedPermits.users++;
+            return retainedPermits;
+        }).semaphore;
+    }
+
+    private void releaseOwnerSemaphore(String owner) {
+        ownerPermits.computeIfPresent(owner, (ignore, permits) -> --permits.users == 0 ? null : permits);
+    }
+
+    private <T> T run(Semaphore ownerSemaphore, UploadTask<T> task) throws Exception {
+        queuedTasks.incrementAndGet();
+
+        try {
+            ownerSemaphore.acquire();
+        } catch (InterruptedException exception) {
+            queuedTasks.decrementAndGet();
+            throw exception;
+        }
+
+        try {
+            try {
+                globalPermits.acquire();
+            } finally {
+                queuedTasks.decrementAndGet();
+            }
+
+            var size = Math.max(task.size(), 0);
+
+            activeTasks.incrementAndGet();
+            inFlightBytes.addAndGet(size);
+
+            RUNNING_TASK.set(true);
+
+            try {
+                return task.action().call();
+            } finally {
+                RUNNING_TASK.remove();
+                inFlightBytes.addAndGet(-size);
+                activeTasks.decrementAndGet();
+                globalPermits.release();
+            }
+        } finally {
+            ownerSemaphore.release();
+        }
+    }
+
+    private static <T> List<UploadOutcome<T>> invokeInline(List<UploadTask<T>> tasks) {
+        var outcomes = new ArrayList<UploadOutcome<T>>(tasks.size());
+
+        for (var task : tasks) {
+            try {
+                outcomes.add(new UploadOutcome<>(task.action().call(), null));
+            } catch (Exception exception) {
+                outcomes.add(new UploadOutcome<>(null, exception));
+            }
+        }
+
+        return outcomes;
+    }
+
+    private static <T> UploadOutcome<T> await(Future<T> future, long deadline) {
+        try {
+            var result = future.get(Math.max(deadline - System.nanoTime(), 0), TimeUnit.NANOSECONDS);
+            return new UploadOutcome<>(result, null);
+
+        } catch (ExecutionException exception) {
+            return new UploadOutcome<>(null, exception.getCause());
+
+        } catch (TimeoutException exception) {
+            future.cancel(true);
+            return new UploadOutcome<>(null, exception);
+
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            return new UploadOutcome<>(null, exception);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static class OwnerPermits {
+
+        private final Semaphore semaphore;
+
+        private int users;
+
+        OwnerPermits(int permits) {
+            this.semaphore = new Semaphore(permits, true);
+        }
+    }
+}
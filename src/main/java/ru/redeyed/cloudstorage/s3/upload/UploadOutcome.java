@@ -0,0 +1,8 @@
+package ru.redeyed.cloudstorage.s3.upload;
+
+public record UploadOutcome<T>(T result, Throwable failure) {
+
+    public boolean succeeded() {
+        return failure == null;
+    }
+}
@@ -0,0 +1,6 @@
+package ru.redeyed.cloudstorage.s3.upload;
+
+import java.util.concurrent.Callable;
+
+public record UploadTask<T>(long size, Callable<T> action) {
+}
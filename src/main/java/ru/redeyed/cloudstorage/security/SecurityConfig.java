@@ -3,6 +3,9 @@ package ru.redeyed.cloudstorage.security;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.config.annotation.authentication.configuration.AuthenticationConfiguration;
@@ -21,6 +24,12 @@ import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
 @RequiredArgsConstructor
 public class SecurityConfig {
 
+    private static final String MANAGEMENT_ENDPOINTS_PATTERN = "/actuator/**";
+
+    private static final String[] PUBLIC_MANAGEMENT_ENDPOINTS = {
+            "/actuator/health", "/actuator/health/**", "/actuator/prometheus"
+    };
+
     private final SecurityConfigProperties securityConfigProperties;
 
     private final AuthenticationConfiguration authenticationConfiguration;
@@ -34,6 +43,7 @@ public class SecurityConfig {
         corsConfiguration.setAllowedOrigins(corsConfigProperties.allowedOrigins());
         corsConfiguration.setAllowedMethods(corsConfigProperties.allowedMethods());
         corsConfiguration.setAllowedHeaders(corsConfigProperties.allowedHeaders());
+        corsConfiguration.setExposedHeaders(corsConfigProperties.exposedHeaders());
         corsConfiguration.setAllowCredentials(corsConfigProperties.allowCredentials());
 
         var corsConfigurationSource = new UrlBasedCorsConfigurationSource();
@@ -43,6 +53,20 @@ public class SecurityConfig {
         return corsConfigurationSource;
     }
 
+    @Bean
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public SecurityFilterChain managementSecurityFilterChain(HttpSecurity http) {
+        http.securityMatcher(MANAGEMENT_ENDPOINTS_PATTERN);
+        http.csrf(AbstractHttpConfigurer::disable);
+
+        http.authorizeHttpRequests(auth -> auth
+                .requestMatchers(HttpMethod.GET, PUBLIC_MANAGEMENT_ENDPOINTS).permitAll()
+                .anyRequest().denyAll()
+        );
+
+        return http.build();
+    }
+
     @Bean
     public SecurityFilterChain securityFilterChain(HttpSecurity http) {
         http.csrf(AbstractHttpConfigurer::disable);
@@ -0,0 +1,43 @@
+package ru.redeyed.cloudstorage.usage;
+
+import ru.redeyed.cloudstorage.common.io.CountingInputStream;
+import ru.redeyed.cloudstorage.usage.exception.StorageQuotaExceededException;
+import java.io.IOException;
+import java.io.InputStream;
+
+public class QuotaLimitedInputStream extends CountingInputStream {
+
+    private final long limit;
+
+    public QuotaLimitedInputStream(InputStream inputStream, long limit) {
+        super(inputStream);
+        this.limit = limit;
+    }
+
+    @Override
+    public int read() throws IOException {
+        var value = super.read();
+        checkLimit();
+        return value;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        var readCount = super.read(buffer, offset, length);
+        checkLimit();
+        return readCount;
+    }
+
+    @Override
+    public long skip(long length) throws IOException {
+        var skippedCount = super.skip(length);
+        checkLimit();
+        return skippedCount;
+    }
+
+    private void checkLimit() {
+        if (getCount() > limit) {
+            throw new StorageQuotaExceededException();
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package ru.redeyed.cloudstorage.usage;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import java.time.Instant;
+import java.util.UUID;
+
+@Entity
+@Table(name = "storage_usage")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+@Getter
+public class StorageUsage {
+
+    @Id
+    private UUID userId;
+
+    private long usedBytes;
+
+    private long objectsCount;
+
+    private Instant updatedAt;
+}
@@ -0,0 +1,72 @@
+package ru.redeyed.cloudstorage.usage;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+public class StorageUsageBuffer {
+
+    private static final String PENDING_USERS_KEY = "storage-usage:pending-users";
+
+    private static final String PENDING_DELTA_KEY_PREFIX = "storage-usage:pending:";
+
+    private static final String BYTES_FIELD = "bytes";
+
+    private static final String OBJECTS_FIELD = "objects";
+
+    private static final RedisScript<List> DRAIN_SCRIPT = RedisScript.of("""
+            local delta = redis.call('HMGET', KEYS[1], ARGV[1], ARGV[2])
+            redis.call('DEL', KEYS[1])
+            return delta
+            """, List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void add(UUID userId, StorageUsageDelta delta) {
+        var key = getPendingDeltaKey(userId);
+
+        redisTemplate.opsForHash().increment(key, BYTES_FIELD, delta.bytes());
+        redisTemplate.opsForHash().increment(key, OBJECTS_FIELD, delta.objects());
+        redisTemplate.opsForSet().add(PENDING_USERS_KEY, userId.toString());
+    }
+
+    public StorageUsageDelta getPending(UUID userId) {
+        var values = redisTemplate.opsForHash().multiGet(
+                getPendingDeltaKey(userId), List.of(BYTES_FIELD, OBJECTS_FIELD)
+        );
+
+        return toDelta(values);
+    }
+
+    public Optional<UUID> pollPendingUser() {
+        return Optional.ofNullable(redisTemplate.opsForSet().pop(PENDING_USERS_KEY))
+                .map(UUID::fromString);
+    }
+
+    public StorageUsageDelta drain(UUID userId) {
+        var values = redisTemplate.execute(
+                DRAIN_SCRIPT, List.of(getPendingDeltaKey(userId)), BYTES_FIELD, OBJECTS_FIELD
+        );
+
+        return values == null ? StorageUsageDelta.EMPTY : toDelta(values);
+    }
+
+    private static String getPendingDeltaKey(UUID userId) {
+        return PENDING_DELTA_KEY_PREFIX + userId;
+    }
+
+    private static StorageUsageDelta toDelta(List<?> values) {
+        return new StorageUsageDelta(toLong(values.get(0)), toLong(values.get(1)));
+    }
+
+    private static long toLong(Object value) {
+        return value == null ? 0 : Long.parseLong(Objects.toString(value));
+    }
+}
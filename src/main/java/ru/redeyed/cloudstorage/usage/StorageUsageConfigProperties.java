@@ -0,0 +1,8 @@
+package ru.redeyed.cloudstorage.usage;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+@ConfigurationProperties(prefix = "usage")
+public record StorageUsageConfigProperties(DataSize quota) {
+}
@@ -0,0 +1,10 @@
+package ru.redeyed.cloudstorage.usage;
+
+public record StorageUsageDelta(long bytes, long objects) {
+
+    public static final StorageUsageDelta EMPTY = new StorageUsageDelta(0, 0);
+
+    public boolean isEmpty() {
+        return bytes == 0 && objects == 0;
+    }
+}
@@ -0,0 +1,51 @@
+package ru.redeyed.cloudstorage.usage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import ru.redeyed.cloudstorage.user.UserRepository;
+import java.util.UUID;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class StorageUsageReconciler {
+
+    private static final int USERS_PAGE_SIZE = 500;
+
+    private static final UUID MIN_USER_ID = new UUID(0, 0);
+
+    private final StorageUsageService storageUsageService;
+
+    private final UserRepository userRepository;
+
+    @Scheduled(cron = "${usage.reconciliation-cron}")
+    public void reconcile() {
+        var usersCount = 0;
+        var userIds = userRepository.findIdsAfter(MIN_USER_ID, Limit.of(USERS_PAGE_SIZE));
+
+        while (!userIds.isEmpty()) {
+            for (var userId : userIds) {
+                if (reconcile(userId)) {
+                    usersCount++;
+                }
+            }
+
+            userIds = userRepository.findIdsAfter(userIds.getLast(), Limit.of(USERS_PAGE_SIZE));
+        }
+
+        log.info("Storage usage of {} users reconciled", usersCount);
+    }
+
+    private boolean reconcile(UUID userId) {
+        try {
+            storageUsageService.recalculate(userId);
+            return true;
+        } catch (RuntimeException exception) {
+            log.error("Failed to reconcile storage usage of user {}", userId, exception);
+            return false;
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package ru.redeyed.cloudstorage.usage;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
+import java.time.Instant;
+import java.util.UUID;
+
+@Repository
+public interface StorageUsageRepository extends JpaRepository<StorageUsage, UUID> {
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(nativeQuery = true, value = """
+            insert into storage_usage (user_id, used_bytes, objects_count, updated_at)
+            values (:userId, greatest(:bytes, 0), greatest(:objects, 0), :now)
+            on conflict (user_id) do update
+            set used_bytes = greatest(storage_usage.used_bytes + :bytes, 0),
+                objects_count = greatest(storage_usage.objects_count + :objects, 0),
+                updated_at = :now
+            """)
+    int increment(@Param("userId") UUID userId, @Param("bytes") long bytes, @Param("objects") long objects,
+                  @Param("now") Instant now);
+
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query(nativeQuery = true, value = """
+            insert into storage_usage (user_id, used_bytes, objects_count, updated_at)
+            select :userId, coalesce(sum(size), 0), count(*), :now
+            from resources
+            where bucket = :bucket and path like :pathPattern escape '\\' and path <> :path
+            on conflict (user_id) do update
+            set used_bytes = excluded.used_bytes,
+                objects_count = excluded.objects_count,
+                updated_at = excluded.updated_at
+            """)
+    int recalculate(@Param("userId") UUID userId, @Param("bucket") String bucket, @Param("path") String path,
+                    @Param("pathPattern") String pathPattern, @Param("now") Instant now);
+}
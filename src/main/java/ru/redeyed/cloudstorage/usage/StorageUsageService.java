@@ -0,0 +1,118 @@
+package ru.redeyed.cloudstorage.usage;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+import ru.redeyed.cloudstorage.resource.ResourcePathUtil;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.usage.dto.StorageUsageDto;
+import ru.redeyed.cloudstorage.usage.exception.StorageQuotaExceededException;
+import java.io.InputStream;
+import java.time.Instant;
+import java.util.Optional;
+import java.util.UUID;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class StorageUsageService {
+
+    private static final String LIKE_ANY = "%";
+
+    private final StorageUsageRepository storageUsageRepository;
+
+    private final StorageUsageBuffer storageUsageBuffer;
+
+    private final StorageUsageConfigProperties properties;
+
+    public StorageUsageDto getUsage(UUID userId) {
+        var storageUsage = storageUsageRepository.findById(userId);
+        var pendingDelta = storageUsageBuffer.getPending(userId);
+
+        var usedBytes = storageUsage.map(StorageUsage::getUsedBytes).orElse(0L) + pendingDelta.bytes();
+        var objectsCount = storageUsage.map(StorageUsage::getObjectsCount).orElse(0L) + pendingDelta.objects();
+
+        var quotaBytes = Optional.ofNullable(properties.quota())
+                .map(DataSize::toBytes)
+                .orElse(null);
+
+        return new StorageUsageDto(Math.max(usedBytes, 0), Math.max(objectsCount, 0), quotaBytes);
+    }
+
+    public void checkQuota(UUID userId, long incomingBytes) {
+        if (incomingBytes > getRemainingBytes(userId)) {
+            throw new StorageQuotaExceededException();
+        }
+    }
+
+    public InputStream limitToQuota(UUID userId, long reservedBytes, InputStream inputStream) {
+        var remainingBytes = getRemainingBytes(userId) - reservedBytes;
+
+        if (remainingBytes < 0) {
+            throw new StorageQuotaExceededException();
+        }
+
+        return new QuotaLimitedInputStream(inputStream, remainingBytes);
+    }
+
+    private long getRemainingBytes(UUID userId) {
+        var usage = getUsage(userId);
+
+        return usage.quotaBytes() != null
+                ? usage.quotaBytes() - usage.usedBytes()
+                : Long.MAX_VALUE;
+    }
+
+    public void record(UUID userId, long bytes, long objects) {
+        var delta = new StorageUsageDelta(bytes, objects);
+
+        if (!delta.isEmpty()) {
+            storageUsageBuffer.add(userId, delta);
+        }
+    }
+
+    public void recalculate(UUID userId) {
+        var delta = storageUsageBuffer.drain(userId);
+        var userFilesPath = ResourcePathUtil.createUserResourcePath(userId);
+
+        try {
+            storageUsageRepository.recalculate(
+                    userId, BucketName.USER_FILES.getValue(), userFilesPath, userFilesPath + LIKE_ANY, Instant.now()
+            );
+        } catch (RuntimeException exception) {
+            if (!delta.isEmpty()) {
+                storageUsageBuffer.add(userId, delta);
+            }
+
+            throw exception;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${usage.flush-interval}")
+    public void flush() {
+        var userId = storageUsageBuffer.pollPendingUser();
+
+        while (userId.isPresent() && flush(userId.get())) {
+            userId = storageUsageBuffer.pollPendingUser();
+        }
+    }
+
+    private boolean flush(UUID userId) {
+        var delta = storageUsageBuffer.drain(userId);
+
+        if (delta.isEmpty()) {
+            return true;
+        }
+
+        try {
+            storageUsageRepository.increment(userId, delta.bytes(), delta.objects(), Instant.now());
+            return true;
+        } catch (RuntimeException exception) {
+            storageUsageBuffer.add(userId, delta);
+            log.error("Failed to flush storage usage of user {}", userId, exception);
+            return false;
+        }
+    }
+}
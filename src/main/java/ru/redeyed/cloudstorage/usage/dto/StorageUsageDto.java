@@ -0,0 +1,4 @@
+package ru.redeyed.cloudstorage.usage.dto;
+
+public record StorageUsageDto(long usedBytes, long objectsCount, Long quotaBytes) {
+}
@@ -0,0 +1,10 @@
+package ru.redeyed.cloudstorage.usage.exception;
+
+public class StorageQuotaExceededException extends RuntimeException {
+
+    private static final String MESSAGE = "Storage quota exceeded.";
+
+    public StorageQuotaExceededException() {
+        super(MESSAGE);
+    }
+}
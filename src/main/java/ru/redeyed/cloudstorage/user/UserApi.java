@@ -9,14 +9,14 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.core.userdetails.UserDetails;
+import ru.redeyed.cloudstorage.auth.UserDetailsImpl;
 import ru.redeyed.cloudstorage.exception.ErrorResponseDto;
 import ru.redeyed.cloudstorage.user.dto.UserResponseDto;
 
 @Tag(name = "User API")
 public interface UserApi {
 
-    @Operation(summary = "Get the username of authenticated user")
+    @Operation(summary = "Get the username and storage usage of authenticated user")
     @ApiResponses(value = {
             @ApiResponse(responseCode = "200", description = "OK",
                     content = @Content(
@@ -25,7 +25,12 @@ public interface UserApi {
                             examples = @ExampleObject(
                                     value = """
                                             {
-                                              "username": "user123"
+                                              "username": "user123",
+                                              "usage": {
+                                                "usedBytes": 1048576,
+                                                "objectsCount": 12,
+                                                "quotaBytes": 10737418240
+                                              }
                                             }
                                             """
                             )
@@ -60,5 +65,5 @@ public interface UserApi {
                     )
             )
     })
-    ResponseEntity<UserResponseDto> getCurrentUser(UserDetails userDetails);
+    ResponseEntity<UserResponseDto> getCurrentUser(UserDetailsImpl userDetails);
 }
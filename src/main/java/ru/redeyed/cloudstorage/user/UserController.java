@@ -1,21 +1,27 @@
 package ru.redeyed.cloudstorage.user;
 
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import ru.redeyed.cloudstorage.auth.UserDetailsImpl;
+import ru.redeyed.cloudstorage.usage.StorageUsageService;
 import ru.redeyed.cloudstorage.user.dto.UserResponseDto;
 
 @RestController
 @RequestMapping("/api/user")
+@RequiredArgsConstructor
 public class UserController implements UserApi {
 
+    private final StorageUsageService storageUsageService;
+
     @Override
     @GetMapping("/me")
-    public ResponseEntity<UserResponseDto> getCurrentUser(@AuthenticationPrincipal UserDetails userDetails) {
-        var userResponseDto = new UserResponseDto(userDetails.getUsername());
+    public ResponseEntity<UserResponseDto> getCurrentUser(@AuthenticationPrincipal UserDetailsImpl userDetails) {
+        var storageUsageDto = storageUsageService.getUsage(userDetails.getId());
+        var userResponseDto = new UserResponseDto(userDetails.getUsername(), storageUsageDto);
         return ResponseEntity.ok(userResponseDto);
     }
 }
@@ -1,7 +1,11 @@
 package ru.redeyed.cloudstorage.user;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,4 +13,7 @@ import java.util.UUID;
 public interface UserRepository extends JpaRepository<User, UUID> {
 
     Optional<User> findByUsername(String username);
+
+    @Query("select u.id from User u where u.id > :afterId order by u.id")
+    List<UUID> findIdsAfter(@Param("afterId") UUID afterId, Limit limit);
 }
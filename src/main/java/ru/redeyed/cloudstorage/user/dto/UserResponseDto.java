@@ -1,4 +1,6 @@
 package ru.redeyed.cloudstorage.user.dto;
 
-public record UserResponseDto(String username) {
+import ru.redeyed.cloudstorage.usage.dto.StorageUsageDto;
+
+public record UserResponseDto(String username, StorageUsageDto usage) {
 }
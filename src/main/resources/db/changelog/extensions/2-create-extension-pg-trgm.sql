@@ -0,0 +1,5 @@
+-- liquibase formatted sql
+
+-- changeset red-eyed:create-extension-pg-trgm
+
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
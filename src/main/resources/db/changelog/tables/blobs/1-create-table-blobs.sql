@@ -0,0 +1,13 @@
+-- liquibase formatted sql
+
+-- changeset red-eyed:create-table-blobs
+
+CREATE TABLE blobs
+(
+    hash       VARCHAR(64) PRIMARY KEY,
+    size       BIGINT                   NOT NULL,
+    ref_count  BIGINT                   NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP WITH TIME ZONE NOT NULL
+);
+
+CREATE INDEX index_blobs_unreferenced_updated_at ON blobs (updated_at) WHERE ref_count <= 0;
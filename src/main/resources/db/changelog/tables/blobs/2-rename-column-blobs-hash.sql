@@ -0,0 +1,5 @@
+-- liquibase formatted sql
+
+-- changeset red-eyed:rename-column-blobs-hash
+
+ALTER TABLE blobs RENAME COLUMN hash TO id;
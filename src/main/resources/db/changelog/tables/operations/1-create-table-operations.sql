@@ -0,0 +1,32 @@
+-- liquibase formatted sql
+
+-- changeset red-eyed:create-table-operations
+
+CREATE TABLE operations
+(
+    id                UUID PRIMARY KEY DEFAULT UUID_GENERATE_V4(),
+    user_id           UUID                      NOT NULL REFERENCES users (id) ON DELETE CASCADE,
+    type              VARCHAR(7)                NOT NULL,
+    status            VARCHAR(9)                NOT NULL,
+    source_path       VARCHAR(1024) COLLATE "C" NOT NULL,
+    target_path       VARCHAR(1024) COLLATE "C",
+    compression       VARCHAR(8),
+    total_objects     BIGINT                    NOT NULL DEFAULT 0,
+    processed_objects BIGINT                    NOT NULL DEFAULT 0,
+    message           VARCHAR(1024),
+    lease_owner       VARCHAR(36),
+    lease_expires_at  TIMESTAMP WITH TIME ZONE,
+    created_at        TIMESTAMP WITH TIME ZONE  NOT NULL,
+    updated_at        TIMESTAMP WITH TIME ZONE  NOT NULL,
+
+    CONSTRAINT check_operations_type CHECK (
+        type IN ('MOVE', 'DELETE', 'ARCHIVE')
+    ),
+
+    CONSTRAINT check_operations_status CHECK (
+        status IN ('PENDING', 'RUNNING', 'COMPLETED', 'FAILED')
+    )
+);
+
+CREATE INDEX index_operations_status_lease_expires_at ON operations (status, lease_expires_at);
+CREATE INDEX index_operations_user_id ON operations (user_id);
@@ -0,0 +1,23 @@
+-- liquibase formatted sql
+
+-- changeset red-eyed:create-table-resources
+
+CREATE TABLE resources
+(
+    id          UUID PRIMARY KEY DEFAULT UUID_GENERATE_V4(),
+    bucket      VARCHAR(63)                 NOT NULL,
+    path        VARCHAR(1024) COLLATE "C"   NOT NULL,
+    parent_path VARCHAR(1024) COLLATE "C"   NOT NULL,
+    name        VARCHAR(255) COLLATE "C"    NOT NULL,
+    size        BIGINT                      NOT NULL DEFAULT 0,
+    type        VARCHAR(9)                  NOT NULL,
+    etag        VARCHAR(64),
+
+    CONSTRAINT unique_resources_bucket_path UNIQUE (bucket, path),
+
+    CONSTRAINT check_resources_type CHECK (
+        type IN ('FILE', 'DIRECTORY')
+    )
+);
+
+CREATE INDEX index_resources_bucket_parent_path ON resources (bucket, parent_path, path);
@@ -0,0 +1,5 @@
+-- liquibase formatted sql
+
+-- changeset red-eyed:create-index-resources-name-trgm
+
+CREATE INDEX index_resources_name_trgm ON resources USING GIN (name gin_trgm_ops);
@@ -0,0 +1,10 @@
+-- liquibase formatted sql
+
+-- changeset red-eyed:add-column-resources-blob-id
+
+ALTER TABLE resources ADD COLUMN blob_id VARCHAR(64);
+
+UPDATE resources r
+SET blob_id = r.etag
+WHERE r.type = 'FILE'
+  AND EXISTS (SELECT 1 FROM blobs b WHERE b.id = r.etag);
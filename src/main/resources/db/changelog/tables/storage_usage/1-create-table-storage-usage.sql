@@ -0,0 +1,11 @@
+-- liquibase formatted sql
+
+-- changeset red-eyed:create-table-storage-usage
+
+CREATE TABLE storage_usage
+(
+    user_id       UUID PRIMARY KEY         REFERENCES users (id) ON DELETE CASCADE,
+    used_bytes    BIGINT                   NOT NULL DEFAULT 0,
+    objects_count BIGINT                   NOT NULL DEFAULT 0,
+    updated_at    TIMESTAMP WITH TIME ZONE NOT NULL
+);
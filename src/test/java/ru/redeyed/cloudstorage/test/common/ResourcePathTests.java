@@ -0,0 +1,171 @@
+package ru.redeyed.cloudstorage.test.common;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import ru.redeyed.cloudstorage.common.util.ResourcePath;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Resource path parsing")
+public class ResourcePathTests {
+
+    private static final int SEGMENT_NOT_PRESENT = -1;
+
+    @Nested
+    @DisplayName("Segments")
+    class SegmentsTests {
+
+        @Test
+        @DisplayName("Root path")
+        void shouldParseRootPath() {
+            var resourcePath = ResourcePath.of("/");
+
+            assertAll(
+                    () -> assertTrue(resourcePath.isDirectory()),
+                    () -> assertEquals(1, resourcePath.segmentsCount()),
+                    () -> assertEquals("", resourcePath.name()),
+                    () -> assertEquals("", resourcePath.parent()),
+                    () -> assertEquals("", resourcePath.rootName()),
+                    () -> assertEquals(0, resourcePath.nameIndex())
+            );
+        }
+
+        @Test
+        @DisplayName("Empty path")
+        void shouldParseEmptyPath() {
+            var resourcePath = ResourcePath.of("");
+
+            assertAll(
+                    () -> assertFalse(resourcePath.isDirectory()),
+                    () -> assertEquals(0, resourcePath.segmentsCount()),
+                    () -> assertEquals("", resourcePath.name()),
+                    () -> assertEquals("", resourcePath.parent()),
+                    () -> assertEquals("", resourcePath.rootName())
+            );
+        }
+
+        @Test
+        @DisplayName("Directory with trailing slash")
+        void shouldParseDirectoryWithTrailingSlash() {
+            var resourcePath = ResourcePath.of("docs/");
+
+            assertAll(
+                    () -> assertTrue(resourcePath.isDirectory()),
+                    () -> assertEquals(1, resourcePath.segmentsCount()),
+                    () -> assertEquals("docs", resourcePath.name()),
+                    () -> assertEquals("", resourcePath.parent()),
+                    () -> assertEquals("docs", resourcePath.rootName())
+            );
+        }
+
+        @Test
+        @DisplayName("Top-level file without trailing slash")
+        void shouldParseTopLevelFile() {
+            var resourcePath = ResourcePath.of("docs");
+
+            assertAll(
+                    () -> assertFalse(resourcePath.isDirectory()),
+                    () -> assertEquals(1, resourcePath.segmentsCount()),
+                    () -> assertEquals("docs", resourcePath.name()),
+                    () -> assertEquals("", resourcePath.parent()),
+                    () -> assertEquals("", resourcePath.rootName())
+            );
+        }
+
+        @Test
+        @DisplayName("Nested directory")
+        void shouldParseNestedDirectory() {
+            var resourcePath = ResourcePath.of("a/b/c/");
+
+            assertAll(
+                    () -> assertTrue(resourcePath.isDirectory()),
+                    () -> assertEquals(3, resourcePath.segmentsCount()),
+                    () -> assertEquals("a", resourcePath.segment(0)),
+                    () -> assertEquals("b", resourcePath.segment(1)),
+                    () -> assertEquals("c", resourcePath.segment(2)),
+                    () -> assertEquals("c", resourcePath.name()),
+                    () -> assertEquals(4, resourcePath.nameIndex()),
+                    () -> assertEquals("a/b/", resourcePath.parent()),
+                    () -> assertEquals("a", resourcePath.rootName()),
+                    () -> assertEquals("b/c/", resourcePath.subpath(1)),
+                    () -> assertEquals("b/", resourcePath.subpath(1, 2)),
+                    () -> assertEquals("", resourcePath.subpath(2, 1))
+            );
+        }
+
+        @Test
+        @DisplayName("File in nested directory")
+        void shouldParseNestedFile() {
+            var resourcePath = ResourcePath.of("a/b/c.txt");
+
+            assertAll(
+                    () -> assertFalse(resourcePath.isDirectory()),
+                    () -> assertEquals(3, resourcePath.segmentsCount()),
+                    () -> assertEquals("c.txt", resourcePath.name()),
+                    () -> assertEquals("a/b/", resourcePath.parent()),
+                    () -> assertEquals("a", resourcePath.rootName()),
+                    () -> assertEquals("b/c.txt", resourcePath.subpath(1))
+            );
+        }
+    }
+
+    @Nested
+    @DisplayName("Directory lookup")
+    class DirectoryLookupTests {
+
+        @Test
+        @DisplayName("Directory name is found on segment boundaries")
+        void shouldFindDirectory() {
+            var resourcePath = ResourcePath.of("user-1-files/folder/folder1/file.txt");
+
+            assertAll(
+                    () -> assertEquals(1, resourcePath.indexOfDirectory("folder")),
+                    () -> assertEquals("folder/folder1/file.txt", resourcePath.relativeToDirectory("folder")),
+                    () -> assertTrue(resourcePath.segmentEquals(1, "folder")),
+                    () -> assertFalse(resourcePath.segmentEquals(2, "folder"))
+            );
+        }
+
+        @Test
+        @DisplayName("Directory name inside a longer segment is not matched")
+        void shouldNotMatchDirectoryNamePrefix() {
+            var resourcePath = ResourcePath.of("a/folder1/folder2/file.txt");
+
+            assertAll(
+                    () -> assertEquals(SEGMENT_NOT_PRESENT, resourcePath.indexOfDirectory("folder")),
+                    () -> assertEquals("", resourcePath.relativeToDirectory("folder"))
+            );
+        }
+
+        @Test
+        @DisplayName("First matching directory is used")
+        void shouldFindFirstMatchingDirectory() {
+            var resourcePath = ResourcePath.of("folder/folderX/folder/file.txt");
+
+            assertAll(
+                    () -> assertEquals(0, resourcePath.indexOfDirectory("folder")),
+                    () -> assertEquals("folderX/folder/file.txt", resourcePath.subpath(1))
+            );
+        }
+
+        @Test
+        @DisplayName("File name is not treated as a directory")
+        void shouldNotMatchFileName() {
+            var resourcePath = ResourcePath.of("a/folder");
+
+            assertEquals(SEGMENT_NOT_PRESENT, resourcePath.indexOfDirectory("folder"));
+        }
+
+        @Test
+        @DisplayName("Last segment of a directory path is a directory")
+        void shouldMatchLastDirectorySegment() {
+            var resourcePath = ResourcePath.of("a/folder/");
+
+            assertEquals(1, resourcePath.indexOfDirectory("folder"));
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package ru.redeyed.cloudstorage.test.resource;
 
+import com.jayway.jsonpath.JsonPath;
 import lombok.RequiredArgsConstructor;
 import lombok.SneakyThrows;
 import org.junit.jupiter.api.AfterEach;
@@ -11,6 +12,7 @@ import org.junit.jupiter.params.provider.ArgumentsSource;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
@@ -19,6 +21,7 @@ import ru.redeyed.cloudstorage.resource.ResourcePathUtil;
 import ru.redeyed.cloudstorage.resource.ResourceType;
 import ru.redeyed.cloudstorage.s3.BucketName;
 import ru.redeyed.cloudstorage.s3.SimpleStorageService;
+import ru.redeyed.cloudstorage.s3.archive.ZipCompression;
 import ru.redeyed.cloudstorage.test.auth.session.RedisSessionManager;
 import ru.redeyed.cloudstorage.test.integration.BaseIntegrationTest;
 import ru.redeyed.cloudstorage.test.resource.argumentsprovider.ResourceAlreadyExistsArgumentsProvider;
@@ -38,22 +41,29 @@ import ru.redeyed.cloudstorage.test.user.UserTestData;
 import ru.redeyed.cloudstorage.util.ApiUtil;
 import ru.redeyed.cloudstorage.util.MockFileCreator;
 import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.IOException;
+import java.nio.charset.StandardCharsets;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.Objects;
+import java.util.zip.ZipEntry;
 import java.util.zip.ZipInputStream;
 
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 @DisplayName("Interaction with resources")
@@ -271,6 +281,71 @@ public class ResourceIntegrationTests extends BaseIntegrationTest {
                     );
         }
 
+        @ParameterizedTest
+        @DisplayName("Download file range")
+        @ArgumentsSource(DownloadFileArgumentsProvider.class)
+        void shouldDownloadFileRange(String path, byte[] expectedContent) throws Exception {
+            resourceManager.createDefaultResources();
+
+            var authSession = redisSessionManager.createAuthenticatedSession();
+            var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
+
+            var expectedContentRange = "bytes 1-%d/%d".formatted(expectedContent.length - 1, expectedContent.length);
+
+            mockMvc.perform(get(ApiUtil.DOWNLOAD_RESOURCE_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_PATH_NAME, path)
+                            .header(HttpHeaders.RANGE, "bytes=1-"))
+                    .andExpectAll(
+                            status().isPartialContent(),
+                            header().string(HttpHeaders.CONTENT_RANGE, expectedContentRange),
+                            content().bytes(Arrays.copyOfRange(expectedContent, 1, expectedContent.length))
+                    );
+        }
+
+        @ParameterizedTest
+        @DisplayName("Download file range out of bounds")
+        @ArgumentsSource(DownloadFileArgumentsProvider.class)
+        void shouldReturnRangeNotSatisfiable(String path, byte[] expectedContent) throws Exception {
+            resourceManager.createDefaultResources();
+
+            var authSession = redisSessionManager.createAuthenticatedSession();
+            var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
+
+            mockMvc.perform(get(ApiUtil.DOWNLOAD_RESOURCE_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_PATH_NAME, path)
+                            .header(HttpHeaders.RANGE, "bytes=%d-".formatted(expectedContent.length)))
+                    .andExpectAll(
+                            status().isRequestedRangeNotSatisfiable(),
+                            header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + expectedContent.length)
+                    );
+        }
+
+        @ParameterizedTest
+        @DisplayName("Download not modified file")
+        @ArgumentsSource(DownloadFileArgumentsProvider.class)
+        void shouldReturnNotModified(String path, byte[] ignore) throws Exception {
+            resourceManager.createDefaultResources();
+
+            var authSession = redisSessionManager.createAuthenticatedSession();
+            var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
+
+            var eTag = mockMvc.perform(get(ApiUtil.DOWNLOAD_RESOURCE_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_PATH_NAME, path))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getHeader(HttpHeaders.ETAG);
+
+            mockMvc.perform(get(ApiUtil.DOWNLOAD_RESOURCE_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_PATH_NAME, path)
+                            .header(HttpHeaders.IF_NONE_MATCH, Objects.requireNonNull(eTag)))
+                    .andExpect(status().isNotModified());
+        }
+
         @ParameterizedTest
         @DisplayName("Download directory")
         @ArgumentsSource(DownloadDirectoryArgumentsProvider.class)
@@ -296,6 +371,38 @@ public class ResourceIntegrationTests extends BaseIntegrationTest {
             assertZipCorrect(resultZip, resourcePaths);
         }
 
+        @Test
+        @DisplayName("Download directory without compression")
+        void shouldDownloadZipWithStoredEntries() throws Exception {
+            resourceManager.createDefaultResources();
+
+            var authSession = redisSessionManager.createAuthenticatedSession();
+            var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
+
+            var mvcResult = mockMvc.perform(get(ApiUtil.DOWNLOAD_RESOURCE_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_PATH_NAME, ResourcePaths.FOLDER_1)
+                            .queryParam(ApiUtil.REQUEST_PARAM_COMPRESSION_NAME, ZipCompression.NONE.name()))
+                    .andExpect(status().isOk())
+                    .andReturn();
+
+            mvcResult.getAsyncResult();
+
+            var resultZip = mvcResult.getResponse().getContentAsByteArray();
+
+            try (var zipInputStream = new ZipInputStream(new ByteArrayInputStream(resultZip))) {
+                var zipEntry = zipInputStream.getNextEntry();
+
+                while (zipEntry != null) {
+                    if (!zipEntry.isDirectory()) {
+                        assertEquals(ZipEntry.STORED, zipEntry.getMethod());
+                    }
+
+                    zipEntry = zipInputStream.getNextEntry();
+                }
+            }
+        }
+
         private static void assertZipCorrect(byte[] zip, List<String> resourcePaths) throws IOException {
             try (var zipInputStream = new ZipInputStream(new ByteArrayInputStream(zip))) {
                 var currentResourceNumber = 0;
@@ -575,15 +682,51 @@ public class ResourceIntegrationTests extends BaseIntegrationTest {
             var authSession = redisSessionManager.createAuthenticatedSession();
             var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
 
-            mockMvc.perform(get(ApiUtil.SEARCH_RESOURCE_URL)
+            var mvcResult = mockMvc.perform(get(ApiUtil.SEARCH_RESOURCE_URL)
                             .cookie(authSessionInfo.cookie())
                             .queryParam(ApiUtil.REQUEST_PARAM_QUERY_NAME, query))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mvcResult.getAsyncResult();
+
+            mockMvc.perform(asyncDispatch(mvcResult))
                     .andExpectAll(
                             status().isOk(),
                             content().json(expectedResponseJson)
                     );
         }
 
+        @Test
+        @DisplayName("Search resources as NDJSON")
+        void shouldFindResourcesInfoAsNdjson() throws Exception {
+            resourceManager.createDefaultResources();
+
+            var authSession = redisSessionManager.createAuthenticatedSession();
+            var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
+
+            var mvcResult = mockMvc.perform(get(ApiUtil.SEARCH_RESOURCE_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_QUERY_NAME, "file")
+                            .accept(MediaType.APPLICATION_NDJSON))
+                    .andExpect(request().asyncStarted())
+                    .andReturn();
+
+            mvcResult.getAsyncResult();
+
+            var result = mockMvc.perform(asyncDispatch(mvcResult))
+                    .andExpectAll(
+                            status().isOk(),
+                            content().contentType(MediaType.APPLICATION_NDJSON)
+                    )
+                    .andReturn();
+
+            var lines = result.getResponse().getContentAsString().lines().toList();
+
+            assertFalse(lines.isEmpty());
+            assertTrue(lines.stream().allMatch(line -> line.startsWith("{") && line.endsWith("}")));
+        }
+
         @ParameterizedTest
         @DisplayName("Invalid 'query' parameter")
         @CsvFileSource(resources = "/data/invalid-search-query-parameters.csv")
@@ -738,6 +881,109 @@ public class ResourceIntegrationTests extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("Uploading resources without buffering")
+    class StreamUploadResourceTests {
+
+        private static final String BOUNDARY = "stream-upload-boundary";
+
+        @ParameterizedTest
+        @DisplayName("Upload resources")
+        @ArgumentsSource(UploadResourcesArgumentsProvider.class)
+        @SneakyThrows
+        void shouldUploadResources(
+                String path,
+                List<MockMultipartFile> files,
+                List<String> expectedFileExistsPaths,
+                String expectedResponseJson
+        ) {
+            resourceManager.createDefaultResources();
+
+            var authSession = redisSessionManager.createAuthenticatedSession();
+            var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
+
+            mockMvc.perform(post(ApiUtil.STREAM_RESOURCE_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_PATH_NAME, path)
+                            .contentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=" + BOUNDARY)
+                            .content(toMultipartBody(files)))
+                    .andExpectAll(
+                            status().isCreated(),
+                            content().json(expectedResponseJson)
+                    );
+
+            assertResourcesExist(expectedFileExistsPaths);
+        }
+
+        @ParameterizedTest
+        @DisplayName("Resource already exists")
+        @ArgumentsSource(UploadExistingResourceArgumentsProvider.class)
+        void shouldReturnConflict(String path, List<MockMultipartFile> files) throws Exception {
+            resourceManager.createDefaultResources();
+
+            var authSession = redisSessionManager.createAuthenticatedSession();
+            var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
+
+            mockMvc.perform(post(ApiUtil.STREAM_RESOURCE_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_PATH_NAME, path)
+                            .contentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=" + BOUNDARY)
+                            .content(toMultipartBody(files)))
+                    .andExpect(status().isConflict());
+        }
+
+        @Test
+        @DisplayName("Files has different root parent folder")
+        void shouldReturnBadRequestWhenFilesHasDifferentRootParentFolder() throws Exception {
+            var firstFile = MockFileCreator.createDefault("parent-folder-1/file-1.txt");
+            var secondFile = MockFileCreator.createDefault("parent-folder-2/file-2.txt");
+
+            var authSession = redisSessionManager.createAuthenticatedSession();
+            var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
+
+            mockMvc.perform(post(ApiUtil.STREAM_RESOURCE_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_PATH_NAME, PathUtil.PATH_DELIMITER)
+                            .contentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=" + BOUNDARY)
+                            .content(toMultipartBody(List.of(firstFile, secondFile))))
+                    .andExpect(status().isBadRequest());
+        }
+
+        @ParameterizedTest
+        @DisplayName("Invalid file name or file path")
+        @CsvFileSource(resources = "/data/invalid-file-path.csv")
+        void shouldReturnBadRequestWhenFileNameOrFilePathIsInvalid(String filePath) throws Exception {
+            var file = MockFileCreator.createDefault(filePath);
+
+            var authSession = redisSessionManager.createAuthenticatedSession();
+            var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
+
+            mockMvc.perform(post(ApiUtil.STREAM_RESOURCE_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_PATH_NAME, PathUtil.PATH_DELIMITER)
+                            .contentType(MediaType.MULTIPART_FORM_DATA_VALUE + "; boundary=" + BOUNDARY)
+                            .content(toMultipartBody(List.of(file))))
+                    .andExpect(status().isBadRequest());
+        }
+
+        private static byte[] toMultipartBody(List<MockMultipartFile> files) throws IOException {
+            var body = new ByteArrayOutputStream();
+
+            for (var file : files) {
+                var partHeaders = "--%s\r\nContent-Disposition: form-data; name=\"%s\"; filename=\"%s\"\r\n\r\n"
+                        .formatted(BOUNDARY, file.getName(), file.getOriginalFilename());
+
+                body.write(partHeaders.getBytes(StandardCharsets.UTF_8));
+                body.write(file.getBytes());
+                body.write("\r\n".getBytes(StandardCharsets.UTF_8));
+            }
+
+            body.write("--%s--\r\n".formatted(BOUNDARY).getBytes(StandardCharsets.UTF_8));
+
+            return body.toByteArray();
+        }
+    }
+
     @Nested
     @DisplayName("Create empty directory")
     class CreateEmptyDirectoryTests {
@@ -863,6 +1109,64 @@ public class ResourceIntegrationTests extends BaseIntegrationTest {
                     .andExpect(content().json(expectedResponseJson));
         }
 
+        @ParameterizedTest
+        @DisplayName("Get content page by page")
+        @ValueSource(strings = {PathUtil.PATH_DELIMITER, ResourcePaths.FOLDER_1})
+        void shouldReturnDirectoryContentPages(String path) throws Exception {
+            resourceManager.createDefaultResources();
+
+            var authSession = redisSessionManager.createAuthenticatedSession();
+            var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
+
+            var contentJson = mockMvc.perform(get(ApiUtil.DIRECTORY_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_PATH_NAME, path))
+                    .andExpect(status().isOk())
+                    .andReturn()
+                    .getResponse()
+                    .getContentAsString();
+
+            List<String> expectedNames = JsonPath.read(contentJson, "$[*].name");
+
+            var pagedNames = new ArrayList<String>();
+            var cursor = (String) null;
+
+            do {
+                var request = get(ApiUtil.DIRECTORY_URL)
+                        .cookie(authSessionInfo.cookie())
+                        .queryParam(ApiUtil.REQUEST_PARAM_PATH_NAME, path)
+                        .queryParam(ApiUtil.REQUEST_PARAM_LIMIT_NAME, "1");
+
+                if (cursor != null) {
+                    request.queryParam(ApiUtil.REQUEST_PARAM_CURSOR_NAME, cursor);
+                }
+
+                var response = mockMvc.perform(request)
+                        .andExpect(status().isOk())
+                        .andReturn()
+                        .getResponse();
+
+                List<String> pageNames = JsonPath.read(response.getContentAsString(), "$[*].name");
+
+                pagedNames.addAll(pageNames);
+                cursor = response.getHeader(ApiUtil.NEXT_CURSOR_HEADER);
+            } while (cursor != null);
+
+            assertEquals(expectedNames, pagedNames);
+        }
+
+        @Test
+        @DisplayName("Invalid cursor")
+        void shouldReturnBadRequestWhenCursorInvalid() throws Exception {
+            var authSession = redisSessionManager.createAuthenticatedSession();
+            var authSessionInfo = redisSessionManager.getSessionInfo(authSession);
+
+            mockMvc.perform(get(ApiUtil.DIRECTORY_URL)
+                            .cookie(authSessionInfo.cookie())
+                            .queryParam(ApiUtil.REQUEST_PARAM_CURSOR_NAME, "Li4vb3RoZXItdXNlci8"))
+                    .andExpect(status().isBadRequest());
+        }
+
         @ParameterizedTest
         @DisplayName("Directory doesn't exist")
         @ValueSource(strings = {
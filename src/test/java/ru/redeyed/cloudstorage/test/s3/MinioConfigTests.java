@@ -0,0 +1,90 @@
+package ru.redeyed.cloudstorage.test.s3;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import okhttp3.ConnectionPool;
+import okhttp3.OkHttpClient;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.test.context.runner.ApplicationContextRunner;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.test.util.ReflectionTestUtils;
+import ru.redeyed.cloudstorage.common.concurrent.ExecutorFactory;
+import ru.redeyed.cloudstorage.s3.minio.MinioConfig;
+import ru.redeyed.cloudstorage.s3.minio.MinioConfigProperties;
+import ru.redeyed.cloudstorage.s3.trace.MinioTraceConfigProperties;
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+@DisplayName("MinIO HTTP client configuration")
+public class MinioConfigTests {
+
+    private static final String CONNECTION_POOL_DELEGATE_FIELD = "delegate";
+    private static final String MAX_IDLE_CONNECTIONS_FIELD = "maxIdleConnections";
+    private static final String KEEP_ALIVE_FIELD = "keepAliveDurationNs";
+
+    private final ApplicationContextRunner contextRunner = new ApplicationContextRunner()
+            .withInitializer(new ConfigDataApplicationContextInitializer())
+            .withUserConfiguration(MinioPropertiesConfig.class, ExecutorFactory.class, MinioConfig.class);
+
+    @Test
+    @DisplayName("Default HTTP properties reach the client")
+    void shouldApplyDefaultHttpProperties() {
+        contextRunner.run(context -> assertHttpClient(
+                context.getBean(OkHttpClient.class), 256, 256, 256, Duration.ofMinutes(5)
+        ));
+    }
+
+    @Test
+    @DisplayName("Overridden HTTP properties reach the client")
+    void shouldApplyOverriddenHttpProperties() {
+        contextRunner
+                .withPropertyValues(
+                        "minio.http.max-requests=24",
+                        "minio.http.max-requests-per-host=12",
+                        "minio.http.max-idle-connections=6",
+                        "minio.http.keep-alive=45s"
+                )
+                .run(context -> assertHttpClient(
+                        context.getBean(OkHttpClient.class), 24, 12, 6, Duration.ofSeconds(45)
+                ));
+    }
+
+    private void assertHttpClient(OkHttpClient httpClient, int expectedMaxRequests, int expectedMaxRequestsPerHost,
+                                  int expectedMaxIdleConnections, Duration expectedKeepAlive) {
+
+        var dispatcher = httpClient.dispatcher();
+        var connectionPool = httpClient.connectionPool();
+
+        var maxIdleConnections = getPoolField(connectionPool, MAX_IDLE_CONNECTIONS_FIELD);
+        var keepAliveNanos = getPoolField(connectionPool, KEEP_ALIVE_FIELD);
+
+        assertAll(
+                () -> assertEquals(expectedMaxRequests, dispatcher.getMaxRequests()),
+                () -> assertEquals(expectedMaxRequestsPerHost, dispatcher.getMaxRequestsPerHost()),
+                () -> assertEquals(expectedMaxIdleConnections, maxIdleConnections),
+                () -> assertEquals(expectedKeepAlive.toNanos(), keepAliveNanos)
+        );
+    }
+
+    private Object getPoolField(ConnectionPool connectionPool, String fieldName) {
+        var realConnectionPool = ReflectionTestUtils.getField(connectionPool, CONNECTION_POOL_DELEGATE_FIELD);
+
+        return ReflectionTestUtils.getField(realConnectionPool, fieldName);
+    }
+
+    @Configuration
+    @EnableConfigurationProperties({MinioConfigProperties.class, MinioTraceConfigProperties.class})
+    static class MinioPropertiesConfig {
+
+        @Bean
+        public MeterRegistry meterRegistry() {
+            return new SimpleMeterRegistry();
+        }
+    }
+}
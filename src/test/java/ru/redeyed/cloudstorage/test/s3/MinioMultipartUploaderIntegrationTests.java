@@ -0,0 +1,160 @@
+package ru.redeyed.cloudstorage.test.s3;
+
+import io.minio.GetObjectArgs;
+import io.minio.MinioAsyncClient;
+import io.minio.MinioClient;
+import io.minio.RemoveObjectArgs;
+import io.minio.StatObjectArgs;
+import lombok.RequiredArgsConstructor;
+import lombok.SneakyThrows;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+import ru.redeyed.cloudstorage.s3.BucketName;
+import ru.redeyed.cloudstorage.s3.minio.MinioMultipartUploader;
+import ru.redeyed.cloudstorage.s3.upload.UploadConfigProperties;
+import ru.redeyed.cloudstorage.test.integration.BaseIntegrationTest;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.time.Duration;
+import java.util.Random;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@DisplayName("Multipart upload to MinIO")
+@RequiredArgsConstructor
+public class MinioMultipartUploaderIntegrationTests extends BaseIntegrationTest {
+
+    private static final BucketName BUCKET_NAME = BucketName.USER_FILES;
+
+    private static final int PART_SIZE = (int) DataSize.ofMegabytes(5).toBytes();
+
+    private static final long RANDOM_SEED = 42;
+
+    private static final String FAILED_READ_MESSAGE = "Stream failed while reading part";
+
+    private final MinioClient minioClient;
+
+    private final MinioAsyncClient minioAsyncClient;
+
+    private MinioMultipartUploader multipartUploader;
+
+    private String objectPath;
+
+    @BeforeEach
+    void createUploader() {
+        var multipartProperties = new UploadConfigProperties.MultipartProperties(
+                true, DataSize.ofBytes(0), DataSize.ofBytes(PART_SIZE), 2, DataSize.ofBytes(4L * PART_SIZE)
+        );
+
+        var uploadConfigProperties = new UploadConfigProperties(4, 2, Duration.ofMinutes(1), multipartProperties);
+
+        multipartUploader = new MinioMultipartUploader(minioClient, minioAsyncClient, uploadConfigProperties);
+        objectPath = "multipart-upload-test/" + UUID.randomUUID() + ".bin";
+    }
+
+    @AfterEach
+    @SneakyThrows
+    void removeObject() {
+        minioClient.removeObject(RemoveObjectArgs.builder()
+                .bucket(BUCKET_NAME.getValue())
+                .object(objectPath)
+                .build()
+        );
+    }
+
+    @Test
+    @DisplayName("Object larger than part size is uploaded in parts")
+    void shouldUploadObjectInParts() throws Exception {
+        var content = createContent(2 * PART_SIZE + 1024);
+
+        multipartUploader.upload(BUCKET_NAME, objectPath, new ByteArrayInputStream(content));
+
+        var objectStat = minioClient.statObject(getStatObjectArgs());
+
+        assertAll(
+                () -> assertEquals(content.length, objectStat.size()),
+                () -> assertTrue(objectStat.etag().endsWith("-3")),
+                () -> assertArrayEquals(content, readObject())
+        );
+    }
+
+    @Test
+    @DisplayName("Object smaller than part size is uploaded with a single put")
+    void shouldUploadSmallObjectWithSinglePut() throws Exception {
+        var content = createContent(PART_SIZE - 1);
+
+        multipartUploader.upload(BUCKET_NAME, objectPath, new ByteArrayInputStream(content));
+
+        var objectStat = minioClient.statObject(getStatObjectArgs());
+
+        assertAll(
+                () -> assertEquals(content.length, objectStat.size()),
+                () -> assertFalse(objectStat.etag().contains("-")),
+                () -> assertArrayEquals(content, readObject())
+        );
+    }
+
+    @Test
+    @DisplayName("Failed stream leaves no incomplete multipart upload")
+    void shouldAbortUploadWhenStreamFails() throws Exception {
+        var inputStream = new SequenceInputStream(
+                new ByteArrayInputStream(createContent(PART_SIZE + PART_SIZE / 2)),
+                new FailingInputStream()
+        );
+
+        var exception = assertThrows(IOException.class,
+                () -> multipartUploader.upload(BUCKET_NAME, objectPath, inputStream));
+
+        var incompleteUploads = minioAsyncClient.listMultipartUploadsAsync(
+                BUCKET_NAME.getValue(), null, null, null, null, null, objectPath, null, null, null
+        ).get().result().uploads();
+
+        assertAll(
+                () -> assertEquals(FAILED_READ_MESSAGE, exception.getMessage()),
+                () -> assertTrue(incompleteUploads.isEmpty())
+        );
+    }
+
+    private byte[] createContent(int size) {
+        var content = new byte[size];
+        new Random(RANDOM_SEED).nextBytes(content);
+
+        return content;
+    }
+
+    private byte[] readObject() throws Exception {
+        try (var inputStream = minioClient.getObject(GetObjectArgs.builder()
+                .bucket(BUCKET_NAME.getValue())
+                .object(objectPath)
+                .build())) {
+
+            return inputStream.readAllBytes();
+        }
+    }
+
+    private StatObjectArgs getStatObjectArgs() {
+        return StatObjectArgs.builder()
+                .bucket(BUCKET_NAME.getValue())
+                .object(objectPath)
+                .build();
+    }
+
+    private static class FailingInputStream extends InputStream {
+
+        @Override
+        public int read() throws IOException {
+            throw new IOException(FAILED_READ_MESSAGE);
+        }
+    }
+}
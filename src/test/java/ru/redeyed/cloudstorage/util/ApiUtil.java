@@ -10,6 +10,7 @@ public class ApiUtil {
     public static final String SIGN_OUT_URL = "/api/auth/sign-out";
 
     public static final String RESOURCE_URL = "/api/resource";
+    public static final String STREAM_RESOURCE_URL = "/api/resource/stream";
     public static final String DOWNLOAD_RESOURCE_URL = "/api/resource/download";
     public static final String MOVE_RESOURCE_URL = "/api/resource/move";
     public static final String SEARCH_RESOURCE_URL = "/api/resource/search";
@@ -20,6 +21,11 @@ public class ApiUtil {
     public static final String REQUEST_PARAM_FROM_PATH_NAME = "from";
     public static final String REQUEST_PARAM_TO_PATH_NAME = "to";
     public static final String REQUEST_PARAM_QUERY_NAME = "query";
+    public static final String REQUEST_PARAM_COMPRESSION_NAME = "compression";
+    public static final String REQUEST_PARAM_LIMIT_NAME = "limit";
+    public static final String REQUEST_PARAM_CURSOR_NAME = "cursor";
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
 
     public static final String REQUEST_PART_FILES_NAME = "files";
 }
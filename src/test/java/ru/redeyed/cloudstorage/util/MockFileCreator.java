@@ -20,8 +20,8 @@ public class MockFileCreator {
         var fileExtension = FileExtension.fromString(fileExtensionString);
 
         var content = switch (fileExtension) {
-            case UNDEFINED -> DEFAULT_CONTENT;
             case TXT -> DEFAULT_TEXT_CONTENT;
+            default -> DEFAULT_CONTENT;
         };
 
         return createFile(filePath, content);
@@ -32,8 +32,8 @@ public class MockFileCreator {
         var fileExtension = FileExtension.fromString(fileExtensionString);
 
         return switch (fileExtension) {
-            case UNDEFINED -> createUndefinedFile(filePath, content);
             case TXT -> createTextFile(filePath, content);
+            default -> createUndefinedFile(filePath, content);
         };
     }
 